@@ -0,0 +1,29 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.coupon.CouponFacade;
+import com.commerce.application.coupon.CouponResult;
+import com.commerce.common.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자 - 쿠폰", description = "관리자 쿠폰 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/coupons")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminCouponController {
+
+    private final CouponFacade couponFacade;
+
+    @Operation(summary = "선착순 쿠폰 생성", description = "발급 수량과 기간이 정해진 선착순 쿠폰을 생성합니다.")
+    @PostMapping
+    public ResponseEntity<CommonResponse<CouponResponse>> createCoupon(@Valid @RequestBody CouponCreateRequest request) {
+        CouponResult result = couponFacade.createCoupon(request.toCommand());
+        return ResponseEntity.ok(CommonResponse.success(CouponResponse.from(result)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.order.OrderExportFacade;
+import com.commerce.application.order.OrderExportFormat;
+import com.commerce.application.order.OrderFacade;
+import com.commerce.common.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Tag(name = "관리자 - 주문", description = "관리자 주문 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/orders")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminOrderController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final OrderFacade orderFacade;
+    private final OrderExportFacade orderExportFacade;
+
+    @Operation(summary = "주문 상태 일괄 변경",
+            description = "현재 상태가 from 인 주문만 to 로 변경하고 주문별 결과를 반환합니다. 취소(CANCELLED)는 일괄 변경할 수 없습니다.")
+    @PatchMapping("/status")
+    public ResponseEntity<CommonResponse<OrderStatusTransitionResponse>> transitionStatus(
+            @Valid @RequestBody OrderStatusTransitionRequest request
+    ) {
+        OrderStatusTransitionResponse response = OrderStatusTransitionResponse.from(
+                orderFacade.transitionStatus(request.orderIds(), request.from(), request.to()));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "주문 내보내기",
+            description = "기간 내 주문을 gzip 압축된 CSV(주문상품 단위) 또는 JSONL(주문 단위)로 내려받습니다. 기간은 생성 시각 기준 [from, to) 입니다.")
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response
+    ) throws IOException {
+        String filename = "orders-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.extension() + ".gz";
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        try {
+            orderExportFacade.exportOrders(format, from, to, response.getOutputStream());
+        } catch (IOException | RuntimeException e) {
+            // 아직 보내지 않았으면 gzip 헤더를 지우고 오류 응답으로, 이미 보냈으면 응답을 끝맺지 않고 끊는다
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+}
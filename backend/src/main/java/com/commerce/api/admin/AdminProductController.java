@@ -0,0 +1,53 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.product.ProductFacade;
+import com.commerce.application.product.StockShardResult;
+import com.commerce.common.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자 - 상품", description = "관리자 상품 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/products")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminProductController {
+
+    private final ProductFacade productFacade;
+
+    @Operation(summary = "재고 샤드 조회", description = "상품의 재고 샤드 현황을 조회합니다.")
+    @GetMapping("/{productId}/stock-shards")
+    public ResponseEntity<CommonResponse<StockShardResponse>> getStockShards(@PathVariable Long productId) {
+        StockShardResult result = productFacade.getStockShards(productId);
+        return ResponseEntity.ok(CommonResponse.success(StockShardResponse.from(result)));
+    }
+
+    @Operation(summary = "재고 샤딩 설정", description = "상품 재고를 지정한 수의 샤드로 나눕니다. 이미 샤딩된 경우 샤드 수를 변경합니다.")
+    @PutMapping("/{productId}/stock-shards")
+    public ResponseEntity<CommonResponse<StockShardResponse>> enableStockSharding(
+            @PathVariable Long productId,
+            @Valid @RequestBody StockShardRequest request
+    ) {
+        StockShardResult result = productFacade.enableStockSharding(productId, request.shardCount());
+        return ResponseEntity.ok(CommonResponse.success(StockShardResponse.from(result)));
+    }
+
+    @Operation(summary = "재고 샤드 재분배", description = "샤드 간 재고를 균등하게 재분배합니다.")
+    @PostMapping("/{productId}/stock-shards/rebalance")
+    public ResponseEntity<CommonResponse<StockShardResponse>> rebalanceStockShards(@PathVariable Long productId) {
+        StockShardResult result = productFacade.rebalanceStockShards(productId);
+        return ResponseEntity.ok(CommonResponse.success(StockShardResponse.from(result)));
+    }
+
+    @Operation(summary = "재고 샤딩 해제", description = "샤드 재고를 합산해 상품 재고로 되돌립니다.")
+    @DeleteMapping("/{productId}/stock-shards")
+    public ResponseEntity<CommonResponse<StockShardResponse>> disableStockSharding(@PathVariable Long productId) {
+        StockShardResult result = productFacade.disableStockSharding(productId);
+        return ResponseEntity.ok(CommonResponse.success(StockShardResponse.from(result)));
+    }
+}
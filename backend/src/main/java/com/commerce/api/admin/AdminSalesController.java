@@ -0,0 +1,70 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.sales.SalesAnalyticsFacade;
+import com.commerce.common.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "관리자 - 매출", description = "관리자 매출 분석 API")
+@RestController
+@RequestMapping("/api/v1/admin/sales")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+    private final SalesAnalyticsFacade salesAnalyticsFacade;
+
+    @Operation(summary = "일자별 매출", description = "주문 생성일 기준 일자별 매출 집계를 조회합니다.")
+    @GetMapping("/daily")
+    public ResponseEntity<CommonResponse<List<DailySalesResponse>>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<DailySalesResponse> response = salesAnalyticsFacade.getDailySales(from, to).stream()
+                .map(DailySalesResponse::from)
+                .toList();
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "상품별 매출 순위", description = "기간 내 순매출 상위 상품을 조회합니다.")
+    @GetMapping("/products")
+    public ResponseEntity<CommonResponse<List<ProductSalesResponse>>> getTopProductSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<ProductSalesResponse> response = salesAnalyticsFacade.getTopProductSales(from, to, limit).stream()
+                .map(ProductSalesResponse::from)
+                .toList();
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "카테고리별 매출", description = "기간 내 카테고리별 매출 합계를 조회합니다.")
+    @GetMapping("/categories")
+    public ResponseEntity<CommonResponse<List<CategorySalesResponse>>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<CategorySalesResponse> response = salesAnalyticsFacade.getCategorySales(from, to).stream()
+                .map(CategorySalesResponse::from)
+                .toList();
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "매출 집계 재생성", description = "기간 내 집계를 주문 원본으로 하루 단위 병렬 재생성합니다.")
+    @PostMapping("/backfill")
+    public ResponseEntity<CommonResponse<SalesBackfillResponse>> backfill(@Valid @RequestBody SalesBackfillRequest request) {
+        SalesBackfillResponse response = SalesBackfillResponse.from(
+                salesAnalyticsFacade.backfill(request.from(), request.to()));
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+}
@@ -0,0 +1,38 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.waiting.WaitingRoomFacade;
+import com.commerce.common.response.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자 - 대기열", description = "관리자 세일 대기열 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/waiting-room")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminWaitingRoomController {
+
+    private final WaitingRoomFacade waitingRoomFacade;
+
+    @Operation(summary = "대기열 시작", description = "세일 대기열을 열고 초당 입장 인원과 세일 상품을 설정합니다. 세일 상품이 담긴 주문에는 입장 토큰이 필요합니다.")
+    @PutMapping("/{saleId}")
+    public ResponseEntity<CommonResponse<Void>> openSale(
+            @PathVariable String saleId,
+            @Valid @RequestBody WaitingRoomOpenRequest request
+    ) {
+        waitingRoomFacade.openSale(saleId, request.admitsPerSecond(), request.productIds());
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    @Operation(summary = "대기열 종료", description = "세일 대기열을 닫고 대기 중인 사용자를 정리합니다.")
+    @DeleteMapping("/{saleId}")
+    public ResponseEntity<CommonResponse<Void>> closeSale(@PathVariable String saleId) {
+        waitingRoomFacade.closeSale(saleId);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+}
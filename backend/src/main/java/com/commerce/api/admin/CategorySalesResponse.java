@@ -0,0 +1,12 @@
+package com.commerce.api.admin;
+
+import com.commerce.domain.sales.CategorySales;
+
+public record CategorySalesResponse(
+        Long categoryId,
+        SalesMetricsResponse metrics
+) {
+    public static CategorySalesResponse from(CategorySales sales) {
+        return new CategorySalesResponse(sales.categoryId(), SalesMetricsResponse.from(sales.metrics()));
+    }
+}
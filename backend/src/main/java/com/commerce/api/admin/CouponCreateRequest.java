@@ -0,0 +1,44 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.coupon.CouponCommand;
+import com.commerce.domain.coupon.DiscountType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record CouponCreateRequest(
+        @NotBlank(message = "쿠폰 이름은 필수입니다.")
+        String name,
+
+        @NotNull(message = "할인 유형은 필수입니다.")
+        DiscountType discountType,
+
+        @NotNull(message = "할인 값은 필수입니다.")
+        @Min(value = 1, message = "할인 값은 1 이상이어야 합니다.")
+        Long discountValue,
+
+        Long maxDiscountAmount,
+
+        @Min(value = 0, message = "최소 주문 금액은 0 이상이어야 합니다.")
+        Long minOrderAmount,
+
+        @NotNull(message = "발급 수량은 필수입니다.")
+        @Min(value = 1, message = "발급 수량은 1 이상이어야 합니다.")
+        Long totalQuantity,
+
+        @NotNull(message = "발급 시작 시각은 필수입니다.")
+        LocalDateTime issueStartAt,
+
+        @NotNull(message = "발급 종료 시각은 필수입니다.")
+        LocalDateTime issueEndAt,
+
+        @NotNull(message = "사용 기한은 필수입니다.")
+        LocalDateTime expiresAt
+) {
+    public CouponCommand toCommand() {
+        return new CouponCommand(name, discountType, discountValue, maxDiscountAmount, minOrderAmount,
+                totalQuantity, issueStartAt, issueEndAt, expiresAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.coupon.CouponResult;
+import com.commerce.domain.coupon.DiscountType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record CouponResponse(
+        Long id,
+        String name,
+        DiscountType discountType,
+        Long discountValue,
+        Long maxDiscountAmount,
+        Long minOrderAmount,
+        Long totalQuantity,
+        LocalDateTime issueStartAt,
+        LocalDateTime issueEndAt,
+        LocalDateTime expiresAt
+) {
+    public static CouponResponse from(CouponResult result) {
+        return CouponResponse.builder()
+                .id(result.id())
+                .name(result.name())
+                .discountType(result.discountType())
+                .discountValue(result.discountValue())
+                .maxDiscountAmount(result.maxDiscountAmount())
+                .minOrderAmount(result.minOrderAmount())
+                .totalQuantity(result.totalQuantity())
+                .issueStartAt(result.issueStartAt())
+                .issueEndAt(result.issueEndAt())
+                .expiresAt(result.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.commerce.api.admin;
+
+import com.commerce.domain.sales.DailySales;
+
+import java.time.LocalDate;
+
+public record DailySalesResponse(
+        LocalDate salesDate,
+        SalesMetricsResponse metrics
+) {
+    public static DailySalesResponse from(DailySales sales) {
+        return new DailySalesResponse(sales.salesDate(), SalesMetricsResponse.from(sales.metrics()));
+    }
+}
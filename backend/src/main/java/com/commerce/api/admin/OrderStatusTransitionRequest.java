@@ -0,0 +1,21 @@
+package com.commerce.api.admin;
+
+import com.commerce.domain.order.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record OrderStatusTransitionRequest(
+        @NotEmpty(message = "주문 ID 목록은 필수입니다.")
+        @Size(max = 10000, message = "한 번에 최대 10000건까지 변경할 수 있습니다.")
+        List<@NotNull Long> orderIds,
+
+        @NotNull(message = "현재 상태는 필수입니다.")
+        OrderStatus from,
+
+        @NotNull(message = "변경할 상태는 필수입니다.")
+        OrderStatus to
+) {
+}
@@ -0,0 +1,35 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.order.OrderStatusTransitionResult;
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderStatusTransition;
+
+import java.util.List;
+
+public record OrderStatusTransitionResponse(
+        OrderStatus from,
+        OrderStatus to,
+        int transitionedCount,
+        List<Long> transitioned,
+        List<Rejected> rejected
+) {
+
+    public static OrderStatusTransitionResponse from(OrderStatusTransitionResult result) {
+        return new OrderStatusTransitionResponse(
+                result.from(),
+                result.to(),
+                result.transitioned().size(),
+                result.transitioned(),
+                result.rejected().stream()
+                        .map(r -> new Rejected(r.orderId(), r.reason(), r.currentStatus()))
+                        .toList()
+        );
+    }
+
+    public record Rejected(
+            Long orderId,
+            OrderStatusTransition.Outcome reason,
+            OrderStatus currentStatus
+    ) {
+    }
+}
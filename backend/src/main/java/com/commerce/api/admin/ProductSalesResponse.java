@@ -0,0 +1,12 @@
+package com.commerce.api.admin;
+
+import com.commerce.domain.sales.ProductSales;
+
+public record ProductSalesResponse(
+        Long productId,
+        SalesMetricsResponse metrics
+) {
+    public static ProductSalesResponse from(ProductSales sales) {
+        return new ProductSalesResponse(sales.productId(), SalesMetricsResponse.from(sales.metrics()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.commerce.api.admin;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record SalesBackfillRequest(
+        @NotNull(message = "시작일은 필수입니다.")
+        LocalDate from,
+
+        @NotNull(message = "종료일은 필수입니다.")
+        LocalDate to
+) {
+}
@@ -0,0 +1,17 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.sales.SalesBackfillResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SalesBackfillResponse(
+        LocalDate from,
+        LocalDate to,
+        Integer rebuiltDays,
+        List<LocalDate> failedDays
+) {
+    public static SalesBackfillResponse from(SalesBackfillResult result) {
+        return new SalesBackfillResponse(result.from(), result.to(), result.rebuiltDays(), result.failedDays());
+    }
+}
@@ -0,0 +1,27 @@
+package com.commerce.api.admin;
+
+import com.commerce.domain.sales.SalesMetrics;
+
+public record SalesMetricsResponse(
+        Long orderCount,
+        Long units,
+        Long grossAmount,
+        Long discountAmount,
+        Long cancelledCount,
+        Long cancelledUnits,
+        Long cancelledAmount,
+        Long netAmount
+) {
+    public static SalesMetricsResponse from(SalesMetrics metrics) {
+        return new SalesMetricsResponse(
+                metrics.orderCount(),
+                metrics.units(),
+                metrics.grossAmount(),
+                metrics.discountAmount(),
+                metrics.cancelledCount(),
+                metrics.cancelledUnits(),
+                metrics.cancelledAmount(),
+                metrics.netAmount()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.api.admin;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record StockShardRequest(
+        @NotNull(message = "샤드 수는 필수입니다.")
+        @Min(value = 2, message = "샤드 수는 2 이상이어야 합니다.")
+        @Max(value = 64, message = "샤드 수는 64 이하여야 합니다.")
+        Integer shardCount
+) {
+}
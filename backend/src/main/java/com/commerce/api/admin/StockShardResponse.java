@@ -0,0 +1,29 @@
+package com.commerce.api.admin;
+
+import com.commerce.application.product.StockShardResult;
+
+import java.util.List;
+
+public record StockShardResponse(
+        Long productId,
+        Long totalStock,
+        Integer shardCount,
+        List<ShardResponse> shards
+) {
+    public static StockShardResponse from(StockShardResult result) {
+        return new StockShardResponse(
+                result.productId(),
+                result.totalStock(),
+                result.shardCount(),
+                result.shards().stream()
+                        .map(shard -> new ShardResponse(shard.shardNo(), shard.stock()))
+                        .toList()
+        );
+    }
+
+    public record ShardResponse(
+            Integer shardNo,
+            Long stock
+    ) {
+    }
+}
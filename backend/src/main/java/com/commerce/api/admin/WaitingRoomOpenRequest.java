@@ -0,0 +1,16 @@
+package com.commerce.api.admin;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record WaitingRoomOpenRequest(
+        @NotNull(message = "초당 입장 인원은 필수입니다.")
+        @Min(value = 1, message = "초당 입장 인원은 1 이상이어야 합니다.")
+        Integer admitsPerSecond,
+
+        @NotEmpty(message = "세일 상품은 1개 이상이어야 합니다.")
+        List<Long> productIds
+) {
+}
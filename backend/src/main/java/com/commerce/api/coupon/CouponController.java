@@ -0,0 +1,53 @@
+package com.commerce.api.coupon;
+
+import com.commerce.application.coupon.CouponFacade;
+import com.commerce.common.response.CommonResponse;
+import com.commerce.config.security.JwtTokenProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "쿠폰", description = "쿠폰 관련 API")
+@RestController
+@RequestMapping("/api/v1/coupons")
+@RequiredArgsConstructor
+public class CouponController {
+
+    private final CouponFacade couponFacade;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private Long getUserIdFromRequest(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtTokenProvider.getUserId(token);
+        }
+        throw new RuntimeException("Invalid token");
+    }
+
+    @Operation(summary = "선착순 쿠폰 발급", description = "쿠폰을 발급받습니다. 수량이 소진되었거나 이미 발급받은 경우 실패합니다.")
+    @PostMapping("/{couponId}/issue")
+    public ResponseEntity<CommonResponse<Void>> issueCoupon(
+            HttpServletRequest request,
+            @PathVariable Long couponId
+    ) {
+        Long userId = getUserIdFromRequest(request);
+        couponFacade.issueCoupon(userId, couponId);
+        return ResponseEntity.ok(CommonResponse.success(null));
+    }
+
+    @Operation(summary = "내 쿠폰 조회", description = "발급받은 쿠폰 목록을 조회합니다. 방금 발급된 쿠폰은 잠시 후 조회될 수 있습니다.")
+    @GetMapping("/me")
+    public ResponseEntity<CommonResponse<List<UserCouponResponse>>> getMyCoupons(HttpServletRequest request) {
+        Long userId = getUserIdFromRequest(request);
+        List<UserCouponResponse> response = couponFacade.getUserCoupons(userId).stream()
+                .map(UserCouponResponse::from)
+                .toList();
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+}
@@ -0,0 +1,28 @@
+package com.commerce.api.coupon;
+
+import com.commerce.application.coupon.UserCouponResult;
+import com.commerce.domain.coupon.UserCouponStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record UserCouponResponse(
+        Long id,
+        Long couponId,
+        UserCouponStatus status,
+        Long orderId,
+        LocalDateTime issuedAt,
+        LocalDateTime usedAt
+) {
+    public static UserCouponResponse from(UserCouponResult result) {
+        return UserCouponResponse.builder()
+                .id(result.id())
+                .couponId(result.couponId())
+                .status(result.status())
+                .orderId(result.orderId())
+                .issuedAt(result.issuedAt())
+                .usedAt(result.usedAt())
+                .build();
+    }
+}
@@ -2,19 +2,25 @@ package com.commerce.api.order;
 
 import com.commerce.application.order.OrderFacade;
 import com.commerce.application.order.OrderResult;
+import com.commerce.application.order.OrderSummaryResult;
+import com.commerce.application.order.OrderTicketResult;
+import com.commerce.application.waiting.WaitingRoomFacade;
+import com.commerce.common.pagination.CursorPage;
 import com.commerce.common.response.CommonResponse;
 import com.commerce.common.response.ResponseCode;
+import com.commerce.config.security.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,13 +28,39 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class OrderController {
 
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
     private final OrderFacade orderFacade;
+    private final WaitingRoomFacade waitingRoomFacade;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private Long getUserIdFromRequest(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtTokenProvider.getUserId(token);
+        }
+        throw new RuntimeException("Invalid token");
+    }
 
+    // 입장 토큰 주인 확인용 (인증 헤더가 없으면 null 이고, 세일 상품 주문이면 토큰 검사에서 거절된다)
+    private Long findUserIdFromRequest(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        return token != null && token.startsWith("Bearer ") ? jwtTokenProvider.getUserId(token.substring(7)) : null;
+    }
+
+    /**
+     * 주문 생성
+     * 진행 중인 세일의 상품이 담겨 있으면 대기열을 통과해 받은 입장 토큰(X-Admission-Token)이 필요하다.
+     */
     @PostMapping
-    public ResponseEntity<CommonResponse<OrderResponse>> createOrder(@Valid @RequestBody OrderRequest request) {
-        // 실제 구현에서는 장바구니에서 상품 정보를 가져와야 함
-        // 여기서는 임시로 빈 리스트 전달
-        OrderResult orderResult = orderFacade.createOrder(request.toCommand(), java.util.List.of());
+    public ResponseEntity<CommonResponse<OrderResponse>> createOrder(
+        HttpServletRequest httpRequest,
+        @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+        @Valid @RequestBody OrderRequest request
+    ) {
+        OrderResult orderResult = waitingRoomFacade.runWithAdmission(admissionToken, findUserIdFromRequest(httpRequest),
+            request.productIds(), () -> orderFacade.createOrder(request.toCommand()));
 
         CommonResponse<OrderResponse> response = CommonResponse.success(
             ResponseCode.SUCCESS,
@@ -38,18 +70,72 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 비동기 주문 접수 (202 Accepted + 티켓)
+     * 결과는 GET /api/v1/orders/tickets/{ticketId} 로 조회한다.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<CommonResponse<OrderTicketResponse>> submitOrder(
+        HttpServletRequest httpRequest,
+        @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+        @Valid @RequestBody OrderRequest request
+    ) {
+        OrderTicketResult ticket = waitingRoomFacade.runWithAdmission(admissionToken, findUserIdFromRequest(httpRequest),
+            request.productIds(), () -> orderFacade.submitOrder(request.toCommand()));
+
+        CommonResponse<OrderTicketResponse> response = CommonResponse.success(
+            ResponseCode.SUCCESS,
+            OrderTicketResponse.from(ticket)
+        );
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<CommonResponse<OrderTicketResponse>> getOrderTicket(
+        HttpServletRequest request,
+        @PathVariable String ticketId
+    ) {
+        Long userId = getUserIdFromRequest(request);
+        OrderTicketResult ticket = orderFacade.getTicket(userId, ticketId);
+
+        CommonResponse<OrderTicketResponse> response = CommonResponse.success(
+            ResponseCode.SUCCESS,
+            OrderTicketResponse.from(ticket)
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
-    public ResponseEntity<CommonResponse<List<OrderResponse>>> getMyOrders(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
-        List<OrderResult> orderResults = orderFacade.getOrdersByUserId(userId);
+    public ResponseEntity<CommonResponse<CursorPage<OrderSummaryResponse>>> getMyOrders(
+        HttpServletRequest request,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = getUserIdFromRequest(request);
+        CursorPage<OrderSummaryResponse> orders = orderFacade.getOrdersByUserId(userId, cursor, size)
+            .map(OrderSummaryResponse::from);
+
+        CommonResponse<CursorPage<OrderSummaryResponse>> response = CommonResponse.success(
+            ResponseCode.SUCCESS,
+            orders
+        );
+
+        return ResponseEntity.ok(response);
+    }
 
-        List<OrderResponse> responses = orderResults.stream()
-            .map(OrderResponse::from)
-            .collect(Collectors.toList());
+    @GetMapping("/{orderId}")
+    public ResponseEntity<CommonResponse<OrderSummaryResponse>> getMyOrder(
+        HttpServletRequest request,
+        @PathVariable Long orderId
+    ) {
+        Long userId = getUserIdFromRequest(request);
+        OrderSummaryResult result = orderFacade.getOrder(userId, orderId);
 
-        CommonResponse<List<OrderResponse>> response = CommonResponse.success(
+        CommonResponse<OrderSummaryResponse> response = CommonResponse.success(
             ResponseCode.SUCCESS,
-            responses
+            OrderSummaryResponse.from(result)
         );
 
         return ResponseEntity.ok(response);
@@ -36,6 +36,12 @@ public class OrderRequest {
         private Long quantity;
     }
 
+    public List<Long> productIds() {
+        return orderItems.stream()
+            .map(OrderItem::getProductId)
+            .toList();
+    }
+
     public OrderCommand toCommand() {
         List<OrderProduct> orderProducts = orderItems.stream()
             .map(item -> new OrderCommand.OrderProduct(item.getProductId(), item.getQuantity()))
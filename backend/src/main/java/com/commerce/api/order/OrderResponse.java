@@ -34,6 +34,7 @@ public record OrderResponse(
         Long id,
         Long productId,
         Long quantity,
+        Long unitPrice,
         Long amount
     ) {
         public static OrderItemResponse from(OrderResult.OrderItemResult item) {
@@ -41,6 +42,7 @@ public record OrderResponse(
                 item.id(),
                 item.productId(),
                 item.quantity(),
+                item.unitPrice(),
                 item.amount()
             );
         }
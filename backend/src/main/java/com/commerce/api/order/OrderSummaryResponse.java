@@ -0,0 +1,51 @@
+package com.commerce.api.order;
+
+import com.commerce.application.order.OrderSummaryResult;
+import com.commerce.domain.order.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderSummaryResponse(
+    Long orderId,
+    Long userId,
+    OrderStatus status,
+    Long totalAmount,
+    Integer itemCount,
+    LocalDateTime createdAt,
+    List<OrderSummaryItemResponse> items
+) {
+
+    public static OrderSummaryResponse from(OrderSummaryResult dto) {
+        return new OrderSummaryResponse(
+            dto.orderId(),
+            dto.userId(),
+            dto.status(),
+            dto.totalAmount(),
+            dto.itemCount(),
+            dto.createdAt(),
+            dto.items().stream()
+                .map(OrderSummaryItemResponse::from)
+                .toList()
+        );
+    }
+
+    public record OrderSummaryItemResponse(
+        Long id,
+        Long productId,
+        String productName,
+        String imageUrl,
+        Long quantity,
+        Long amount
+    ) {
+        public static OrderSummaryItemResponse from(OrderSummaryResult.OrderSummaryItemResult item) {
+            return new OrderSummaryItemResponse(
+                item.id(),
+                item.productId(),
+                item.productName(),
+                item.imageUrl(),
+                item.quantity(),
+                item.amount()
+            );
+        }
+    }
+}
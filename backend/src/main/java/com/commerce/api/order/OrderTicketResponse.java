@@ -0,0 +1,23 @@
+package com.commerce.api.order;
+
+import com.commerce.application.order.OrderTicketResult;
+import com.commerce.domain.order.OrderTicketStatus;
+
+public record OrderTicketResponse(
+    String ticketId,
+    OrderTicketStatus status,
+    Long orderId,
+    String errorCode,
+    String message
+) {
+
+    public static OrderTicketResponse from(OrderTicketResult result) {
+        return new OrderTicketResponse(
+            result.ticketId(),
+            result.status(),
+            result.orderId(),
+            result.errorCode(),
+            result.message()
+        );
+    }
+}
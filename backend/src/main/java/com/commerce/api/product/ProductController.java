@@ -3,8 +3,13 @@ package com.commerce.api.product;
 import com.commerce.application.product.ProductCommand;
 import com.commerce.application.product.ProductFacade;
 import com.commerce.application.product.ProductResult;
+import com.commerce.application.product.ProductSummaryResult;
+import com.commerce.common.pagination.CursorPage;
 import com.commerce.common.response.CommonResponse;
 import com.commerce.common.response.ResponseCode;
+import com.commerce.domain.product.PriceBucket;
+import com.commerce.domain.product.ProductFacetQuery;
+import com.commerce.domain.product.ProductSort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,7 +22,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Tag(name = "상품", description = "상품 관련 API")
 @RestController
@@ -27,15 +32,30 @@ public class ProductController {
 
     private final ProductFacade productFacade;
 
-    @Operation(summary = "상품 목록 조회", description = "페이징된 상품 목록을 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "페이징된 상품 목록을 조회합니다. (가격 범위/재고 유무/상품명 필터)")
     @GetMapping
-    public ResponseEntity<CommonResponse<Page<ProductResponse>>> getProducts(
+    public ResponseEntity<CommonResponse<Page<ProductSummaryResponse>>> getProducts(
+            @Valid @ModelAttribute ProductFilterRequest filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProductResult> results = productFacade.getProducts(pageable);
-        Page<ProductResponse> response = results.map(ProductResponse::from);
+        Page<ProductSummaryResult> results = productFacade.getProducts(filter.toFilter(null), pageable);
+        Page<ProductSummaryResponse> response = results.map(ProductSummaryResponse::from);
+
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "상품 목록 조회 (커서)", description = "커서 기반으로 상품 목록을 조회합니다. 정렬: NEWEST, PRICE_ASC, PRICE_DESC, NAME")
+    @GetMapping("/cursor")
+    public ResponseEntity<CommonResponse<CursorPage<ProductSummaryResponse>>> getProductPage(
+            @Valid @ModelAttribute ProductFilterRequest filter,
+            @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ProductSummaryResponse> response = productFacade.getProductPage(filter.toFilter(null), sort, cursor, size)
+                .map(ProductSummaryResponse::from);
 
         return ResponseEntity.ok(CommonResponse.success(response));
     }
@@ -51,27 +71,71 @@ public class ProductController {
 
     @Operation(summary = "카테고리별 상품 조회", description = "특정 카테고리의 상품 목록을 조회합니다.")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<CommonResponse<Page<ProductResponse>>> getProductsByCategory(
+    public ResponseEntity<CommonResponse<Page<ProductSummaryResponse>>> getProductsByCategory(
             @PathVariable Long categoryId,
+            @Valid @ModelAttribute ProductFilterRequest filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProductResult> results = productFacade.getProductsByCategory(categoryId, pageable);
-        Page<ProductResponse> response = results.map(ProductResponse::from);
+        Page<ProductSummaryResult> results = productFacade.getProducts(filter.toFilter(categoryId), pageable);
+        Page<ProductSummaryResponse> response = results.map(ProductSummaryResponse::from);
+
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "카테고리별 상품 조회 (커서)", description = "커서 기반으로 특정 카테고리의 상품 목록을 조회합니다.")
+    @GetMapping("/category/{categoryId}/cursor")
+    public ResponseEntity<CommonResponse<CursorPage<ProductSummaryResponse>>> getProductPageByCategory(
+            @PathVariable Long categoryId,
+            @Valid @ModelAttribute ProductFilterRequest filter,
+            @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ProductSummaryResponse> response = productFacade.getProductPage(filter.toFilter(categoryId), sort, cursor, size)
+                .map(ProductSummaryResponse::from);
 
         return ResponseEntity.ok(CommonResponse.success(response));
     }
 
-    @Operation(summary = "상품 검색", description = "키워드로 상품을 검색합니다.")
+    @Operation(summary = "상품 검색", description = "키워드로 상품명/설명을 검색합니다. (관련도 순)")
     @GetMapping("/search")
-    public ResponseEntity<CommonResponse<List<ProductResponse>>> searchProducts(
-            @RequestParam String keyword
+    public ResponseEntity<CommonResponse<Page<ProductSummaryResponse>>> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Page<ProductSummaryResult> results = productFacade.searchProducts(keyword, page, size);
+        Page<ProductSummaryResponse> response = results.map(ProductSummaryResponse::from);
+
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "상품 필터 조회", description = "카테고리/가격대/재고 유무로 상품을 거르고 필터 값별 상품 수를 함께 조회합니다. (최신순)")
+    @GetMapping("/facets")
+    public ResponseEntity<CommonResponse<ProductFacetResponse>> getFacetedProducts(
+            @RequestParam(required = false) Set<Long> categoryId,
+            @RequestParam(required = false) Set<PriceBucket> priceBucket,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ProductFacetQuery query = new ProductFacetQuery(categoryId, priceBucket, inStock);
+        ProductFacetResponse response = ProductFacetResponse.from(productFacade.getFacetedProducts(query, page, size));
+
+        return ResponseEntity.ok(CommonResponse.success(response));
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "접두어로 시작하는 상품명/카테고리명을 인기순으로 조회합니다.")
+    @GetMapping("/suggest")
+    public ResponseEntity<CommonResponse<List<ProductSuggestionResponse>>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
     ) {
-        List<ProductResult> results = productFacade.searchProducts(keyword);
-        List<ProductResponse> response = results.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
+        List<ProductSuggestionResponse> response = productFacade.suggest(prefix, size).stream()
+                .map(ProductSuggestionResponse::from)
+                .toList();
 
         return ResponseEntity.ok(CommonResponse.success(response));
     }
@@ -0,0 +1,29 @@
+package com.commerce.api.product;
+
+import com.commerce.application.product.ProductFacetSearchResult;
+import com.commerce.domain.product.PriceBucket;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 상품 목록과 필터 값별 건수
+ * 값별 건수는 해당 필터를 바꿨을 때 나올 상품 수다.
+ */
+public record ProductFacetResponse(
+        List<ProductSummaryResponse> products,
+        long total,
+        Map<Long, Long> categoryCounts,
+        Map<PriceBucket, Long> priceBucketCounts,
+        long inStockCount
+) {
+    public static ProductFacetResponse from(ProductFacetSearchResult result) {
+        return new ProductFacetResponse(
+                result.products().stream().map(ProductSummaryResponse::from).toList(),
+                result.total(),
+                result.categoryCounts(),
+                result.priceBucketCounts(),
+                result.inStockCount()
+        );
+    }
+}
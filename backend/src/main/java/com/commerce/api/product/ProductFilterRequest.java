@@ -0,0 +1,18 @@
+package com.commerce.api.product;
+
+import com.commerce.domain.product.ProductFilter;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * 상품 목록 필터 (쿼리 파라미터, 모두 선택)
+ */
+public record ProductFilterRequest(
+        @PositiveOrZero Long minPrice,
+        @PositiveOrZero Long maxPrice,
+        Boolean inStock,
+        String keyword
+) {
+    public ProductFilter toFilter(Long categoryId) {
+        return new ProductFilter(categoryId, minPrice, maxPrice, inStock, keyword);
+    }
+}
@@ -0,0 +1,18 @@
+package com.commerce.api.product;
+
+import com.commerce.application.product.ProductSuggestionResult;
+import com.commerce.domain.product.ProductSuggestion;
+
+/**
+ * 자동완성 항목
+ * @param targetId type 이 PRODUCT 면 상품 ID, CATEGORY 면 카테고리 ID
+ */
+public record ProductSuggestionResponse(
+        ProductSuggestion.Type type,
+        Long targetId,
+        String text
+) {
+    public static ProductSuggestionResponse from(ProductSuggestionResult result) {
+        return new ProductSuggestionResponse(result.type(), result.targetId(), result.text());
+    }
+}
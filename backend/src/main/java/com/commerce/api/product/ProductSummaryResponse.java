@@ -0,0 +1,32 @@
+package com.commerce.api.product;
+
+import com.commerce.application.product.ProductSummaryResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 항목 (설명은 상세 조회에서만 내려준다)
+ */
+public record ProductSummaryResponse(
+        Long id,
+        String name,
+        Long price,
+        Long stock,
+        Long categoryId,
+        String categoryName,
+        String imageUrl,
+        LocalDateTime createdAt
+) {
+    public static ProductSummaryResponse from(ProductSummaryResult result) {
+        return new ProductSummaryResponse(
+                result.id(),
+                result.name(),
+                result.price(),
+                result.stock(),
+                result.categoryId(),
+                result.categoryName(),
+                result.imageUrl(),
+                result.createdAt()
+        );
+    }
+}
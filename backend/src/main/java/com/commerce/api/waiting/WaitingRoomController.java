@@ -0,0 +1,51 @@
+package com.commerce.api.waiting;
+
+import com.commerce.application.waiting.WaitingRoomFacade;
+import com.commerce.application.waiting.WaitingRoomResult;
+import com.commerce.common.response.CommonResponse;
+import com.commerce.config.security.JwtTokenProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "대기열", description = "세일 주문 대기열 API")
+@RestController
+@RequestMapping("/api/v1/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomFacade waitingRoomFacade;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private Long getUserIdFromRequest(HttpServletRequest request) {
+        String token = request.getHeader("Authorization");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+            return jwtTokenProvider.getUserId(token);
+        }
+        throw new RuntimeException("Invalid token");
+    }
+
+    @Operation(summary = "대기열 진입", description = "세일 대기열에 등록하고 현재 순번을 반환합니다.")
+    @PostMapping("/{saleId}")
+    public ResponseEntity<CommonResponse<WaitingRoomResponse>> enter(
+            @PathVariable String saleId,
+            HttpServletRequest request
+    ) {
+        WaitingRoomResult result = waitingRoomFacade.enter(saleId, getUserIdFromRequest(request));
+        return ResponseEntity.ok(CommonResponse.success(WaitingRoomResponse.from(result)));
+    }
+
+    @Operation(summary = "대기 순번 조회", description = "현재 대기 순번을 조회합니다. 입장이 허용되면 주문 시 사용할 입장 토큰을 반환합니다.")
+    @GetMapping("/{saleId}")
+    public ResponseEntity<CommonResponse<WaitingRoomResponse>> getStatus(
+            @PathVariable String saleId,
+            HttpServletRequest request
+    ) {
+        WaitingRoomResult result = waitingRoomFacade.getStatus(saleId, getUserIdFromRequest(request));
+        return ResponseEntity.ok(CommonResponse.success(WaitingRoomResponse.from(result)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.commerce.api.waiting;
+
+import com.commerce.application.waiting.WaitingRoomResult;
+
+public record WaitingRoomResponse(
+        String saleId,
+        boolean admitted,
+        Long position,
+        Long waitingCount,
+        Long estimatedWaitSeconds,
+        String admissionToken
+) {
+    public static WaitingRoomResponse from(WaitingRoomResult result) {
+        return new WaitingRoomResponse(
+                result.saleId(),
+                result.admitted(),
+                result.position(),
+                result.waitingCount(),
+                result.estimatedWaitSeconds(),
+                result.admissionToken()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.commerce.application.coupon;
+
+import com.commerce.domain.coupon.DiscountType;
+
+import java.time.LocalDateTime;
+
+public record CouponCommand(
+        String name,
+        DiscountType discountType,
+        Long discountValue,
+        Long maxDiscountAmount,
+        Long minOrderAmount,
+        Long totalQuantity,
+        LocalDateTime issueStartAt,
+        LocalDateTime issueEndAt,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,43 @@
+package com.commerce.application.coupon;
+
+import com.commerce.domain.coupon.CouponEntity;
+import com.commerce.domain.coupon.CouponService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CouponFacade {
+
+    private final CouponService couponService;
+
+    public CouponResult createCoupon(CouponCommand command) {
+        CouponEntity coupon = CouponEntity.create(
+                command.name(),
+                command.discountType(),
+                command.discountValue(),
+                command.maxDiscountAmount(),
+                command.minOrderAmount(),
+                command.totalQuantity(),
+                command.issueStartAt(),
+                command.issueEndAt(),
+                command.expiresAt()
+        );
+        return CouponResult.from(couponService.createCoupon(coupon));
+    }
+
+    /**
+     * 선착순 쿠폰 발급 (트랜잭션 없이 Redis 에서만 처리)
+     */
+    public void issueCoupon(Long userId, Long couponId) {
+        couponService.issue(couponId, userId);
+    }
+
+    public List<UserCouponResult> getUserCoupons(Long userId) {
+        return couponService.getUserCoupons(userId).stream()
+                .map(UserCouponResult::from)
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.commerce.application.coupon;
+
+import com.commerce.application.order.OrderCouponRedeemer;
+import com.commerce.domain.coupon.CouponService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 사가의 쿠폰 적용 단계 - 발급된 쿠폰을 사용 처리하고 할인 금액을 계산한다
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponOrderRedeemer implements OrderCouponRedeemer {
+
+    private final CouponService couponService;
+
+    @Override
+    public long redeem(Long userId, Long userCouponId, Long orderId, long orderAmount) {
+        return couponService.use(userId, userCouponId, orderId, orderAmount);
+    }
+
+    @Override
+    public void restore(Long userId, Long userCouponId, Long orderId) {
+        couponService.restore(userCouponId, orderId);
+    }
+}
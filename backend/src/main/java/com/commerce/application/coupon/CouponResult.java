@@ -0,0 +1,36 @@
+package com.commerce.application.coupon;
+
+import com.commerce.domain.coupon.CouponEntity;
+import com.commerce.domain.coupon.DiscountType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record CouponResult(
+        Long id,
+        String name,
+        DiscountType discountType,
+        Long discountValue,
+        Long maxDiscountAmount,
+        Long minOrderAmount,
+        Long totalQuantity,
+        LocalDateTime issueStartAt,
+        LocalDateTime issueEndAt,
+        LocalDateTime expiresAt
+) {
+    public static CouponResult from(CouponEntity coupon) {
+        return CouponResult.builder()
+                .id(coupon.getId())
+                .name(coupon.getName())
+                .discountType(coupon.getDiscountType())
+                .discountValue(coupon.getDiscountValue())
+                .maxDiscountAmount(coupon.getMaxDiscountAmount())
+                .minOrderAmount(coupon.getMinOrderAmount())
+                .totalQuantity(coupon.getTotalQuantity())
+                .issueStartAt(coupon.getIssueStartAt())
+                .issueEndAt(coupon.getIssueEndAt())
+                .expiresAt(coupon.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.commerce.application.coupon;
+
+import com.commerce.domain.coupon.CouponRuleCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 규칙 캐시 주기 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponScheduler {
+
+    private final CouponRuleCache couponRuleCache;
+
+    @Scheduled(fixedDelayString = "${commerce.coupon.rule-refresh-interval-ms:60000}")
+    public void refreshRules() {
+        couponRuleCache.refresh();
+    }
+}
@@ -0,0 +1,28 @@
+package com.commerce.application.coupon;
+
+import com.commerce.domain.coupon.UserCouponEntity;
+import com.commerce.domain.coupon.UserCouponStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record UserCouponResult(
+        Long id,
+        Long couponId,
+        UserCouponStatus status,
+        Long orderId,
+        LocalDateTime issuedAt,
+        LocalDateTime usedAt
+) {
+    public static UserCouponResult from(UserCouponEntity userCoupon) {
+        return UserCouponResult.builder()
+                .id(userCoupon.getId())
+                .couponId(userCoupon.getCouponId())
+                .status(userCoupon.getStatus())
+                .orderId(userCoupon.getOrderId())
+                .issuedAt(userCoupon.getIssuedAt())
+                .usedAt(userCoupon.getUsedAt())
+                .build();
+    }
+}
@@ -2,6 +2,17 @@ package com.commerce.application.order;
 
 import java.util.List;
 
-public record OrderCommand(Long userId, Long userCouponId, List<OrderProduct> orderItem) {
+/**
+ * @param requestKey 주문 멱등 키 (같은 키로는 주문이 한 번만 생성된다, 없으면 null)
+ */
+public record OrderCommand(Long userId, Long userCouponId, List<OrderProduct> orderItem, String requestKey) {
     public record OrderProduct(Long productId, Long quantity) {}
+
+    public OrderCommand(Long userId, Long userCouponId, List<OrderProduct> orderItem) {
+        this(userId, userCouponId, orderItem, null);
+    }
+
+    public OrderCommand withRequestKey(String requestKey) {
+        return new OrderCommand(userId, userCouponId, orderItem, requestKey);
+    }
 }
@@ -0,0 +1,18 @@
+package com.commerce.application.order;
+
+/**
+ * 주문 사가의 쿠폰 적용 단계 구현
+ * 구현 빈이 없으면 쿠폰 적용 단계는 실행되지 않는다.
+ */
+public interface OrderCouponRedeemer {
+
+    /**
+     * 쿠폰을 사용 처리하고 할인 금액을 반환
+     */
+    long redeem(Long userId, Long userCouponId, Long orderId, long orderAmount);
+
+    /**
+     * 쿠폰 사용 취소 (보상)
+     */
+    void restore(Long userId, Long userCouponId, Long orderId);
+}
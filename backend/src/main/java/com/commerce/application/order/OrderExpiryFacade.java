@@ -0,0 +1,70 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.product.ProductService;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExpiryFacade {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final ObjectProvider<OrderCouponRedeemer> couponRedeemerProvider;
+
+    /**
+     * 재고 선점 해제 (만료/취소)
+     * 선점 해제, 결제 대기 주문 취소, 재고/쿠폰 복원을 한 트랜잭션에서 묶어서 처리한다.
+     * @return 복원된 상품별 수량
+     */
+    @Transactional
+    public Map<Long, Long> releaseOrders(Collection<Long> orderIds) {
+        Map<Long, Long> restored = orderService.releaseOrders(orderIds);
+        if (!restored.isEmpty()) {
+            productService.increaseStocks(restored);
+            log.debug("재고 선점 해제 - orders={}, products={}", orderIds.size(), restored.size());
+        }
+        restoreCoupons(orderIds);
+        return restored;
+    }
+
+    /**
+     * 주문 취소 시 재고 복원
+     * 결제 대기 주문은 선점 중인 재고를, 확정 후 취소된 주문은 확정된 선점 재고를 돌려주고 사용한 쿠폰을 복원한다.
+     * @return 복원된 상품별 수량
+     */
+    @Transactional
+    public Map<Long, Long> releaseCancelledOrder(Long orderId) {
+        Map<Long, Long> restored = new TreeMap<>(orderService.releaseOrders(List.of(orderId)));
+        orderService.releaseConfirmedReservations(orderId)
+            .forEach((productId, quantity) -> restored.merge(productId, quantity, Long::sum));
+        if (!restored.isEmpty()) {
+            productService.increaseStocks(restored);
+            log.debug("취소 주문 재고 복원 - orderId={}, products={}", orderId, restored.size());
+        }
+        restoreCoupons(List.of(orderId));
+        return restored;
+    }
+
+    /**
+     * 취소된 주문에 사용된 쿠폰 복원
+     * 복원은 해당 주문에 사용 중인 쿠폰만 되돌리므로, 이미 복원됐거나 다른 주문에 다시 쓰인 쿠폰은 건드리지 않는다.
+     */
+    private void restoreCoupons(Collection<Long> orderIds) {
+        OrderCouponRedeemer couponRedeemer = couponRedeemerProvider.getIfAvailable();
+        if (couponRedeemer == null) {
+            return;
+        }
+        orderService.getCancelledCouponOrders(orderIds)
+            .forEach(order -> couponRedeemer.restore(order.getUserId(), order.getCouponId(), order.getId()));
+    }
+}
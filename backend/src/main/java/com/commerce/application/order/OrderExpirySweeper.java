@@ -0,0 +1,105 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderKey;
+import com.commerce.domain.order.OrderService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대기 주문 만료 스위퍼
+ * 타이머({@link ReservationExpiryScheduler})가 놓친 주문과 선점 도입 이전 주문을 정리하는 안전망이다.
+ * (status, created_at, id) 인덱스를 keyset 으로 훑어 만료된 주문만 읽고,
+ * 청크 단위로 제한된 작업 풀에서 선점 해제 + 일괄 취소 + 재고 복원을 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderExpirySweeper {
+
+    private final OrderService orderService;
+    private final OrderExpiryFacade orderExpiryFacade;
+
+    @Value("${commerce.order.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
+
+    @Value("${commerce.order.sweeper.grace-seconds:60}")
+    private long graceSeconds;
+
+    @Value("${commerce.order.sweeper.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${commerce.order.sweeper.workers:2}")
+    private int workers;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 가득 차면 스위퍼 스레드가 직접 처리해 조회 속도를 처리 속도에 맞춘다
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers * 2),
+            r -> {
+                Thread thread = new Thread(r, "order-expiry-sweeper-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.order.sweeper.interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(reservationTtlSeconds + graceSeconds);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        OrderKey after = null;
+
+        while (true) {
+            List<OrderKey> keys = orderService.getExpiredPendingOrderKeys(cutoff, after, chunkSize);
+            if (keys.isEmpty()) {
+                break;
+            }
+            List<Long> orderIds = keys.stream().map(OrderKey::id).toList();
+            futures.add(CompletableFuture.supplyAsync(() -> expire(orderIds), executor));
+
+            if (keys.size() < chunkSize) {
+                break;
+            }
+            after = keys.get(keys.size() - 1);
+        }
+
+        int chunks = futures.size();
+        int expired = futures.stream().mapToInt(CompletableFuture::join).sum();
+        if (expired > 0) {
+            log.info("만료 주문 정리 - {}건 ({}개 청크)", expired, chunks);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private int expire(List<Long> orderIds) {
+        try {
+            orderExpiryFacade.releaseOrders(orderIds);
+            return orderIds.size();
+        } catch (Exception e) {
+            // 실패한 청크는 PENDING 으로 남아 다음 주기에 다시 조회된다
+            log.error("만료 주문 정리 실패 - {}건", orderIds.size(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 전체 내보내기 (정산용)
+ * DB 스트리밍 조회 결과를 gzip 으로 압축하며 응답 스트림에 바로 쓴다.
+ * 도중에 실패하면 gzip 을 마무리하지 않고 예외를 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderExportFacade {
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    public void exportOrders(OrderExportFormat format, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        AtomicLong rows = new AtomicLong();
+
+        OrderExportWriter writer = OrderExportWriter.of(format, out, objectMapper);
+        try {
+            orderService.exportOrders(from, to, row -> {
+                writer.accept(row);
+                rows.incrementAndGet();
+            });
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            // 트레일러 없이 끊어 잘린 파일이 정상 파일처럼 보이지 않게 한다
+            writer.abort();
+            log.error("주문 내보내기 실패 - format={}, from={}, to={}, rows={}", format, from, to, rows.get(), e);
+            throw e;
+        }
+        log.info("주문 내보내기 완료 - format={}, from={}, to={}, rows={}, elapsedMs={}",
+            format, from, to, rows.get(), System.currentTimeMillis() - startedAt);
+    }
+}
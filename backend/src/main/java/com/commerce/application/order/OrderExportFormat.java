@@ -0,0 +1,16 @@
+package com.commerce.application.order;
+
+public enum OrderExportFormat {
+    CSV("csv"),      // 주문상품 한 줄
+    JSONL("jsonl");  // 주문 한 줄 (주문상품 포함)
+
+    private final String extension;
+
+    OrderExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
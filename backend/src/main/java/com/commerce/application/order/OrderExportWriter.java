@@ -0,0 +1,186 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderExportRow;
+import com.commerce.domain.order.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 내보내기 행을 gzip 압축 스트림에 바로 쓰는 작성기
+ * 행을 모으지 않고 쓰므로 내보내는 주문 수와 관계없이 버퍼 크기만큼의 메모리만 사용한다.
+ * 정상 종료({@link #close()})에서만 gzip 트레일러(CRC, 길이)를 쓴다. 중간에 실패하면 {@link #abort()} 로
+ * 트레일러 없이 끊어, 받은 쪽에서 잘린 파일이 gzip 검증에 실패하게 한다.
+ */
+abstract class OrderExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final Writer writer;
+    private final AbortableGzipOutputStream gzip;
+
+    private OrderExportWriter(OutputStream out) throws IOException {
+        this.gzip = new AbortableGzipOutputStream(out, BUFFER_SIZE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static OrderExportWriter of(OrderExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(out);
+            case JSONL -> new Jsonl(out, objectMapper);
+        };
+    }
+
+    /**
+     * (orderId, orderItemId) 순으로 들어오는 행 하나를 쓴다
+     */
+    final void accept(OrderExportRow row) {
+        try {
+            write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void write(OrderExportRow row) throws IOException;
+
+    protected void finish() throws IOException {
+    }
+
+    /**
+     * 남은 내용을 쓰고 gzip 트레일러까지 닫는다
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+        writer.close();
+    }
+
+    /**
+     * 실패한 내보내기 중단 - 남은 내용과 gzip 트레일러를 쓰지 않고 압축기만 해제한다
+     * 응답 스트림은 닫지 않으므로 호출 측이 예외를 전파해 응답을 실패로 끝내야 한다.
+     */
+    void abort() {
+        gzip.abort();
+    }
+
+    private static final class AbortableGzipOutputStream extends GZIPOutputStream {
+
+        private AbortableGzipOutputStream(OutputStream out, int size) throws IOException {
+            super(out, size);
+        }
+
+        private void abort() {
+            def.end();
+        }
+    }
+
+    private static final class Csv extends OrderExportWriter {
+
+        private static final String HEADER =
+            "order_id,user_id,coupon_id,status,total_amount,created_at,order_item_id,product_id,quantity,unit_price,amount\n";
+
+        private Csv(OutputStream out) throws IOException {
+            super(out);
+            writer.write(HEADER);
+        }
+
+        // 모든 칸이 숫자/enum/시각이라 따옴표 처리가 필요 없다
+        @Override
+        protected void write(OrderExportRow row) throws IOException {
+            writer.write(String.valueOf(row.orderId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.userId()));
+            writer.write(',');
+            writer.write(row.couponId() != null ? String.valueOf(row.couponId()) : "");
+            writer.write(',');
+            writer.write(row.status().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.totalAmount()));
+            writer.write(',');
+            writer.write(row.createdAt().toString());
+            writer.write(',');
+            writer.write(String.valueOf(row.orderItemId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.productId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.quantity()));
+            writer.write(',');
+            writer.write(row.unitPrice() != null ? String.valueOf(row.unitPrice()) : "");
+            writer.write(',');
+            writer.write(String.valueOf(row.amount()));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * 같은 주문의 행이 연달아 들어오므로 현재 주문 하나만 들고 있다가 주문이 바뀌면 한 줄로 쓴다
+     */
+    private static final class Jsonl extends OrderExportWriter {
+
+        private final ObjectMapper objectMapper;
+        private ExportedOrder current;
+
+        private Jsonl(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(out);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected void write(OrderExportRow row) throws IOException {
+            if (current != null && !current.orderId().equals(row.orderId())) {
+                flushCurrent();
+            }
+            if (current == null) {
+                current = new ExportedOrder(row.orderId(), row.userId(), row.couponId(), row.status(),
+                    row.totalAmount(), row.createdAt(), new ArrayList<>());
+            }
+            current.items().add(new ExportedItem(row.orderItemId(), row.productId(), row.quantity(),
+                row.unitPrice(), row.amount()));
+        }
+
+        @Override
+        protected void finish() throws IOException {
+            if (current != null) {
+                flushCurrent();
+            }
+        }
+
+        private void flushCurrent() throws IOException {
+            // writeValue(writer, ...) 는 대상 스트림을 닫으므로 문자열로 만들어 쓴다
+            writer.write(objectMapper.writeValueAsString(current));
+            writer.write('\n');
+            current = null;
+        }
+    }
+
+    private record ExportedOrder(
+        Long orderId,
+        Long userId,
+        Long couponId,
+        OrderStatus status,
+        Long totalAmount,
+        LocalDateTime createdAt,
+        List<ExportedItem> items
+    ) {
+    }
+
+    private record ExportedItem(
+        Long orderItemId,
+        Long productId,
+        Long quantity,
+        Long unitPrice,
+        Long amount
+    ) {
+    }
+}
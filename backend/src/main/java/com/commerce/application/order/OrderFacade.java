@@ -1,31 +1,144 @@
 package com.commerce.application.order;
 
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.pagination.Cursor;
+import com.commerce.common.pagination.CursorPage;
 import com.commerce.domain.order.OrderEntity;
 import com.commerce.domain.order.OrderItemEntity;
+import com.commerce.domain.order.OrderKey;
 import com.commerce.domain.order.OrderService;
 import com.commerce.domain.order.OrderStatus;
-import java.util.ArrayList;
-import java.util.Comparator;
+import com.commerce.domain.order.OrderSummaryEntity;
+import com.commerce.domain.order.OrderTicket;
+import com.commerce.domain.order.OrderTicketService;
+import com.commerce.domain.order.exception.OrderErrorCode;
+import com.commerce.domain.product.ProductLockManager;
+import com.commerce.domain.product.ProductService;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OrderFacade {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderService orderService;
+    private final ProductService productService;
+    private final ProductLockManager productLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderExpiryFacade orderExpiryFacade;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
+    private final OrderTicketService orderTicketService;
+    private final OrderIntakeQueue orderIntakeQueue;
+    private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Value("${commerce.order.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
 
     /**
      * 주문 생성 (장바구니에서 주문, 재고 차감)
+     * 가격은 클라이언트 값을 쓰지 않고 주문 상품을 한 번에 조회해 서버에서 계산한다.
+     * 주문 생성/재고 선점/쿠폰 적용을 사가로 실행하고, 실패하면 실행된 단계만 보상한다.
      */
-    @Transactional
-    public OrderResult createOrder(OrderCommand command, List<Long> productAmounts) {
-        Long orderId = orderService.createOrder(command, productAmounts);
+    public OrderResult createOrder(OrderCommand command) {
+        Map<Long, Long> unitPrices = productService.getPrices(productIdsOf(List.of(command)));
+        Long orderId = orderSagaOrchestrator.execute(command, unitPrices);
+
+        OrderEntity order = orderService.readOrder(orderId);
+        List<OrderItemEntity> items = orderService.getOrderItems(orderId);
+        return OrderResult.from(order, items);
+    }
+
+    /**
+     * 여러 주문을 한 트랜잭션으로 생성 (비동기 접수 마이크로 배치)
+     * 묶인 주문 전체의 상품 락(샤딩된 상품 제외)을 한 번에 잡고 한 트랜잭션으로 커밋하므로 사가 보상 없이 원자적으로 반영된다.
+     * 하나라도 실패하면 전체가 롤백되므로, 호출 측은 주문별 {@link #createOrder} 로 다시 처리해야 한다.
+     * @return 티켓 ID별 생성된 주문 ID
+     */
+    public Map<String, Long> createOrders(List<OrderIntake> intakes) {
+        Set<Long> productIds = productIdsOf(intakes.stream().map(OrderIntake::command).toList());
+        Map<Long, Long> unitPrices = productService.getPrices(productIds);
+
+        Set<Long> lockedProductIds = productService.getLockRequiredProductIds(productIds);
+        return productLockManager.executeWithLocks(lockedProductIds, () -> transactionTemplate.execute(status -> {
+            Map<String, Long> orderIds = new LinkedHashMap<>();
+            for (OrderIntake intake : intakes) {
+                OrderResult result = placeOrder(intake.command(), unitPrices);
+                orderIds.put(intake.ticketId(), result.orderId());
+            }
+            return orderIds;
+        }));
+    }
+
+    /**
+     * 비동기 주문 접수
+     * 요청을 대기열에 넣고 바로 티켓을 반환한다. 대기열이 가득 차면 접수하지 않는다.
+     * 티켓 ID를 주문 멱등 키로 써서 메시지가 재전달돼도 주문은 한 번만 생성된다.
+     */
+    public OrderTicketResult submitOrder(OrderCommand command) {
+        OrderTicket ticket = orderTicketService.issue(command.userId());
+        OrderIntake intake = new OrderIntake(ticket.ticketId(), command.userId(), command.withRequestKey(ticket.ticketId()));
+        if (!orderIntakeQueue.offer(intake)) {
+            orderTicketService.discard(ticket.ticketId());
+            throw new BusinessException(OrderErrorCode.ORDER_QUEUE_FULL);
+        }
+        return OrderTicketResult.from(ticket);
+    }
+
+    /**
+     * 멱등 키로 이미 생성된 주문 ID 조회
+     */
+    public Map<String, Long> findOrderIds(Collection<String> requestKeys) {
+        return orderService.getOrderIdsByRequestKeys(requestKeys);
+    }
+
+    /**
+     * 비동기 주문 접수 결과 조회
+     */
+    public OrderTicketResult getTicket(Long userId, String ticketId) {
+        return OrderTicketResult.from(orderTicketService.getTicket(ticketId, userId));
+    }
+
+    private Set<Long> productIdsOf(List<OrderCommand> commands) {
+        return commands.stream()
+            .flatMap(command -> command.orderItem().stream())
+            .map(OrderCommand.OrderProduct::productId)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private OrderResult placeOrder(OrderCommand command, Map<Long, Long> unitPrices) {
+        Map<Long, Long> quantities = command.orderItem().stream()
+            .collect(Collectors.toMap(OrderCommand.OrderProduct::productId, OrderCommand.OrderProduct::quantity, Long::sum));
+        productService.decreaseStocks(quantities);
+
+        Long orderId = orderService.createOrder(command, unitPrices);
+
+        // 결제되지 않으면 선점한 재고를 만료 시각에 돌려받는다
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(reservationTtlSeconds);
+        orderService.reserveStock(orderId, quantities, expiresAt);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reservationExpiryScheduler.schedule(orderId, expiresAt);
+            }
+        });
+
         OrderEntity order = orderService.readOrder(orderId);
         List<OrderItemEntity> items = orderService.getOrderItems(orderId);
         return OrderResult.from(order, items);
@@ -33,10 +146,36 @@ public class OrderFacade {
 
     /**
      * 주문 상태 업데이트
+     * 확정되면 재고 선점을 확정하고, 취소되면 선점/확정된 재고를 즉시 복원한다.
      */
     @Transactional
     public void updateOrderStatus(Long orderId, OrderStatus status) {
         orderService.updateOrderStatus(orderId, status);
+
+        if (status == OrderStatus.CONFIRMED) {
+            orderService.confirmReservations(orderId);
+            reservationExpiryScheduler.cancel(orderId);
+        } else if (status == OrderStatus.CANCELLED) {
+            orderExpiryFacade.releaseCancelledOrder(orderId);
+            reservationExpiryScheduler.cancel(orderId);
+        }
+    }
+
+    /**
+     * 주문 상태 일괄 전환 (관리자)
+     * 취소는 주문별 재고 복원이 필요하므로 일괄 전환 대상에서 제외한다.
+     */
+    public OrderStatusTransitionResult transitionStatus(List<Long> orderIds, OrderStatus from, OrderStatus to) {
+        if (to == OrderStatus.CANCELLED) {
+            throw new BusinessException(OrderErrorCode.ORDER_STATUS_TRANSITION_INVALID, "주문 취소는 일괄 처리할 수 없습니다.");
+        }
+
+        OrderStatusTransitionResult result = OrderStatusTransitionResult.of(from, to,
+            orderService.transitionStatus(orderIds, from, to));
+        if (to == OrderStatus.CONFIRMED) {
+            result.transitioned().forEach(reservationExpiryScheduler::cancel);
+        }
+        return result;
     }
 
     /**
@@ -48,65 +187,31 @@ public class OrderFacade {
     }
 
     /**
-     * 주문 만료 처리 (보상 로직 포함)
+     * 사용자별 주문 내역 조회 (최신순, 커서 기반)
+     * 주문 상품이 함께 저장된 조회 모델(order_summaries)만 읽는다.
      */
-    @Transactional
-    public void expireSingleOrder(OrderEntity order, List<OrderItemEntity> orderItems) {
-        boolean orderExpired = false;
-        List<OrderItemEntity> restoredItems = new ArrayList<>();
-
-        try {
-            // 주문 항목 정렬 (데드락 방지)
-            List<OrderItemEntity> sortedItems = orderItems.stream()
-                .sorted(Comparator.comparing(OrderItemEntity::getProductId))
-                .collect(Collectors.toList());
-
-            // 여기에 재고 복원 로직 추가
-            for (OrderItemEntity item : sortedItems) {
-                // 재고 복원 처리
-                restoredItems.add(item);
-            }
-
-            // 주문 만료 상태로 업데이트
-            order.updateStatus(OrderStatus.CANCELLED);
-            orderService.readOrder(order.getId()); // 주문 존재 확인
-            orderExpired = true;
-
-        } catch (Exception e) {
-            log.error("주문 만료 처리 도중 오류 발생. 보상 로직 실행", e);
-
-            // 보상 순서: 역순 처리
-            for (OrderItemEntity item : restoredItems) {
-                try {
-                    // 재고 복원 취소 처리
-                } catch (Exception ex) {
-                    log.error("재고 롤백 실패", ex);
-                }
-            }
-
-            if (orderExpired) {
-                try {
-                    order.updateStatus(OrderStatus.PENDING);
-                } catch (Exception ex) {
-                    log.error("주문 상태 롤백 실패", ex);
-                }
-            }
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryResult> getOrdersByUserId(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+        OrderKey before = decoded == null ? null : new OrderKey(decoded.id(), decoded.valueAsDateTime());
 
-            throw new RuntimeException("보상 후 재처리 필요: 주문 ID " + order.getId(), e);
-        }
+        return CursorPage.of(
+                orderService.getOrderSummaries(userId, before, pageSize + 1),
+                pageSize,
+                summary -> Cursor.of(summary.getCreatedAt(), summary.getOrderId()))
+            .map(OrderSummaryResult::from);
     }
 
     /**
-     * 사용자별 주문 내역 조회
+     * 주문 상세 조회 (조회 모델 단건 조회)
      */
     @Transactional(readOnly = true)
-    public List<OrderResult> getOrdersByUserId(Long userId) {
-        List<OrderEntity> orders = orderService.getOrdersByUserId(userId);
-        return orders.stream()
-            .map(order -> {
-                List<OrderItemEntity> items = orderService.getOrderItems(order.getId());
-                return OrderResult.from(order, items);
-            })
-            .collect(Collectors.toList());
+    public OrderSummaryResult getOrder(Long userId, Long orderId) {
+        OrderSummaryEntity summary = orderService.getOrderSummary(orderId);
+        if (!summary.getUserId().equals(userId)) {
+            throw new BusinessException(OrderErrorCode.ORDER_NOT_FOUND);
+        }
+        return OrderSummaryResult.from(summary);
     }
 }
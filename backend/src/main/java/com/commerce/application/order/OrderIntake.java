@@ -0,0 +1,11 @@
+package com.commerce.application.order;
+
+/**
+ * 비동기 접수 대기열에 들어가는 주문 요청
+ */
+public record OrderIntake(
+    String ticketId,
+    Long userId,
+    OrderCommand command
+) {
+}
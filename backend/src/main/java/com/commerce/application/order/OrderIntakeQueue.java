@@ -0,0 +1,30 @@
+package com.commerce.application.order;
+
+import java.util.List;
+
+/**
+ * 비동기 주문 접수 대기열
+ * 단일 노드는 메모리 큐, 여러 노드는 Redis Stream 구현을 사용한다. (commerce.order.intake.mode)
+ */
+public interface OrderIntakeQueue {
+
+    /**
+     * @return 용량 초과로 넣지 못하면 false
+     */
+    boolean offer(OrderIntake intake);
+
+    /**
+     * 최대 maxBatch 건을 꺼낸다. 비어 있으면 timeoutMs 동안 기다린다.
+     */
+    List<OrderIntake> poll(int maxBatch, long timeoutMs) throws InterruptedException;
+
+    /**
+     * 처리 완료 확인 (재전달 대상에서 제외)
+     */
+    void ack(List<OrderIntake> intakes);
+
+    /**
+     * 처리하지 않은 요청을 확인하지 않고 돌려놓는다 (나중에 다시 전달)
+     */
+    void release(List<OrderIntake> intakes);
+}
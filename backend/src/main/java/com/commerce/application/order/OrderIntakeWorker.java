@@ -0,0 +1,145 @@
+package com.commerce.application.order;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.response.ResponseCode;
+import com.commerce.domain.order.OrderTicketService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 접수 대기열 소비자
+ * 워커마다 대기열에서 최대 batch-size 건을 꺼내 한 트랜잭션으로 주문을 생성한다.
+ * 배치 중 하나라도 실패(재고 부족 등)하면 배치가 롤백되므로 주문별 개별 트랜잭션으로 다시 처리한다.
+ * 결과는 티켓에 기록되고 클라이언트는 티켓을 조회해 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIntakeWorker {
+
+    private final OrderIntakeQueue orderIntakeQueue;
+    private final OrderFacade orderFacade;
+    private final OrderTicketService orderTicketService;
+
+    @Value("${commerce.order.intake.workers:4}")
+    private int workers;
+
+    @Value("${commerce.order.intake.batch-size:20}")
+    private int batchSize;
+
+    @Value("${commerce.order.intake.poll-timeout-ms:500}")
+    private long pollTimeoutMs;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        for (int i = 1; i <= workers; i++) {
+            Thread thread = new Thread(this::run, "order-intake-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<OrderIntake> batch = orderIntakeQueue.poll(batchSize, pollTimeoutMs);
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("주문 접수 처리 루프 오류", e);
+            }
+        }
+    }
+
+    private void process(List<OrderIntake> batch) {
+        // 처리 권한을 얻은 티켓만 처리한다. 다른 워커가 처리 중인 티켓은 확인하지 않고 돌려놓고,
+        // 이미 끝난 티켓(재전달된 메시지)은 확인만 한다.
+        List<OrderIntake> targets = new ArrayList<>();
+        List<OrderIntake> busy = new ArrayList<>();
+        for (OrderIntake intake : batch) {
+            if (orderTicketService.markProcessing(intake.ticketId(), intake.userId())) {
+                targets.add(intake);
+            } else if (!orderTicketService.isFinished(intake.ticketId())) {
+                busy.add(intake);
+            }
+        }
+
+        // 주문은 만들었지만 티켓 기록 전에 중단된 경우, 주문을 다시 만들지 않고 결과만 기록한다
+        Map<String, Long> created = targets.isEmpty()
+            ? Map.of()
+            : orderFacade.findOrderIds(targets.stream().map(OrderIntake::ticketId).toList());
+
+        // 쿠폰 주문은 쿠폰 단계 보상이 필요하므로 사가로 개별 처리
+        List<OrderIntake> batchable = new ArrayList<>();
+        for (OrderIntake intake : targets) {
+            Long orderId = created.get(intake.ticketId());
+            if (orderId != null) {
+                orderTicketService.complete(intake.ticketId(), intake.userId(), orderId);
+            } else if (intake.command().userCouponId() == null) {
+                batchable.add(intake);
+            } else {
+                processSingle(intake);
+            }
+        }
+
+        if (batchable.size() == 1) {
+            processSingle(batchable.get(0));
+        } else if (!batchable.isEmpty()) {
+            try {
+                Map<String, Long> orderIds = orderFacade.createOrders(batchable);
+                batchable.forEach(intake ->
+                    orderTicketService.complete(intake.ticketId(), intake.userId(), orderIds.get(intake.ticketId())));
+            } catch (Exception e) {
+                log.debug("주문 배치 처리 실패, 개별 처리로 전환 - {}건", batchable.size(), e);
+                batchable.forEach(this::processSingle);
+            }
+        }
+
+        if (!busy.isEmpty()) {
+            orderIntakeQueue.release(busy);
+        }
+        List<OrderIntake> done = new ArrayList<>(batch);
+        done.removeAll(busy);
+        orderIntakeQueue.ack(done);
+    }
+
+    private void processSingle(OrderIntake intake) {
+        try {
+            OrderResult result = orderFacade.createOrder(intake.command());
+            orderTicketService.complete(intake.ticketId(), intake.userId(), result.orderId());
+        } catch (BusinessException e) {
+            orderTicketService.fail(intake.ticketId(), intake.userId(), e.getBaseResponseCode(), e.getMessage());
+        } catch (Exception e) {
+            // 멱등 키 중복(다른 워커가 이미 생성)이면 생성된 주문으로 완료한다
+            Long orderId = orderFacade.findOrderIds(List.of(intake.ticketId())).get(intake.ticketId());
+            if (orderId != null) {
+                orderTicketService.complete(intake.ticketId(), intake.userId(), orderId);
+                return;
+            }
+            log.error("주문 접수 처리 실패 - ticketId={}", intake.ticketId(), e);
+            orderTicketService.fail(intake.ticketId(), intake.userId(), ResponseCode.INTERNAL_ERROR,
+                ResponseCode.INTERNAL_ERROR.getMessage());
+        }
+    }
+}
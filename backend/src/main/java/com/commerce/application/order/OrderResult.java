@@ -35,6 +35,7 @@ public record OrderResult(
         Long id,
         Long productId,
         Long quantity,
+        Long unitPrice,
         Long amount
     ) {
         public static OrderItemResult from(OrderItemEntity item) {
@@ -42,6 +43,7 @@ public record OrderResult(
                 item.getId(),
                 item.getProductId(),
                 item.getQuantity(),
+                item.getUnitPrice(),
                 item.getAmount()
             );
         }
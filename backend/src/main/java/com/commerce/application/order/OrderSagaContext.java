@@ -0,0 +1,28 @@
+package com.commerce.application.order;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성 사가 한 건의 실행 상태
+ * 실행마다 새로 만들어 단계 사이에 전달하므로 동시에 실행되는 다른 주문과 상태를 공유하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderSagaContext {
+
+    private final Long sagaId;
+    private final OrderCommand command;
+    private final Map<Long, Long> unitPrices;
+    private final Map<Long, Long> quantities;
+    private final LocalDateTime reservationExpiresAt;
+
+    // 주문 생성 단계에서 채워지고 이후 단계(다른 스레드)에서 읽는다
+    private volatile Long orderId;
+
+    void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+}
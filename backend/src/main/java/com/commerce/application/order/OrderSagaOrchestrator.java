@@ -0,0 +1,265 @@
+package com.commerce.application.order;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.order.OrderSagaEntity;
+import com.commerce.domain.order.OrderSagaService;
+import com.commerce.domain.order.OrderSagaStatus;
+import com.commerce.domain.order.OrderSagaStep;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.exception.OrderErrorCode;
+import com.commerce.domain.product.ProductLockManager;
+import com.commerce.domain.product.ProductService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 사가 오케스트레이터
+ *
+ * 주문 생성 -> (재고 선점 | 쿠폰 적용) 순으로 단계를 실행한다.
+ * 단계마다 별도 트랜잭션에서 작업과 단계 기록(order_saga_steps)을 함께 커밋하고,
+ * 서로 독립적인 재고 선점과 쿠폰 적용은 동시에 실행한다.
+ * 단계가 실패하면 기록된 단계만 역순으로 보상하며, 보상도 단계 기록의 상태 전환(EXECUTED -> COMPENSATED)으로
+ * 한 번만 반영된다. 프로세스 중단으로 남은 사가는 {@link OrderSagaRecoveryWorker} 가 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaOrchestrator {
+
+    private final OrderSagaService orderSagaService;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final ProductLockManager productLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
+    private final ObjectProvider<OrderCouponRedeemer> couponRedeemerProvider;
+
+    @Value("${commerce.order.reservation.ttl-seconds:600}")
+    private long reservationTtlSeconds;
+
+    @Value("${commerce.order.saga.workers:8}")
+    private int workers;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 작업 풀이 가득 차면 호출 스레드에서 실행해 동시 실행만 포기하고 처리는 계속한다
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(workers * 4),
+            r -> {
+                Thread thread = new Thread(r, "order-saga-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 주문 생성 사가 실행
+     * @param unitPrices 상품 ID별 주문 시점 단가
+     * @return 생성된 주문 ID
+     */
+    public Long execute(OrderCommand command, Map<Long, Long> unitPrices) {
+        Map<Long, Long> quantities = command.orderItem().stream()
+            .collect(Collectors.toMap(OrderCommand.OrderProduct::productId, OrderCommand.OrderProduct::quantity, Long::sum));
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(reservationTtlSeconds);
+
+        OrderSagaEntity saga = orderSagaService.start(command.userId(), command.userCouponId(), expiresAt);
+        OrderSagaContext context = new OrderSagaContext(saga.getId(), command, unitPrices, quantities, expiresAt);
+
+        try {
+            runStep(context, OrderSagaStep.CREATE_ORDER);
+
+            List<OrderSagaStep> concurrentSteps = requiredSteps(command.userCouponId()).stream()
+                .filter(step -> step != OrderSagaStep.CREATE_ORDER)
+                .toList();
+            runConcurrently(context, concurrentSteps);
+
+            if (!orderSagaService.complete(context.getSagaId())) {
+                throw new BusinessException(OrderErrorCode.ORDER_SAGA_ABORTED);
+            }
+        } catch (RuntimeException e) {
+            compensateQuietly(context.getSagaId());
+            throw e;
+        }
+
+        reservationExpiryScheduler.schedule(context.getOrderId(), expiresAt);
+        return context.getOrderId();
+    }
+
+    /**
+     * 중단된 사가 복구
+     * 모든 단계가 기록된 사가는 완료 처리하고, 그렇지 않으면 기록된 단계를 보상한다.
+     */
+    public void recover(OrderSagaEntity saga) {
+        if (saga.getStatus() == OrderSagaStatus.STARTED
+            && orderSagaService.getExecutedSteps(saga.getId()).containsAll(requiredSteps(saga.getUserCouponId()))) {
+            if (orderSagaService.complete(saga.getId())) {
+                reservationExpiryScheduler.schedule(saga.getOrderId(), saga.getReservationExpiresAt());
+                log.info("중단된 주문 사가 완료 처리 - sagaId={}, orderId={}", saga.getId(), saga.getOrderId());
+            }
+            return;
+        }
+        compensate(saga.getId());
+    }
+
+    /**
+     * 기록된 단계를 역순으로 보상
+     * 모든 단계의 보상을 한 트랜잭션으로 커밋한다. 선점 해제와 주문 삭제가 따로 커밋되면
+     * 그 사이 중단됐을 때 선점 없는 결제 대기 주문이 남기 때문이다. 실패하면 전부 롤백되고
+     * COMPENSATING 상태로 남아 복구 워커가 처음부터 다시 보상한다.
+     */
+    public void compensate(Long sagaId) {
+        if (!orderSagaService.beginCompensation(sagaId)) {
+            return;
+        }
+        OrderSagaEntity saga = orderSagaService.getSaga(sagaId);
+        List<OrderSagaStep> steps = orderSagaService.getExecutedSteps(sagaId).stream()
+            .sorted(Comparator.reverseOrder())
+            .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OrderSagaStep step : steps) {
+                if (orderSagaService.markStepCompensated(sagaId, step)) {
+                    compensateStep(saga, step);
+                }
+            }
+            orderSagaService.finishCompensation(sagaId);
+        });
+    }
+
+    private void compensateQuietly(Long sagaId) {
+        try {
+            compensate(sagaId);
+        } catch (Exception e) {
+            // COMPENSATING 상태로 남은 사가는 복구 워커가 다시 보상한다
+            log.error("주문 사가 보상 실패 - sagaId={}", sagaId, e);
+        }
+    }
+
+    private Set<OrderSagaStep> requiredSteps(Long userCouponId) {
+        Set<OrderSagaStep> steps = EnumSet.of(OrderSagaStep.CREATE_ORDER, OrderSagaStep.RESERVE_STOCK);
+        if (userCouponId != null && couponRedeemerProvider.getIfAvailable() != null) {
+            steps.add(OrderSagaStep.APPLY_COUPON);
+        }
+        return steps;
+    }
+
+    /**
+     * 마지막 단계는 호출 스레드에서, 나머지는 작업 풀에서 실행하고 모두 끝날 때까지 기다린다
+     */
+    private void runConcurrently(OrderSagaContext context, List<OrderSagaStep> steps) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (OrderSagaStep step : steps.subList(0, steps.size() - 1)) {
+            futures.add(CompletableFuture.runAsync(() -> runStep(context, step), executor));
+        }
+
+        RuntimeException failure = null;
+        try {
+            runStep(context, steps.get(steps.size() - 1));
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runStep(OrderSagaContext context, OrderSagaStep step) {
+        if (step == OrderSagaStep.RESERVE_STOCK) {
+            productLockManager.executeWithLocks(productService.getLockRequiredProductIds(context.getQuantities().keySet()),
+                () -> executeStep(context, step));
+            return;
+        }
+        executeStep(context, step);
+    }
+
+    private Void executeStep(OrderSagaContext context, OrderSagaStep step) {
+        return transactionTemplate.execute(status -> {
+            orderSagaService.checkRunning(context.getSagaId());
+            switch (step) {
+                case CREATE_ORDER -> createOrder(context);
+                case RESERVE_STOCK -> reserveStock(context);
+                case APPLY_COUPON -> applyCoupon(context);
+            }
+            orderSagaService.recordStep(context.getSagaId(), step);
+            return null;
+        });
+    }
+
+    private void createOrder(OrderSagaContext context) {
+        Long orderId = orderService.createOrder(context.getCommand(), context.getUnitPrices());
+        orderSagaService.attachOrder(context.getSagaId(), orderId);
+        context.setOrderId(orderId);
+    }
+
+    // 주문이 아직 결제 대기인지 먼저 확인한 뒤 차감한다 (이미 확정/취소됐으면 실패 -> 보상)
+    private void reserveStock(OrderSagaContext context) {
+        orderService.reserveStock(context.getOrderId(), context.getQuantities(), context.getReservationExpiresAt());
+        productService.decreaseStocks(context.getQuantities());
+    }
+
+    private void applyCoupon(OrderSagaContext context) {
+        OrderCommand command = context.getCommand();
+        long orderAmount = orderService.readOrder(context.getOrderId()).getTotalAmount();
+        long discount = couponRedeemerProvider.getObject()
+            .redeem(command.userId(), command.userCouponId(), context.getOrderId(), orderAmount);
+        if (discount > 0) {
+            orderService.applyCouponDiscount(context.getOrderId(), discount);
+        }
+    }
+
+    private void compensateStep(OrderSagaEntity saga, OrderSagaStep step) {
+        switch (step) {
+            case APPLY_COUPON -> couponRedeemerProvider.getObject()
+                .restore(saga.getUserId(), saga.getUserCouponId(), saga.getOrderId());
+            case RESERVE_STOCK -> {
+                // 그 사이 확정된 주문이면 선점이 CONFIRMED 이므로 함께 해제한다
+                Map<Long, Long> restored = new TreeMap<>(orderService.releaseReservations(saga.getOrderId()));
+                orderService.releaseConfirmedReservations(saga.getOrderId())
+                    .forEach((productId, quantity) -> restored.merge(productId, quantity, Long::sum));
+                if (!restored.isEmpty()) {
+                    productService.increaseStocks(restored);
+                }
+            }
+            case CREATE_ORDER -> orderService.deleteOrder(saga.getOrderId());
+        }
+        log.debug("주문 사가 단계 보상 - sagaId={}, step={}", saga.getId(), step);
+    }
+}
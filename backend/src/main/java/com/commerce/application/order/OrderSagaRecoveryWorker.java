@@ -0,0 +1,49 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderSagaEntity;
+import com.commerce.domain.order.OrderSagaService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 주문 사가 복구
+ * 서버 중단 등으로 stale-seconds 동안 진행이 없는 사가를 이어서 완료하거나 보상한다.
+ * 여러 인스턴스가 같은 사가를 집어도 상태/단계 전환이 조건부 UPDATE 라 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaRecoveryWorker {
+
+    private final OrderSagaService orderSagaService;
+    private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Value("${commerce.order.saga.stale-seconds:60}")
+    private long staleSeconds;
+
+    @Value("${commerce.order.saga.recovery-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${commerce.order.saga.recovery-interval-ms:10000}")
+    public void recover() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(staleSeconds);
+        List<OrderSagaEntity> sagas = orderSagaService.getStaleSagas(before, batchSize);
+
+        for (OrderSagaEntity saga : sagas) {
+            try {
+                orderSagaOrchestrator.recover(saga);
+            } catch (Exception e) {
+                // 진행 중 상태로 남으므로 다음 주기에 다시 시도된다
+                log.error("주문 사가 복구 실패 - sagaId={}", saga.getId(), e);
+            }
+        }
+        if (!sagas.isEmpty()) {
+            log.info("중단된 주문 사가 복구 - {}건", sagas.size());
+        }
+    }
+}
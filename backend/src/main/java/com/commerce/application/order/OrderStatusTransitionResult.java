@@ -0,0 +1,39 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderStatusTransition;
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 전환 결과
+ * 전환된 주문은 ID만, 전환되지 않은 주문은 사유와 현재 상태를 담는다.
+ */
+public record OrderStatusTransitionResult(
+    OrderStatus from,
+    OrderStatus to,
+    List<Long> transitioned,
+    List<Rejected> rejected
+) {
+
+    public static OrderStatusTransitionResult of(OrderStatus from, OrderStatus to, List<OrderStatusTransition> results) {
+        return new OrderStatusTransitionResult(
+            from,
+            to,
+            results.stream()
+                .filter(OrderStatusTransition::transitioned)
+                .map(OrderStatusTransition::orderId)
+                .toList(),
+            results.stream()
+                .filter(result -> !result.transitioned())
+                .map(result -> new Rejected(result.orderId(), result.outcome(), result.currentStatus()))
+                .toList()
+        );
+    }
+
+    public record Rejected(
+        Long orderId,
+        OrderStatusTransition.Outcome reason,
+        OrderStatus currentStatus
+    ) {
+    }
+}
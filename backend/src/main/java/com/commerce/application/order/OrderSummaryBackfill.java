@@ -0,0 +1,48 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 모델 도입 이전 주문의 order_summaries 적재
+ * 기동 직후 별도 스레드에서 청크 단위로 채우며, 요약이 없는 주문이 남지 않으면 종료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfill {
+
+    private final OrderService orderService;
+
+    @Value("${commerce.order.summary.backfill-chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::backfill, "order-summary-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfill() {
+        try {
+            int total = 0;
+            int inserted;
+            do {
+                inserted = orderService.backfillOrderSummaries(chunkSize);
+                total += inserted;
+            } while (inserted > 0);
+
+            if (total > 0) {
+                log.info("주문 조회 모델 적재 완료 - {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("주문 조회 모델 적재 실패", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderEntity;
+import com.commerce.domain.order.OrderItemEntity;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.OrderSummaryEntity;
+import com.commerce.domain.order.OrderSummaryItem;
+import com.commerce.domain.order.event.OrderCreatedEvent;
+import com.commerce.domain.order.event.OrderDiscountAppliedEvent;
+import com.commerce.domain.order.event.OrderStatusChangedEvent;
+import com.commerce.domain.product.ProductEntity;
+import com.commerce.domain.product.ProductService;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 도메인 이벤트로 order_summaries 조회 모델을 갱신
+ * 커밋 직전에 같은 트랜잭션에서 반영하므로 주문과 조회 모델이 어긋나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        OrderEntity order = orderService.readOrder(event.orderId());
+        List<OrderItemEntity> items = orderService.getOrderItems(event.orderId());
+
+        Map<Long, ProductEntity> products = productService.findAllByIds(
+                items.stream().map(OrderItemEntity::getProductId).distinct().toList()).stream()
+            .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        List<OrderSummaryItem> summaryItems = items.stream()
+            .map(item -> {
+                ProductEntity product = products.get(item.getProductId());
+                return new OrderSummaryItem(
+                    item.getId(),
+                    item.getProductId(),
+                    product != null ? product.getName() : null,
+                    product != null ? product.getImageUrl() : null,
+                    item.getQuantity(),
+                    item.getAmount()
+                );
+            })
+            .toList();
+
+        orderService.saveOrderSummary(OrderSummaryEntity.of(order, summaryItems));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        orderService.updateOrderSummaryStatus(event.orderIds(), event.status());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderDiscountAppliedEvent event) {
+        orderService.updateOrderSummaryTotalAmount(event.orderId(), event.totalAmount());
+    }
+}
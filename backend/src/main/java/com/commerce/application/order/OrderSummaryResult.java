@@ -0,0 +1,52 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderSummaryEntity;
+import com.commerce.domain.order.OrderSummaryItem;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderSummaryResult(
+    Long orderId,
+    Long userId,
+    OrderStatus status,
+    Long totalAmount,
+    Integer itemCount,
+    LocalDateTime createdAt,
+    List<OrderSummaryItemResult> items
+) {
+
+    public static OrderSummaryResult from(OrderSummaryEntity summary) {
+        return new OrderSummaryResult(
+            summary.getOrderId(),
+            summary.getUserId(),
+            summary.getStatus(),
+            summary.getTotalAmount(),
+            summary.getItemCount(),
+            summary.getCreatedAt(),
+            summary.getItems().stream()
+                .map(OrderSummaryItemResult::from)
+                .toList()
+        );
+    }
+
+    public record OrderSummaryItemResult(
+        Long id,
+        Long productId,
+        String productName,
+        String imageUrl,
+        Long quantity,
+        Long amount
+    ) {
+        public static OrderSummaryItemResult from(OrderSummaryItem item) {
+            return new OrderSummaryItemResult(
+                item.id(),
+                item.productId(),
+                item.productName(),
+                item.imageUrl(),
+                item.quantity(),
+                item.amount()
+            );
+        }
+    }
+}
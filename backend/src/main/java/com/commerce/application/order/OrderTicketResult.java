@@ -0,0 +1,23 @@
+package com.commerce.application.order;
+
+import com.commerce.domain.order.OrderTicket;
+import com.commerce.domain.order.OrderTicketStatus;
+
+public record OrderTicketResult(
+    String ticketId,
+    OrderTicketStatus status,
+    Long orderId,
+    String errorCode,
+    String message
+) {
+
+    public static OrderTicketResult from(OrderTicket ticket) {
+        return new OrderTicketResult(
+            ticket.ticketId(),
+            ticket.status(),
+            ticket.orderId(),
+            ticket.errorCode(),
+            ticket.message()
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.commerce.application.order;
+
+import com.commerce.common.timer.HashedTimingWheel;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.ReservationExpiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 선점 만료 스케줄러
+ * 주문별 만료 시각을 타이밍 휠에 등록해 정확한 시각에 선점을 해제한다.
+ * 타이머는 메모리에만 있으므로 기동 시 DB의 선점 기록으로 다시 구성하며,
+ * 여러 인스턴스가 같은 주문을 해제해도 선점 잠금 조회로 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryScheduler {
+
+    private final OrderService orderService;
+    private final OrderExpiryFacade orderExpiryFacade;
+
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    @Value("${commerce.order.reservation.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${commerce.order.reservation.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${commerce.order.reservation.release-batch-size:500}")
+    private int releaseBatchSize;
+
+    private HashedTimingWheel<Long> wheel;
+    private ExecutorService releaseExecutor;
+
+    @PostConstruct
+    public void init() {
+        // 해제는 DB 작업이므로 휠 스레드가 아닌 별도 스레드에서 처리
+        releaseExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "reservation-release");
+            thread.setDaemon(true);
+            return thread;
+        });
+        wheel = new HashedTimingWheel<>("reservation-timer", tickMs, TimeUnit.MILLISECONDS, wheelSize, this::onExpired);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ReservationExpiry> expiries = orderService.getReservedExpiries();
+        expiries.forEach(expiry -> schedule(expiry.orderId(), expiry.expiresAt()));
+        log.info("재고 선점 타이머 재구성 - {}건", expiries.size());
+    }
+
+    public void schedule(Long orderId, LocalDateTime expiresAt) {
+        long delayMs = Duration.between(LocalDateTime.now(), expiresAt).toMillis();
+        HashedTimingWheel.Timeout<Long> timeout = wheel.schedule(orderId, delayMs, TimeUnit.MILLISECONDS);
+        HashedTimingWheel.Timeout<Long> previous = timeouts.put(orderId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    public void cancel(Long orderId) {
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(orderId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        releaseExecutor.shutdown();
+    }
+
+    private void onExpired(List<Long> orderIds) {
+        orderIds.forEach(timeouts::remove);
+        for (int from = 0; from < orderIds.size(); from += releaseBatchSize) {
+            List<Long> chunk = List.copyOf(orderIds.subList(from, Math.min(from + releaseBatchSize, orderIds.size())));
+            releaseExecutor.execute(() -> release(chunk));
+        }
+    }
+
+    private void release(List<Long> orderIds) {
+        try {
+            orderExpiryFacade.releaseOrders(orderIds);
+        } catch (Exception e) {
+            // 실패한 주문은 선점 상태가 유지되므로 잠시 후 다시 시도
+            log.error("재고 선점 해제 실패, 재시도 예약 - orders={}", orderIds, e);
+            LocalDateTime retryAt = LocalDateTime.now().plusSeconds(5);
+            orderIds.forEach(orderId -> schedule(orderId, retryAt));
+        }
+    }
+}
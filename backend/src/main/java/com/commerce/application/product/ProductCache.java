@@ -0,0 +1,121 @@
+package com.commerce.application.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 상품 조회 2단계 캐시
+ * L1 은 노드 내 Caffeine(크기/TTL 제한), L2 는 노드 간 공유하는 Redis 이다.
+ * 상품이 바뀌면 {@link ProductCacheInvalidator}가 L2 를 지우고 pub/sub 으로 모든 노드의 L1 을 비운다.
+ * L1/L2 적중·실패·제거 횟수는 actuator metrics(cache.*, product.cache.l2)로 노출된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCache {
+
+    private static final String KEY_PREFIX = "product:cache:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${commerce.product.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${commerce.product.cache.l1-max-size:10000}")
+    private long l1MaxSize;
+
+    @Value("${commerce.product.cache.l1-ttl-seconds:30}")
+    private long l1TtlSeconds;
+
+    @Value("${commerce.product.cache.l2-ttl-seconds:600}")
+    private long l2TtlSeconds;
+
+    private Cache<Long, ProductResult> local;
+    private Counter l2Hits;
+    private Counter l2Misses;
+
+    @PostConstruct
+    public void init() {
+        local = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "product.l1");
+        l2Hits = meterRegistry.counter("product.cache.l2", "result", "hit");
+        l2Misses = meterRegistry.counter("product.cache.l2", "result", "miss");
+    }
+
+    /**
+     * L1 -> L2 -> loader 순으로 조회
+     * 같은 노드에서 같은 상품을 동시에 놓치면 한 스레드만 L2/DB 를 읽는다.
+     */
+    public ProductResult get(Long productId, Function<Long, ProductResult> loader) {
+        if (!enabled) {
+            return loader.apply(productId);
+        }
+        return local.get(productId, id -> loadShared(id, loader));
+    }
+
+    /**
+     * 이 노드의 L1 에서만 제거
+     */
+    public void evictLocal(Collection<Long> productIds) {
+        local.invalidateAll(productIds);
+    }
+
+    /**
+     * 이 노드의 L1 과 공유 L2 에서 제거
+     */
+    public void evict(Collection<Long> productIds) {
+        local.invalidateAll(productIds);
+        try {
+            redisTemplate.delete(productIds.stream().map(this::key).toList());
+        } catch (Exception e) {
+            log.warn("상품 L2 캐시 삭제 실패 - productIds={}", productIds, e);
+        }
+    }
+
+    private ProductResult loadShared(Long productId, Function<Long, ProductResult> loader) {
+        String key = key(productId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                l2Hits.increment();
+                return objectMapper.readValue(cached, ProductResult.class);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시에도 조회는 DB 로 계속한다
+            log.warn("상품 L2 캐시 조회 실패 - productId={}", productId, e);
+        }
+
+        l2Misses.increment();
+        ProductResult result = loader.apply(productId);
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), Duration.ofSeconds(l2TtlSeconds));
+        } catch (Exception e) {
+            log.warn("상품 L2 캐시 저장 실패 - productId={}", productId, e);
+        }
+        return result;
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
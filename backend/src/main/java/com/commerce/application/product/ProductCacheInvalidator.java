@@ -0,0 +1,93 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 변경 시 캐시 무효화 전파
+ *
+ * - 상품 생성/수정/삭제: 커밋 직후 이 노드의 L1 과 L2 를 지우고, 다음 주기에 한 번 더 무효화를 전파한다
+ *   (커밋 직전에 옛 값을 읽은 조회가 L2 에 다시 써 넣는 경우를 정리)
+ * - 재고 변경: 주문마다 발생하므로 변경된 상품 ID만 모아 두었다가 주기마다 한 번에 전파한다
+ * 전파는 L2 삭제 후 Redis pub/sub 으로 ID 목록을 보내 모든 노드가 L1 에서 제거하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator implements MessageListener {
+
+    static final String CHANNEL = "product:cache:invalidate";
+
+    private final ProductCache productCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ProductChangedEvent event) {
+        if (!event.stockOnly()) {
+            productCache.evict(event.productIds());
+        }
+        pending.addAll(event.productIds());
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.product.cache.invalidation-flush-ms:200}")
+    public void flush() {
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        productCache.evict(productIds);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드의 L1 은 TTL 로 만료된다
+            log.warn("상품 캐시 무효화 전파 실패 - {}건", productIds.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.isBlank()) {
+            return;
+        }
+        productCache.evictLocal(Arrays.stream(body.split(","))
+                .map(Long::valueOf)
+                .toList());
+    }
+}
@@ -1,21 +1,53 @@
 package com.commerce.application.product;
 
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.pagination.Cursor;
+import com.commerce.common.pagination.CursorPage;
+import com.commerce.common.retry.OptimisticLockRetryExecutor;
 import com.commerce.domain.product.ProductEntity;
+import com.commerce.domain.product.ProductFacetIndex;
+import com.commerce.domain.product.ProductFacetQuery;
+import com.commerce.domain.product.ProductFacetResult;
+import com.commerce.domain.product.ProductFilter;
+import com.commerce.domain.product.ProductKey;
+import com.commerce.domain.product.ProductSearchHits;
 import com.commerce.domain.product.ProductService;
+import com.commerce.domain.product.ProductSort;
+import com.commerce.domain.product.ProductStockShardService;
+import com.commerce.domain.product.ProductSuggester;
+import com.commerce.domain.product.ProductSummary;
+import com.commerce.domain.product.exception.ProductErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ProductFacade {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_WINDOW = 1000;
+    private static final int MAX_SUGGEST_SIZE = 10;
+
     private final ProductService productService;
+    private final ProductStockShardService productStockShardService;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final ProductCache productCache;
+    private final ProductSuggester productSuggester;
+    private final ProductFacetIndex productFacetIndex;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public ProductResult createProduct(ProductCommand command) {
@@ -30,47 +62,150 @@ public class ProductFacade {
         return ProductResult.from(product);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 상품 상세 조회
+     * 캐시 적중 시 트랜잭션(커넥션)을 잡지 않도록 캐시를 놓친 경우에만 트랜잭션 안에서 읽는다.
+     */
     public ProductResult getProduct(Long productId) {
-        ProductEntity product = productService.findById(productId);
-        return ProductResult.from(product);
+        return productCache.get(productId, id -> transactionTemplate.execute(status ->
+                ProductResult.from(productService.findById(id))));
     }
 
+    /**
+     * 상품 목록 (오프셋 페이지, 백오피스용)
+     * 목록 컬럼만 DTO 로 바로 읽으므로 엔티티/영속성 컨텍스트를 거치지 않는다.
+     */
     @Transactional(readOnly = true)
-    public Page<ProductResult> getProducts(Pageable pageable) {
-        return productService.getProducts(pageable)
-                .map(ProductResult::from);
+    public Page<ProductSummaryResult> getProducts(ProductFilter filter, Pageable pageable) {
+        return productService.getProductSummaries(filter, pageable)
+                .map(ProductSummaryResult::from);
     }
 
+    /**
+     * 커서 기반 상품 목록
+     * 커서 위치부터 (정렬 컬럼, id) 인덱스를 읽으므로 페이지 깊이와 무관하게 비용이 같고 COUNT 조회도 없다.
+     */
     @Transactional(readOnly = true)
-    public Page<ProductResult> getProductsByCategory(Long categoryId, Pageable pageable) {
-        return productService.getProductsByCategory(categoryId, pageable)
-                .map(ProductResult::from);
+    public CursorPage<ProductSummaryResult> getProductPage(ProductFilter filter, ProductSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+        ProductKey after = decoded == null ? null : sort.keyOf(decoded);
+
+        return CursorPage.of(
+                        productService.getProductSummaries(filter, sort, after, pageSize + 1),
+                        pageSize,
+                        product -> Cursor.of(sort.sortValueOf(product), product.id()))
+                .map(ProductSummaryResult::from);
     }
 
+    /**
+     * 상품 검색 (관련도 순)
+     * 검색 결과 ID를 한 번의 IN 조회(목록 컬럼만)로 채우고, 그 사이 삭제된 상품은 건너뛴다.
+     * 깊은 페이지는 관련도가 낮아 의미가 없으므로 앞쪽 MAX_SEARCH_WINDOW 건까지만 조회한다.
+     */
     @Transactional(readOnly = true)
-    public List<ProductResult> searchProducts(String keyword) {
-        return productService.searchProducts(keyword).stream()
-                .map(ProductResult::from)
-                .collect(Collectors.toList());
+    public Page<ProductSummaryResult> searchProducts(String keyword, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int offset = Math.max(page, 0) * pageSize;
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        if (keyword == null || keyword.isBlank() || offset >= MAX_SEARCH_WINDOW) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        ProductSearchHits hits = productService.searchProducts(keyword, offset, pageSize);
+        Map<Long, ProductSummary> products = productService.getProductSummaries(hits.productIds()).stream()
+                .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+        List<ProductSummaryResult> results = hits.productIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductSummaryResult::from)
+                .toList();
+        return new PageImpl<>(results, pageable, Math.min(hits.total(), MAX_SEARCH_WINDOW));
     }
 
-    @Transactional
+    /**
+     * 필터 상품 목록 (최신순)과 필터 값별 건수
+     * 필터와 건수는 메모리 비트맵으로 계산하고, DB 는 현재 페이지 상품을 PK IN 조회로 채울 때만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public ProductFacetSearchResult getFacetedProducts(ProductFacetQuery query, int page, int size) {
+        if (!productFacetIndex.isReady()) {
+            throw new BusinessException(ProductErrorCode.PRODUCT_FACET_NOT_READY);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ProductFacetResult facets = productFacetIndex.query(query, Math.max(page, 0) * pageSize, pageSize);
+
+        Map<Long, ProductSummary> products = productService.getProductSummaries(facets.productIds()).stream()
+                .collect(Collectors.toMap(ProductSummary::id, Function.identity()));
+        List<ProductSummaryResult> results = facets.productIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductSummaryResult::from)
+                .toList();
+        return new ProductFacetSearchResult(results, facets.total(), facets.categoryCounts(),
+                facets.priceBucketCounts(), facets.inStockCount());
+    }
+
+    /**
+     * 검색어 자동완성 (메모리 조회만 하므로 트랜잭션 없음)
+     */
+    public List<ProductSuggestionResult> suggest(String prefix, int size) {
+        return productSuggester.suggest(prefix, Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE)).stream()
+                .map(ProductSuggestionResult::from)
+                .toList();
+    }
+
+    /**
+     * 상품 수정 (낙관적 락 충돌 시 재시도)
+     * 재시도 시에는 첫 시도에서 읽은 재고 대비 변경량만 반영해, 그 사이 주문으로 차감된 재고를 덮어쓰지 않는다.
+     */
     public ProductResult updateProduct(Long productId, ProductCommand command) {
-        ProductEntity product = productService.updateProduct(
-                productId,
-                command.name(),
-                command.description(),
-                command.price(),
-                command.stock(),
-                command.categoryId(),
-                command.imageUrl()
-        );
-        return ProductResult.from(product);
+        AtomicReference<Long> baseStock = new AtomicReference<>();
+
+        return retryExecutor.execute("updateProduct", productId, ProductErrorCode.CONCURRENT_MODIFICATION, () -> {
+            Long currentStock = productService.findById(productId).getStock();
+            baseStock.compareAndSet(null, currentStock);
+            long stock = Math.max(0L, currentStock + (command.stock() - baseStock.get()));
+
+            ProductEntity product = productService.updateProduct(
+                    productId,
+                    command.name(),
+                    command.description(),
+                    command.price(),
+                    stock,
+                    command.categoryId(),
+                    command.imageUrl()
+            );
+            return ProductResult.from(product);
+        });
     }
 
     @Transactional
     public void deleteProduct(Long productId) {
         productService.deleteProduct(productId);
     }
+
+    @Transactional(readOnly = true)
+    public StockShardResult getStockShards(Long productId) {
+        ProductEntity product = productService.findById(productId);
+        return StockShardResult.of(product, productStockShardService.getShards(productId));
+    }
+
+    @Transactional
+    public StockShardResult enableStockSharding(Long productId, int shardCount) {
+        ProductEntity product = productStockShardService.enableSharding(productId, shardCount);
+        return StockShardResult.of(product, productStockShardService.getShards(productId));
+    }
+
+    @Transactional
+    public StockShardResult rebalanceStockShards(Long productId) {
+        ProductEntity product = productStockShardService.rebalance(productId);
+        return StockShardResult.of(product, productStockShardService.getShards(productId));
+    }
+
+    @Transactional
+    public StockShardResult disableStockSharding(Long productId) {
+        ProductEntity product = productStockShardService.disableSharding(productId);
+        return StockShardResult.of(product, List.of());
+    }
 }
@@ -0,0 +1,146 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductFacetIndex;
+import com.commerce.domain.product.ProductService;
+import com.commerce.domain.product.ProductSummary;
+import com.commerce.domain.product.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 필터 색인 유지
+ *
+ * - 기동 직후 별도 스레드에서 전체 상품으로 비트맵을 만들고, 이후 주기적으로 다시 만들어 누락된 변경을 바로잡는다
+ * - 상품 생성/수정/삭제와 재고 변경은 커밋 후 ID만 모아 두었다가 주기마다 목록 컬럼만 한 번에 다시 읽어 반영하고,
+ *   Redis pub/sub 으로 ID 목록을 보내 다른 노드도 같은 상품을 다시 반영하게 한다
+ * 재고는 주문마다 바뀌므로 재고 유무 필터는 반영 주기만큼 늦을 수 있다. Redis 재고 모드와 샤딩된 상품은
+ * products.stock 이 비동기로 갱신되므로, 그 갱신이 커밋된 뒤 다시 발행되는 재고 변경 이벤트로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndexer implements MessageListener {
+
+    static final String CHANNEL = "product:facet:reindex";
+
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductService productService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::rebuild, "product-facet-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(initialDelayString = "${commerce.product.facet.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${commerce.product.facet.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            productFacetIndex.rebuild();
+        } catch (Exception e) {
+            log.error("상품 필터 색인 재구성 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ProductChangedEvent event) {
+        pending.addAll(event.productIds());
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.product.facet.reindex-flush-ms:1000}")
+    public void flush() {
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            reindex(productIds);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도한다
+            pending.addAll(productIds);
+            log.warn("상품 필터 색인 갱신 실패 - {}건", productIds.size(), e);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드는 주기적 재구성에서 반영된다
+            log.warn("상품 필터 색인 갱신 전파 실패 - {}건", productIds.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId) || separator == body.length() - 1) {
+            return;
+        }
+
+        List<Long> productIds = Arrays.stream(body.substring(separator + 1).split(","))
+                .map(Long::valueOf)
+                .toList();
+        try {
+            reindex(productIds);
+        } catch (Exception e) {
+            log.warn("상품 필터 색인 갱신 실패 - {}건", productIds.size(), e);
+        }
+    }
+
+    // DB 의 현재 값으로 다시 반영하고, 없어진 상품은 색인에서 뺀다
+    private void reindex(Collection<Long> productIds) {
+        Set<Long> found = new HashSet<>();
+        for (ProductSummary product : productService.getProductSummaries(productIds)) {
+            productFacetIndex.index(product.id(), product.categoryId(), product.price(),
+                    product.stock() != null && product.stock() > 0);
+            found.add(product.id());
+        }
+        productIds.stream()
+                .filter(productId -> !found.contains(productId))
+                .forEach(productFacetIndex::remove);
+    }
+}
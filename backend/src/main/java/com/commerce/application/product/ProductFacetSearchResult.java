@@ -0,0 +1,15 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.PriceBucket;
+
+import java.util.List;
+import java.util.Map;
+
+public record ProductFacetSearchResult(
+        List<ProductSummaryResult> products,
+        long total,
+        Map<Long, Long> categoryCounts,
+        Map<PriceBucket, Long> priceBucketCounts,
+        long inStockCount
+) {
+}
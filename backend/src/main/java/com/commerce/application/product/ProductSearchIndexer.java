@@ -0,0 +1,210 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductEntity;
+import com.commerce.domain.product.ProductSearchIndex;
+import com.commerce.domain.product.ProductService;
+import com.commerce.domain.product.ProductSuggester;
+import com.commerce.domain.product.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 색인/자동완성 유지
+ *
+ * - 기동 직후 별도 스레드에서 전체 색인을 만들고, 이후 주기적으로 다시 만들어 누락된 변경을 바로잡는다
+ * - 상품 생성/수정/삭제는 커밋 후 ID만 모아 두었다가 주기마다 DB 에서 다시 읽어 이 노드의 색인에 반영하고,
+ *   Redis pub/sub 으로 ID 목록을 보내 다른 노드도 같은 상품을 다시 색인하게 한다
+ * - 자동완성은 불변 구조라 건별 반영 대신 상품 변경이 있으면 전용 스레드에서 통째로 다시 만들어 교체한다
+ *   (기동 직후 첫 주기에 처음 만들고, 인기도 반영을 위해 변경이 없어도 refresh-interval-ms 마다 다시 만든다)
+ * 재고 변경은 검색 대상이 아니므로 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer implements MessageListener {
+
+    static final String CHANNEL = "product:search:reindex";
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggester productSuggester;
+    private final ProductService productService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean suggestDirty = new AtomicBoolean();
+    private final AtomicBoolean suggestRebuilding = new AtomicBoolean();
+
+    @Value("${commerce.product.suggest.refresh-interval-ms:600000}")
+    private long suggestRefreshIntervalMs;
+
+    private ExecutorService suggestExecutor;
+    private volatile long suggestBuiltAt;
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        suggestExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "product-suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        suggestExecutor.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::rebuild, "product-search-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(initialDelayString = "${commerce.product.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${commerce.product.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            productSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("상품 검색 색인 재구성 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ProductChangedEvent event) {
+        if (!event.stockOnly()) {
+            pending.addAll(event.productIds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.product.search.reindex-flush-ms:500}")
+    public void flush() {
+        List<Long> productIds = new ArrayList<>();
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        suggestDirty.set(true);
+        try {
+            reindex(productIds);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도한다
+            pending.addAll(productIds);
+            log.warn("상품 검색 색인 갱신 실패 - {}건", productIds.size(), e);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드는 주기적 재구성에서 반영된다
+            log.warn("상품 검색 색인 갱신 전파 실패 - {}건", productIds.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId) || separator == body.length() - 1) {
+            return;
+        }
+
+        List<Long> productIds = Arrays.stream(body.substring(separator + 1).split(","))
+                .map(Long::valueOf)
+                .toList();
+        suggestDirty.set(true);
+        try {
+            reindex(productIds);
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 갱신 실패 - {}건", productIds.size(), e);
+        }
+    }
+
+    /**
+     * 상품이 바뀌었거나 마지막 재구성 후 refresh-interval-ms 가 지났으면 자동완성을 다시 만든다
+     * 재구성은 전용 스레드에서 실행하며, 진행 중이면 이번 주기는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${commerce.product.suggest.rebuild-delay-ms:5000}")
+    public void refreshSuggestions() {
+        boolean stale = System.currentTimeMillis() - suggestBuiltAt >= suggestRefreshIntervalMs;
+        if ((!suggestDirty.get() && !stale) || !suggestRebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        suggestDirty.set(false);
+        try {
+            suggestExecutor.execute(() -> {
+                try {
+                    rebuildSuggestions();
+                } finally {
+                    suggestRebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            suggestRebuilding.set(false);
+        }
+    }
+
+    private void rebuildSuggestions() {
+        try {
+            productSuggester.rebuild();
+            suggestBuiltAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            suggestDirty.set(true);
+            log.error("상품 자동완성 재구성 실패", e);
+        }
+    }
+
+    // DB 의 현재 값으로 다시 색인하고, 없어진 상품은 색인에서 뺀다
+    private void reindex(Collection<Long> productIds) {
+        Set<Long> found = new HashSet<>();
+        for (ProductEntity product : productService.findAllByIds(productIds)) {
+            productSearchIndex.index(product.getId(), product.getName(), product.getDescription());
+            found.add(product.getId());
+        }
+        productIds.stream()
+                .filter(productId -> !found.contains(productId))
+                .forEach(productSearchIndex::remove);
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductSuggestion;
+
+public record ProductSuggestionResult(
+        ProductSuggestion.Type type,
+        Long targetId,
+        String text
+) {
+    public static ProductSuggestionResult from(ProductSuggestion suggestion) {
+        return new ProductSuggestionResult(suggestion.type(), suggestion.targetId(), suggestion.text());
+    }
+}
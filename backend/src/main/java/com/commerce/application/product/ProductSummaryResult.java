@@ -0,0 +1,29 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductSummary;
+
+import java.time.LocalDateTime;
+
+public record ProductSummaryResult(
+        Long id,
+        String name,
+        Long price,
+        Long stock,
+        Long categoryId,
+        String categoryName,
+        String imageUrl,
+        LocalDateTime createdAt
+) {
+    public static ProductSummaryResult from(ProductSummary summary) {
+        return new ProductSummaryResult(
+                summary.id(),
+                summary.name(),
+                summary.price(),
+                summary.stock(),
+                summary.categoryId(),
+                summary.categoryName(),
+                summary.imageUrl(),
+                summary.createdAt()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductEntity;
+import com.commerce.domain.product.ProductStockShardEntity;
+
+import java.util.List;
+
+public record StockShardResult(
+        Long productId,
+        Long totalStock,
+        Integer shardCount,
+        List<ShardResult> shards
+) {
+    public static StockShardResult of(ProductEntity product, List<ProductStockShardEntity> shards) {
+        List<ShardResult> shardResults = shards.stream()
+                .map(shard -> new ShardResult(shard.getShardNo(), shard.getStock()))
+                .toList();
+        long totalStock = product.isStockSharded()
+                ? shardResults.stream().mapToLong(ShardResult::stock).sum()
+                : product.getStock();
+
+        return new StockShardResult(product.getId(), totalStock, product.getStockShardCount(), shardResults);
+    }
+
+    public record ShardResult(
+            Integer shardNo,
+            Long stock
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.commerce.application.product;
+
+import com.commerce.domain.product.ProductStockShardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤딩된 상품의 products.stock (샤드 합계 캐시) 주기 갱신
+ * 변경된 상품만 짧은 주기로 갱신하고, 노드 재시작 등으로 놓친 변경은 전체 재계산으로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockShardScheduler {
+
+    private final ProductStockShardService productStockShardService;
+
+    @Scheduled(fixedDelayString = "${commerce.stock.shard-refresh-interval-ms:1000}")
+    public void refreshCachedStocks() {
+        productStockShardService.refreshCachedStocks();
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.stock.shard-resync-interval-ms:60000}")
+    public void resyncCachedStocks() {
+        productStockShardService.resyncCachedStocks();
+    }
+}
@@ -0,0 +1,107 @@
+package com.commerce.application.sales;
+
+import com.commerce.domain.sales.CategorySales;
+import com.commerce.domain.sales.DailySales;
+import com.commerce.domain.sales.ProductSales;
+import com.commerce.domain.sales.SalesRollupService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 매출 분석
+ * 조회는 집계 테이블만 읽어 기간 일수에 비례하는 비용으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesAnalyticsFacade {
+
+    private static final int MAX_TOP_PRODUCTS = 100;
+    private static final int REBUILD_MAX_ATTEMPTS = 3;
+
+    private final SalesRollupService salesRollupService;
+
+    @Value("${commerce.sales.backfill-workers:4}")
+    private int backfillWorkers;
+
+    private ExecutorService backfillExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        backfillExecutor = Executors.newFixedThreadPool(backfillWorkers, r -> {
+            Thread thread = new Thread(r, "sales-backfill-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdown();
+    }
+
+    public List<DailySales> getDailySales(LocalDate from, LocalDate to) {
+        return salesRollupService.getDailySales(from, to);
+    }
+
+    public List<ProductSales> getTopProductSales(LocalDate from, LocalDate to, int limit) {
+        return salesRollupService.getTopProductSales(from, to, Math.min(Math.max(limit, 1), MAX_TOP_PRODUCTS));
+    }
+
+    public List<CategorySales> getCategorySales(LocalDate from, LocalDate to) {
+        return salesRollupService.getCategorySales(from, to);
+    }
+
+    /**
+     * 기간 내 집계를 주문 원본으로 다시 만든다
+     * 하루 단위 청크를 작업 풀에서 병렬로 처리하고, 각 청크는 한 트랜잭션으로 교체된다.
+     */
+    public SalesBackfillResult backfill(LocalDate from, LocalDate to) {
+        salesRollupService.validatePeriod(from, to);
+
+        Map<LocalDate, CompletableFuture<Boolean>> futures = new TreeMap<>();
+        from.datesUntil(to.plusDays(1))
+            .forEach(date -> futures.put(date, CompletableFuture.supplyAsync(() -> rebuild(date), backfillExecutor)));
+
+        List<LocalDate> failedDays = futures.entrySet().stream()
+            .filter(entry -> !entry.getValue().join())
+            .map(Map.Entry::getKey)
+            .toList();
+        int rebuiltDays = futures.size() - failedDays.size();
+        log.info("매출 집계 재생성 - {} ~ {}, 성공 {}일, 실패 {}일", from, to, rebuiltDays, failedDays.size());
+        return new SalesBackfillResult(from, to, rebuiltDays, failedDays);
+    }
+
+    private boolean rebuild(LocalDate date) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                salesRollupService.rebuild(date);
+                return true;
+            } catch (PessimisticLockingFailureException e) {
+                // 같은 날짜의 주문 취소/변경분 반영과 교착되면 다시 시도한다
+                if (attempt >= REBUILD_MAX_ATTEMPTS) {
+                    log.error("매출 집계 재생성 실패 - {}", date, e);
+                    return false;
+                }
+                log.debug("매출 집계 재생성 잠금 충돌, 재시도 - {}, attempt={}", date, attempt);
+            } catch (Exception e) {
+                log.error("매출 집계 재생성 실패 - {}", date, e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.commerce.application.sales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SalesBackfillResult(
+    LocalDate from,
+    LocalDate to,
+    int rebuiltDays,
+    List<LocalDate> failedDays
+) {
+}
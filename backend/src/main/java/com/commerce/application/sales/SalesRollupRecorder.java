@@ -0,0 +1,154 @@
+package com.commerce.application.sales;
+
+import com.commerce.domain.order.OrderEntity;
+import com.commerce.domain.order.OrderItemEntity;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.event.OrderCreatedEvent;
+import com.commerce.domain.order.event.OrderDeletedEvent;
+import com.commerce.domain.order.event.OrderDiscountAppliedEvent;
+import com.commerce.domain.order.event.OrderStatusChangedEvent;
+import com.commerce.domain.product.ProductService;
+import com.commerce.domain.sales.SalesMetrics;
+import com.commerce.domain.sales.SalesRollupDeltaEntity;
+import com.commerce.domain.sales.SalesRollupKey;
+import com.commerce.domain.sales.SalesRollupLevel;
+import com.commerce.domain.sales.SalesRollupService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 도메인 이벤트를 매출 변경분(sales_rollup_deltas)으로 기록
+ * 주문 변경과 같은 트랜잭션에서 기록하므로 커밋된 주문 변경만 집계되고 유실되지 않는다.
+ * 집계 반영은 {@link SalesRollupScheduler}가 묶어서 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupRecorder {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderCreatedEvent event) {
+        record(List.of(orderService.readOrder(event.orderId())), orderService.getOrderItems(event.orderId()), Change.PLACED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderStatusChangedEvent event) {
+        if (event.status() != OrderStatus.CANCELLED) {
+            return;
+        }
+        record(orderService.getOrders(event.orderIds()), orderService.getOrderItems(event.orderIds()), Change.CANCELLED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(OrderDiscountAppliedEvent event) {
+        OrderEntity order = orderService.readOrder(event.orderId());
+        SalesRollupKey key = new SalesRollupKey(SalesRollupLevel.DAILY, order.getCreatedAt().toLocalDate(), null);
+        salesRollupService.recordDeltas(List.of(
+            SalesRollupDeltaEntity.of(order.getId(), key, SalesMetrics.discounted(event.discountAmount()))));
+    }
+
+    /**
+     * 삭제 직전에 동기로 받아 생성 시 기록한 변경분을 되돌린다
+     */
+    @EventListener
+    public void on(OrderDeletedEvent event) {
+        record(List.of(orderService.readOrder(event.orderId())), orderService.getOrderItems(event.orderId()), Change.DELETED);
+    }
+
+    private void record(List<OrderEntity> orders, List<OrderItemEntity> items, Change change) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<OrderItemEntity>> itemsByOrder = items.stream()
+            .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        Map<Long, Long> categoryIds = categoryIdsOf(items);
+
+        List<SalesRollupDeltaEntity> deltas = new ArrayList<>();
+        for (OrderEntity order : orders) {
+            LocalDate salesDate = order.getCreatedAt().toLocalDate();
+            boolean cancelled = order.getStatus() == OrderStatus.CANCELLED;
+
+            // 같은 상품/카테고리가 여러 줄이어도 주문당 한 건으로 센다
+            Line total = new Line(0, 0);
+            Map<Long, Line> products = new TreeMap<>();
+            Map<Long, Line> categories = new TreeMap<>();
+            for (OrderItemEntity item : itemsByOrder.getOrDefault(order.getId(), List.of())) {
+                Line line = new Line(item.getQuantity(), item.getAmount());
+                total = total.plus(line);
+                products.merge(item.getProductId(), line, Line::plus);
+                Long categoryId = categoryIds.get(item.getProductId());
+                if (categoryId != null) {
+                    categories.merge(categoryId, line, Line::plus);
+                }
+            }
+
+            long discount = total.amount() - order.getTotalAmount();
+            deltas.add(SalesRollupDeltaEntity.of(order.getId(),
+                new SalesRollupKey(SalesRollupLevel.DAILY, salesDate, null),
+                change.metrics(total.units(), total.amount(), discount, order.getTotalAmount(), cancelled)));
+            products.forEach((productId, line) -> deltas.add(SalesRollupDeltaEntity.of(order.getId(),
+                new SalesRollupKey(SalesRollupLevel.PRODUCT, salesDate, productId),
+                change.metrics(line.units(), line.amount(), 0, line.amount(), cancelled))));
+            categories.forEach((categoryId, line) -> deltas.add(SalesRollupDeltaEntity.of(order.getId(),
+                new SalesRollupKey(SalesRollupLevel.CATEGORY, salesDate, categoryId),
+                change.metrics(line.units(), line.amount(), 0, line.amount(), cancelled))));
+        }
+        salesRollupService.recordDeltas(deltas);
+    }
+
+    private Map<Long, Long> categoryIdsOf(List<OrderItemEntity> items) {
+        Map<Long, Long> categoryIds = new HashMap<>();
+        productService.findAllByIds(items.stream().map(OrderItemEntity::getProductId).distinct().toList())
+            .forEach(product -> {
+                if (product.getCategory() != null) {
+                    categoryIds.put(product.getId(), product.getCategory().getId());
+                }
+            });
+        return categoryIds;
+    }
+
+    private record Line(long units, long amount) {
+        Line plus(Line other) {
+            return new Line(units + other.units, amount + other.amount);
+        }
+    }
+
+    private enum Change {
+        PLACED {
+            @Override
+            SalesMetrics metrics(long units, long gross, long discount, long paid, boolean cancelled) {
+                return SalesMetrics.placed(units, gross, discount);
+            }
+        },
+        CANCELLED {
+            @Override
+            SalesMetrics metrics(long units, long gross, long discount, long paid, boolean cancelled) {
+                return SalesMetrics.cancelled(units, paid);
+            }
+        },
+        DELETED {
+            @Override
+            SalesMetrics metrics(long units, long gross, long discount, long paid, boolean cancelled) {
+                SalesMetrics placed = SalesMetrics.placed(units, gross, discount);
+                return (cancelled ? placed.plus(SalesMetrics.cancelled(units, paid)) : placed).negate();
+            }
+        };
+
+        abstract SalesMetrics metrics(long units, long gross, long discount, long paid, boolean cancelled);
+    }
+}
@@ -0,0 +1,36 @@
+package com.commerce.application.sales;
+
+import com.commerce.domain.sales.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쌓인 매출 변경분을 마이크로 배치로 집계 테이블에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupScheduler {
+
+    private final SalesRollupService salesRollupService;
+
+    @Value("${commerce.sales.apply-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${commerce.sales.apply-interval-ms:1000}")
+    public void applyPendingDeltas() {
+        int total = 0;
+        int applied;
+        do {
+            applied = salesRollupService.applyPendingDeltas(batchSize);
+            total += applied;
+        } while (applied == batchSize);
+
+        if (total > 0) {
+            log.debug("매출 집계 반영 - {}건", total);
+        }
+    }
+}
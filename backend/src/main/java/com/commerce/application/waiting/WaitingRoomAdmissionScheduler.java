@@ -0,0 +1,32 @@
+package com.commerce.application.waiting;
+
+import com.commerce.domain.waiting.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 세일의 대기열에서 1초마다 초당 입장 인원만큼 입장 허용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "commerce.waiting-room.enabled", havingValue = "true", matchIfMissing = true)
+public class WaitingRoomAdmissionScheduler {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Scheduled(fixedRate = 1000)
+    public void admit() {
+        try {
+            int admitted = waitingRoomService.admitAll();
+            if (admitted > 0) {
+                log.debug("대기열 입장 허용 - {}명", admitted);
+            }
+        } catch (Exception e) {
+            log.error("대기열 입장 처리 실패", e);
+        }
+    }
+}
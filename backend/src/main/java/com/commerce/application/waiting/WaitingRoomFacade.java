@@ -0,0 +1,72 @@
+package com.commerce.application.waiting;
+
+import com.commerce.domain.waiting.AdmissionToken;
+import com.commerce.domain.waiting.WaitingRoomService;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomFacade {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Value("${commerce.waiting-room.enabled:true}")
+    private boolean enabled;
+
+    public WaitingRoomResult enter(String saleId, Long userId) {
+        return WaitingRoomResult.from(waitingRoomService.enter(saleId, userId));
+    }
+
+    public WaitingRoomResult getStatus(String saleId, Long userId) {
+        return WaitingRoomResult.from(waitingRoomService.getStatus(saleId, userId));
+    }
+
+    public void openSale(String saleId, int admitsPerSecond, Collection<Long> productIds) {
+        waitingRoomService.openSale(saleId, admitsPerSecond, productIds);
+    }
+
+    public void closeSale(String saleId) {
+        waitingRoomService.closeSale(saleId);
+    }
+
+    /**
+     * 입장 검사를 거쳐 주문 실행
+     * 진행 중인 세일의 상품이 담긴 주문만 그 세일의 입장 토큰을 요구하고, 토큰은 주문이 끝날 때까지 사용 중으로 둔다.
+     * 성공한 주문만 토큰을 소진하고, 실패(재고 부족, 락 대기 초과, 대기열 포화 등)하면 되돌려 다시 주문할 수 있게 한다.
+     */
+    public <T> T runWithAdmission(String token, Long userId, Collection<Long> productIds, Supplier<T> order) {
+        AdmissionToken admission = checkAdmission(token, userId, productIds);
+        if (admission == null) {
+            return order.get();
+        }
+
+        boolean succeeded = false;
+        try {
+            T result = order.get();
+            succeeded = true;
+            return result;
+        } finally {
+            if (succeeded) {
+                waitingRoomService.consumeToken(admission);
+            } else {
+                waitingRoomService.releaseToken(admission);
+            }
+        }
+    }
+
+    private AdmissionToken checkAdmission(String token, Long userId, Collection<Long> productIds) {
+        if (!enabled) {
+            return null;
+        }
+        Set<String> saleIds = waitingRoomService.findSaleIds(productIds);
+        if (saleIds.isEmpty()) {
+            return null;
+        }
+        return waitingRoomService.holdToken(token, userId, saleIds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.commerce.application.waiting;
+
+import com.commerce.domain.waiting.WaitingStatus;
+
+public record WaitingRoomResult(
+        String saleId,
+        boolean admitted,
+        Long position,
+        Long waitingCount,
+        Long estimatedWaitSeconds,
+        String admissionToken
+) {
+    public static WaitingRoomResult from(WaitingStatus status) {
+        return new WaitingRoomResult(
+                status.saleId(),
+                status.admitted(),
+                status.position(),
+                status.waitingCount(),
+                status.estimatedWaitSeconds(),
+                status.token()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.commerce.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 애플리케이션에서 미리 발급하는 식별자
+ * IDENTITY 와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 삽입이 가능하다.
+ * 발급 방식은 commerce.id.strategy 설정을 따른다. ({@link CommerceIdGenerator})
+ */
+@IdGeneratorType(CommerceIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface CommerceId {
+}
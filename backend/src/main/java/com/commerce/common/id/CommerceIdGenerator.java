@@ -0,0 +1,100 @@
+package com.commerce.common.id;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * {@link CommerceId} 식별자 생성기
+ *
+ * commerce.id.strategy (spring.jpa.properties 로 전달)
+ * - snowflake (기본): 노드 + 테이블별 시간순 ID를 메모리에서 발급 ({@link SnowflakeIdGenerator})
+ *   인스턴스마다 서로 다른 commerce.id.node-id 가 필수이며, 없으면 기동하지 않는다.
+ * - pooled: 테이블별 {테이블}_seq 시퀀스(MySQL 은 시퀀스 테이블)에서 allocation-size 만큼 미리 받아 쓰는 pooled-lo 방식
+ */
+@Slf4j
+public class CommerceIdGenerator implements IdentifierGenerator {
+
+    private static final String STRATEGY_SETTING = "commerce.id.strategy";
+    private static final String NODE_ID_SETTING = "commerce.id.node-id";
+    private static final String ALLOCATION_SIZE_SETTING = "commerce.id.allocation-size";
+
+    private static final String STRATEGY_POOLED = "pooled";
+
+    private final SnowflakeIdGenerator snowflake;
+    private final SequenceStyleGenerator pooled;
+
+    public CommerceIdGenerator(CommerceId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService settings = context.getServiceRegistry().requireService(ConfigurationService.class);
+        String strategy = settings.getSetting(STRATEGY_SETTING, StandardConverters.STRING, "snowflake");
+
+        if (STRATEGY_POOLED.equalsIgnoreCase(strategy)) {
+            this.snowflake = null;
+            this.pooled = createPooledGenerator(context, settings);
+        } else {
+            this.snowflake = SnowflakeIdGenerator.forTable(resolveNodeId(settings), context.getRootClass().getTable().getName());
+            this.pooled = null;
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (snowflake != null) {
+            return snowflake.nextId();
+        }
+        return pooled.generate(session, object);
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        if (pooled != null) {
+            pooled.initialize(context);
+        }
+    }
+
+    private SequenceStyleGenerator createPooledGenerator(CustomIdGeneratorCreationContext context, ConfigurationService settings) {
+        int allocationSize = settings.getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, 100);
+        String tableName = context.getRootClass().getTable().getName();
+
+        Properties params = new Properties();
+        params.put(SequenceStyleGenerator.SEQUENCE_PARAM, tableName + "_seq");
+        params.put(SequenceStyleGenerator.INCREMENT_PARAM, String.valueOf(allocationSize));
+        params.put(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+
+        SequenceStyleGenerator generator = new SequenceStyleGenerator();
+        generator.configure(context.getRootClass().getIdentifier().getType(), params, context.getServiceRegistry());
+        generator.registerExportables(context.getDatabase());
+        return generator;
+    }
+
+    // 노드 ID가 겹치면 같은 초에 같은 ID가 발급되므로 추정하지 않고 설정값만 쓴다
+    private long resolveNodeId(ConfigurationService settings) {
+        String configured = settings.getSetting(NODE_ID_SETTING, StandardConverters.STRING);
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 설정이 필요합니다. 인스턴스마다 0 ~ "
+                + SnowflakeIdGenerator.MAX_NODE_ID + " 범위의 서로 다른 값을 지정하세요.");
+        }
+
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 는 숫자여야 합니다: " + configured, e);
+        }
+        if (nodeId < 0 || nodeId > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 는 0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID
+                + " 범위여야 합니다: " + nodeId);
+        }
+        log.info("Snowflake ID 노드 ID {} 사용", nodeId);
+        return nodeId;
+    }
+}
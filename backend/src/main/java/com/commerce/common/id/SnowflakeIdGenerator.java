@@ -0,0 +1,87 @@
+package com.commerce.common.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시간순 정렬되는 Snowflake 방식 ID 발급기
+ * 프론트엔드(JavaScript Number)에서 그대로 다룰 수 있도록 53비트 안에 배치한다.
+ *
+ * [ 초 단위 타임스탬프 32bit | 노드 6bit | 시퀀스 15bit ]
+ *
+ * 상태(타임스탬프 + 시퀀스)를 AtomicLong 하나로 관리해 락 없이 CAS 로 발급한다.
+ * - 1초 안에 시퀀스를 모두 쓰면 다음 초를 앞당겨 쓰지 않고 시계가 다음 초가 될 때까지 기다린다.
+ *   앞당겨 쓴 초는 재시작 후 다시 발급될 수 있기 때문이다.
+ * - 시계가 뒤로 가면 마지막으로 쓴 초의 남은 시퀀스를 이어 쓰고, 모두 쓰면 시계가 따라올 때까지 기다린다.
+ * - 기동한 초는 시퀀스를 모두 쓴 것으로 보고 다음 초부터 발급해, 직전 프로세스가 같은 초에 발급한 ID와 겹치지 않는다.
+ * 발급기는 노드 + 테이블별로 두어 테이블마다 초당 시퀀스(32,768개)를 따로 쓴다.
+ */
+public final class SnowflakeIdGenerator {
+
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 15;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_SECONDS = 1_735_689_600L;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final Map<Key, SnowflakeIdGenerator> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final AtomicLong state;
+
+    private SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.state = new AtomicLong((currentSeconds() << SEQUENCE_BITS) | SEQUENCE_MASK);
+    }
+
+    /**
+     * 테이블 구분 없이 노드 하나에서 공유하는 발급기
+     */
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return forTable(nodeId, "");
+    }
+
+    /**
+     * ID는 테이블 안에서만 유일하면 되므로 테이블별 발급기를 쓴다
+     */
+    public static SnowflakeIdGenerator forTable(long nodeId, String tableName) {
+        return INSTANCES.computeIfAbsent(new Key(nodeId, tableName), key -> new SnowflakeIdGenerator(key.nodeId()));
+    }
+
+    public long nextId() {
+        while (true) {
+            long nowSeconds = currentSeconds();
+            long prev = state.get();
+            long next;
+            if (nowSeconds > prev >>> SEQUENCE_BITS) {
+                next = nowSeconds << SEQUENCE_BITS;
+            } else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = prev + 1;
+            } else {
+                LockSupport.parkNanos(WAIT_NANOS);
+                continue;
+            }
+            if (state.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    private static long currentSeconds() {
+        return System.currentTimeMillis() / 1000 - EPOCH_SECONDS;
+    }
+
+    private record Key(long nodeId, String tableName) {
+    }
+}
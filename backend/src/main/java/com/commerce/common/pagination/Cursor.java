@@ -0,0 +1,60 @@
+package com.commerce.common.pagination;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.response.ResponseCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 (정렬 기준 값 + ID)
+ * 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ */
+public record Cursor(
+    String value,
+    Long id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static Cursor of(Object value, Long id) {
+        return new Cursor(String.valueOf(value), id);
+    }
+
+    public String encode() {
+        String raw = value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime valueAsDateTime() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ResponseCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public Long valueAsLong() {
+        try {
+            return Long.parseLong(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ResponseCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Cursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ResponseCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -23,7 +23,9 @@ public enum ResponseCode implements BaseResponseCode {
     // Custom Errors
     VALIDATION_FAILED(400, "VALIDATION_FAILED", "입력값 검증에 실패했습니다."),
     DUPLICATE_RESOURCE(409, "DUPLICATE_RESOURCE", "이미 존재하는 리소스입니다."),
-    LOCK_ACQUISITION_FAILED(500, "LOCK_ACQUISITION_FAILED", "락 획득에 실패했습니다.");
+    LOCK_ACQUISITION_FAILED(500, "LOCK_ACQUISITION_FAILED", "락 획득에 실패했습니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(409, "IDEMPOTENCY_KEY_IN_PROGRESS", "같은 Idempotency-Key 요청이 처리 중입니다."),
+    IDEMPOTENCY_KEY_MISMATCH(422, "IDEMPOTENCY_KEY_MISMATCH", "Idempotency-Key 가 다른 요청에 이미 사용되었습니다.");
 
     private final int code;
     private final String status;
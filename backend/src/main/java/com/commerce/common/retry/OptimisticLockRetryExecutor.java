@@ -0,0 +1,81 @@
+package com.commerce.common.retry;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.response.BaseResponseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 낙관적 락 충돌 시 지터를 섞은 지수 백오프로 재시도하는 실행기
+ * 시도마다 새 트랜잭션으로 실행하며, 재시도 예산을 넘기면 즉시 실패한다.
+ * 작업별 시도/충돌/실패 횟수는 actuator metrics 로 노출하고, 대상(상품 등)별 충돌은 로그로 남긴다
+ * (대상 ID 를 태그로 쓰면 대상 수만큼 시계열이 생긴다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${commerce.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${commerce.retry.base-backoff-ms:20}")
+    private long baseBackoffMs;
+
+    @Value("${commerce.retry.max-backoff-ms:500}")
+    private long maxBackoffMs;
+
+    public <T> T execute(String operation, Long targetId, BaseResponseCode exhaustedCode, Supplier<T> action) {
+        // 이미 트랜잭션 안이라면 재시도할 수 없으므로 그대로 실행
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            count("commerce.retry.attempts", operation);
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException | StaleStateException e) {
+                count("commerce.retry.conflicts", operation);
+                if (attempt >= maxAttempts) {
+                    count("commerce.retry.exhausted", operation);
+                    log.warn("낙관적 락 재시도 한도 초과 - operation={}, targetId={}, attempts={}", operation, targetId, attempt);
+                    throw new BusinessException(exhaustedCode);
+                }
+                log.info("낙관적 락 충돌, 재시도 - operation={}, targetId={}, attempt={}", operation, targetId, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    private void count(String name, String operation) {
+        Counter.builder(name)
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,253 @@
+package com.commerce.config.web;
+
+import com.commerce.common.response.BaseResponseCode;
+import com.commerce.common.response.CommonResponse;
+import com.commerce.common.response.ResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 헤더가 있는 주문/장바구니 변경 요청의 중복 실행 방지
+ *
+ * - 첫 요청: Redis 에 처리 중 표시(SET NX)를 남기고 실행한 뒤, 응답 본문을 저장
+ * - 처리 중 중복 요청: 요청 스레드를 붙잡고 기다리지 않고 409 와 Retry-After 로 바로 재시도를 안내
+ *   첫 요청이 처리 중 표시 유지 시간보다 오래 걸려도 키를 뺏기지 않도록, 실행하는 동안 표시의 만료 시간을 주기적으로 연장한다.
+ * - 완료 후 중복 요청: 저장된 응답 바이트를 재전송 (컨트롤러/트랜잭션을 타지 않음)
+ * 같은 키로 본문이 다른 요청이 오면 422 로 거절하고, 5xx 응답은 저장하지 않아 재시도할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final List<String> TARGET_PATHS = List.of("/api/v1/orders", "/api/v1/orders/async", "/api/v1/carts/items");
+
+    // 처리 중 표시가 아직 자신의 것일 때만 만료 시간 연장
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${commerce.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${commerce.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${commerce.idempotency.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !TARGET_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = buildKey(request);
+        String fingerprint = DigestUtils.md5DigestAsHex(cachedRequest.body);
+
+        String marker = write(IdempotencyRecord.inProgress(fingerprint));
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, marker, Duration.ofSeconds(inProgressTtlSeconds));
+        if (!Boolean.TRUE.equals(acquired)) {
+            handleDuplicate(key, fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        ScheduledFuture<?> renewal = scheduleRenewal(key, marker);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            if (cachingResponse.getStatus() < 500) {
+                IdempotencyRecord record = new IdempotencyRecord(
+                        IdempotencyRecord.COMPLETED,
+                        fingerprint,
+                        cachingResponse.getStatus(),
+                        cachingResponse.getContentType(),
+                        Base64.getEncoder().encodeToString(cachingResponse.getContentAsByteArray()));
+                redisTemplate.opsForValue().set(key, write(record), Duration.ofSeconds(ttlSeconds));
+                stored = true;
+            }
+        } finally {
+            renewal.cancel(false);
+            if (!stored) {
+                redisTemplate.delete(key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void handleDuplicate(String key, String fingerprint, HttpServletResponse response) throws IOException {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            // 첫 요청이 5xx 로 끝나 키가 지워졌다면 클라이언트가 다시 시도하도록 알린다
+            writeInProgress(response);
+            return;
+        }
+
+        IdempotencyRecord record = objectMapper.readValue(value, IdempotencyRecord.class);
+        if (!record.fingerprint().equals(fingerprint)) {
+            writeError(response, ResponseCode.IDEMPOTENCY_KEY_MISMATCH);
+            return;
+        }
+        if (record.completed()) {
+            replay(record, response);
+            return;
+        }
+        writeInProgress(response);
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String key, String marker) {
+        long ttlMs = TimeUnit.SECONDS.toMillis(inProgressTtlSeconds);
+        long periodMs = Math.max(ttlMs / 3, 1L);
+        return renewalExecutor.scheduleAtFixedRate(() -> {
+            try {
+                redisTemplate.execute(EXTEND_SCRIPT, List.of(key), marker, String.valueOf(ttlMs));
+            } catch (Exception e) {
+                log.warn("Idempotency-Key 처리 중 표시 연장 실패 - key={}", key, e);
+            }
+        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void writeInProgress(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, ResponseCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        byte[] body = Base64.getDecoder().decode(record.body());
+        response.setStatus(record.status());
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletResponse response, BaseResponseCode code) throws IOException {
+        response.setStatus(code.getCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), CommonResponse.fail(code));
+    }
+
+    private String buildKey(HttpServletRequest request) {
+        // 사용자별로 키 공간을 분리해 다른 사용자의 응답이 재전송되지 않도록 한다
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null ? authentication.getName() : "anonymous";
+        return KEY_PREFIX + principal + ":" + request.getRequestURI() + ":" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    }
+
+    private String write(IdempotencyRecord record) throws IOException {
+        return objectMapper.writeValueAsString(record);
+    }
+
+    /**
+     * 본문 해시를 위해 요청 본문을 미리 읽어 두고 이후 처리에서 다시 읽을 수 있게 한다
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.commerce.config.web;
+
+/**
+ * Idempotency-Key 로 저장되는 요청 처리 상태
+ * 처리 중에는 fingerprint 만, 완료 후에는 응답 상태/헤더/본문(Base64)을 함께 저장한다.
+ */
+record IdempotencyRecord(
+        String state,
+        String fingerprint,
+        Integer status,
+        String contentType,
+        String body
+) {
+    static final String IN_PROGRESS = "IN_PROGRESS";
+    static final String COMPLETED = "COMPLETED";
+
+    static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(IN_PROGRESS, fingerprint, null, null, null);
+    }
+
+    boolean completed() {
+        return COMPLETED.equals(state);
+    }
+}
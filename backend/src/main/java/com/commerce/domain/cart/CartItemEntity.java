@@ -1,5 +1,6 @@
 package com.commerce.domain.cart;
 
+import com.commerce.common.id.CommerceId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 public class CartItemEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,80 @@
+package com.commerce.domain.coupon;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선착순 쿠폰 정책
+ * 발급 수량/중복 발급은 Redis 에서 검사하고, 이 테이블은 할인 규칙과 발급 기간의 원본이다.
+ */
+@Entity
+@Table(name = "coupons")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CouponEntity {
+
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DiscountType discountType;
+
+    @Column(nullable = false)
+    private Long discountValue;
+
+    // 정률 할인의 최대 할인 금액 (null 이면 제한 없음)
+    private Long maxDiscountAmount;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long minOrderAmount = 0L;
+
+    @Column(nullable = false)
+    private Long totalQuantity;
+
+    @Column(nullable = false)
+    private LocalDateTime issueStartAt;
+
+    @Column(nullable = false)
+    private LocalDateTime issueEndAt;
+
+    // 발급된 쿠폰의 사용 기한
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CouponEntity create(String name, DiscountType discountType, Long discountValue,
+                                      Long maxDiscountAmount, Long minOrderAmount, Long totalQuantity,
+                                      LocalDateTime issueStartAt, LocalDateTime issueEndAt, LocalDateTime expiresAt) {
+        return CouponEntity.builder()
+                .name(name)
+                .discountType(discountType)
+                .discountValue(discountValue)
+                .maxDiscountAmount(maxDiscountAmount)
+                .minOrderAmount(minOrderAmount != null ? minOrderAmount : 0L)
+                .totalQuantity(totalQuantity)
+                .issueStartAt(issueStartAt)
+                .issueEndAt(issueEndAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.commerce.domain.coupon;
+
+public enum CouponIssueResult {
+    ISSUED,
+    SOLD_OUT,
+    ALREADY_ISSUED
+}
@@ -0,0 +1,15 @@
+package com.commerce.domain.coupon;
+
+/**
+ * 선착순 발급기 (Redis)
+ * 잔여 수량 확인, 사용자 중복 확인, 발급 기록을 한 번에 원자적으로 처리한다.
+ */
+public interface CouponIssuer {
+
+    /**
+     * 쿠폰 발급 수량 등록 (관리자 생성 시)
+     */
+    void register(Long couponId, Long totalQuantity);
+
+    CouponIssueResult issue(Long couponId, Long userId);
+}
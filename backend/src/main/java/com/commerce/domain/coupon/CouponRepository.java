@@ -0,0 +1,15 @@
+package com.commerce.domain.coupon;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponRepository {
+    CouponEntity save(CouponEntity coupon);
+    Optional<CouponEntity> findById(Long id);
+
+    /**
+     * 사용 기한이 지나지 않은 쿠폰 (규칙 캐시 적재용)
+     */
+    List<CouponEntity> findAllNotExpired(LocalDateTime now);
+}
@@ -0,0 +1,51 @@
+package com.commerce.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시해 두는 쿠폰 할인 규칙
+ */
+public record CouponRule(
+        Long couponId,
+        DiscountType discountType,
+        Long discountValue,
+        Long maxDiscountAmount,
+        Long minOrderAmount,
+        LocalDateTime issueStartAt,
+        LocalDateTime issueEndAt,
+        LocalDateTime expiresAt
+) {
+    public static CouponRule from(CouponEntity coupon) {
+        return new CouponRule(
+                coupon.getId(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMaxDiscountAmount(),
+                coupon.getMinOrderAmount(),
+                coupon.getIssueStartAt(),
+                coupon.getIssueEndAt(),
+                coupon.getExpiresAt()
+        );
+    }
+
+    public boolean isIssuable(LocalDateTime now) {
+        return !now.isBefore(issueStartAt) && now.isBefore(issueEndAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 주문 금액에 대한 할인 금액 (주문 금액을 넘지 않는다)
+     */
+    public long discountFor(long orderAmount) {
+        long discount = discountType == DiscountType.FIXED
+                ? discountValue
+                : orderAmount * discountValue / 100;
+        if (maxDiscountAmount != null) {
+            discount = Math.min(discount, maxDiscountAmount);
+        }
+        return Math.min(discount, orderAmount);
+    }
+}
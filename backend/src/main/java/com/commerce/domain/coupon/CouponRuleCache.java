@@ -0,0 +1,48 @@
+package com.commerce.domain.coupon;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.coupon.exception.CouponErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 규칙 메모리 캐시
+ * 발급/사용 검증이 매번 coupons 테이블을 조회하지 않도록 규칙을 보관하고 주기적으로 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponRuleCache {
+
+    private final CouponRepository couponRepository;
+    private final Map<Long, CouponRule> rules = new ConcurrentHashMap<>();
+
+    public CouponRule get(Long couponId) {
+        CouponRule rule = rules.get(couponId);
+        if (rule != null) {
+            return rule;
+        }
+        CouponRule loaded = couponRepository.findById(couponId)
+                .map(CouponRule::from)
+                .orElseThrow(() -> new BusinessException(CouponErrorCode.COUPON_NOT_FOUND));
+        rules.put(couponId, loaded);
+        return loaded;
+    }
+
+    public void put(CouponEntity coupon) {
+        rules.put(coupon.getId(), CouponRule.from(coupon));
+    }
+
+    /**
+     * 사용 기한이 남은 쿠폰 규칙을 다시 적재하고 만료된 규칙은 버린다
+     */
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        couponRepository.findAllNotExpired(now)
+                .forEach(this::put);
+        rules.values().removeIf(rule -> rule.isExpired(now));
+    }
+}
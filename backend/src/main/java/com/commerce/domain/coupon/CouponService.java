@@ -0,0 +1,88 @@
+package com.commerce.domain.coupon;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.coupon.exception.CouponErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CouponService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponIssuer couponIssuer;
+    private final CouponRuleCache couponRuleCache;
+
+    @Transactional
+    public CouponEntity createCoupon(CouponEntity coupon) {
+        CouponEntity saved = couponRepository.save(coupon);
+        couponIssuer.register(saved.getId(), saved.getTotalQuantity());
+        couponRuleCache.put(saved);
+        return saved;
+    }
+
+    /**
+     * 선착순 발급
+     * 캐시된 규칙으로 발급 기간을 확인하고 Redis 에서 수량/중복을 검사하므로 DB를 거치지 않는다.
+     * 발급 내역은 write-behind 로 user_coupons 에 저장된다.
+     */
+    public void issue(Long couponId, Long userId) {
+        CouponRule rule = couponRuleCache.get(couponId);
+        if (!rule.isIssuable(LocalDateTime.now())) {
+            throw new BusinessException(CouponErrorCode.COUPON_NOT_ISSUABLE);
+        }
+
+        switch (couponIssuer.issue(couponId, userId)) {
+            case SOLD_OUT -> throw new BusinessException(CouponErrorCode.COUPON_SOLD_OUT);
+            case ALREADY_ISSUED -> throw new BusinessException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+            case ISSUED -> {
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserCouponEntity> getUserCoupons(Long userId) {
+        return userCouponRepository.findByUserId(userId);
+    }
+
+    /**
+     * 주문에 쿠폰 사용
+     * @return 할인 금액
+     */
+    @Transactional
+    public long use(Long userId, Long userCouponId, Long orderId, long orderAmount) {
+        UserCouponEntity userCoupon = userCouponRepository.findById(userCouponId)
+                .filter(coupon -> coupon.getUserId().equals(userId))
+                .orElseThrow(() -> new BusinessException(CouponErrorCode.USER_COUPON_NOT_FOUND));
+        if (userCoupon.getStatus() == UserCouponStatus.USED) {
+            throw new BusinessException(CouponErrorCode.COUPON_ALREADY_USED);
+        }
+
+        CouponRule rule = couponRuleCache.get(userCoupon.getCouponId());
+        if (rule.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(CouponErrorCode.COUPON_EXPIRED);
+        }
+        if (orderAmount < rule.minOrderAmount()) {
+            throw new BusinessException(CouponErrorCode.COUPON_MIN_ORDER_AMOUNT);
+        }
+
+        // 같은 쿠폰으로 동시에 주문해도 한 주문만 사용 처리된다
+        if (userCouponRepository.markUsed(userCouponId, orderId) == 0) {
+            throw new BusinessException(CouponErrorCode.COUPON_ALREADY_USED);
+        }
+        return rule.discountFor(orderAmount);
+    }
+
+    /**
+     * 쿠폰 사용 취소 (해당 주문에서 사용한 경우만)
+     */
+    @Transactional
+    public void restore(Long userCouponId, Long orderId) {
+        userCouponRepository.restore(userCouponId, orderId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.commerce.domain.coupon;
+
+public enum DiscountType {
+    FIXED,  // 정액 할인
+    RATE    // 정률 할인 (%)
+}
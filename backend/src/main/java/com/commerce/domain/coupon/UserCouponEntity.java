@@ -0,0 +1,66 @@
+package com.commerce.domain.coupon;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자에게 발급된 쿠폰
+ * Redis 에서 발급이 확정된 뒤 write-behind 로 일괄 저장된다.
+ */
+@Entity
+@Table(
+        name = "user_coupons",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_coupons_coupon_user", columnNames = {"coupon_id", "user_id"}),
+        indexes = @Index(name = "idx_user_coupons_user", columnList = "user_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserCouponEntity {
+
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private UserCouponStatus status = UserCouponStatus.ISSUED;
+
+    // 쿠폰을 사용한 주문
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    private LocalDateTime usedAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static UserCouponEntity issued(Long couponId, Long userId, LocalDateTime issuedAt) {
+        return UserCouponEntity.builder()
+                .couponId(couponId)
+                .userId(userId)
+                .status(UserCouponStatus.ISSUED)
+                .issuedAt(issuedAt)
+                .build();
+    }
+}
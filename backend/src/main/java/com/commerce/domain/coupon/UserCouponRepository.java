@@ -0,0 +1,22 @@
+package com.commerce.domain.coupon;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserCouponRepository {
+    void saveAll(List<UserCouponEntity> userCoupons);
+    Optional<UserCouponEntity> findById(Long id);
+    List<UserCouponEntity> findByUserId(Long userId);
+    List<Long> findUserIdsByCouponId(Long couponId);
+
+    /**
+     * 발급 상태(ISSUED)인 쿠폰만 사용 처리
+     * @return 변경된 행 수 (0 이면 이미 사용됨)
+     */
+    int markUsed(Long id, Long orderId);
+
+    /**
+     * 해당 주문에서 사용한 쿠폰만 발급 상태로 되돌림
+     */
+    int restore(Long id, Long orderId);
+}
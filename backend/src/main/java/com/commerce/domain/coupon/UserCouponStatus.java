@@ -0,0 +1,6 @@
+package com.commerce.domain.coupon;
+
+public enum UserCouponStatus {
+    ISSUED, // 발급됨 (사용 가능)
+    USED    // 사용됨
+}
@@ -0,0 +1,22 @@
+package com.commerce.domain.coupon.exception;
+
+import com.commerce.common.response.BaseResponseCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CouponErrorCode implements BaseResponseCode {
+    COUPON_NOT_FOUND(404, "NOT_FOUND", "쿠폰을 찾을 수 없습니다."),
+    USER_COUPON_NOT_FOUND(404, "NOT_FOUND", "보유한 쿠폰을 찾을 수 없습니다."),
+    COUPON_NOT_ISSUABLE(409, "CONFLICT", "발급 기간이 아닌 쿠폰입니다."),
+    COUPON_SOLD_OUT(409, "CONFLICT", "쿠폰이 모두 소진되었습니다."),
+    COUPON_ALREADY_ISSUED(409, "CONFLICT", "이미 발급받은 쿠폰입니다."),
+    COUPON_ALREADY_USED(409, "CONFLICT", "이미 사용한 쿠폰입니다."),
+    COUPON_EXPIRED(409, "CONFLICT", "사용 기한이 지난 쿠폰입니다."),
+    COUPON_MIN_ORDER_AMOUNT(409, "CONFLICT", "쿠폰 최소 주문 금액을 충족하지 않습니다.");
+
+    private final int code;
+    private final String status;
+    private final String message;
+}
@@ -1,14 +1,14 @@
 package com.commerce.domain.order;
 
+import com.commerce.common.id.CommerceId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -22,7 +22,14 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "uk_orders_request_key", columnList = "request_key", unique = true)
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,7 +37,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Builder
 public class OrderEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
     @Column(nullable = false, name = "user_id")
@@ -39,6 +46,10 @@ public class OrderEntity {
     @Column(nullable = true, name = "coupon_id")
     private Long couponId;
 
+    // 비동기 접수 티켓 ID 등 주문 멱등 키 (재전달된 요청으로 주문이 두 번 생성되지 않게 한다)
+    @Column(nullable = true, name = "request_key", length = 64)
+    private String requestKey;
+
     @Builder.Default
     @Column(nullable = false, name = "total_amount")
     private Long totalAmount = 0L;
@@ -63,18 +74,23 @@ public class OrderEntity {
     private List<OrderItemEntity> orderItems = new ArrayList<>();
 
     public static OrderEntity create(Long userId, Long couponId) {
+        return create(userId, couponId, null);
+    }
+
+    public static OrderEntity create(Long userId, Long couponId, String requestKey) {
         return OrderEntity.builder()
             .userId(userId)
             .couponId(couponId)
+            .requestKey(requestKey)
             .status(OrderStatus.PENDING)
             .totalAmount(0L)
             .build();
     }
 
-    public void addOrderItem(Long productId, Long quantity, Long amount) {
-        OrderItemEntity item = OrderItemEntity.create(productId, this, quantity, amount);
+    public void addOrderItem(Long productId, Long quantity, Long unitPrice) {
+        OrderItemEntity item = OrderItemEntity.create(productId, this, quantity, unitPrice);
         this.orderItems.add(item);
-        this.totalAmount += amount;
+        this.totalAmount += item.getAmount();
     }
 
     public void updateStatus(OrderStatus status) {
@@ -0,0 +1,13 @@
+package com.commerce.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface OrderExportRepository {
+
+    /**
+     * 기간 내 주문을 주문상품 단위 행으로 (orderId, orderItemId) 순서로 흘려보낸다
+     * 결과를 메모리에 모으지 않고 읽는 즉시 consumer 에 넘긴다. from/to 가 null 이면 제한하지 않는다.
+     */
+    void stream(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> consumer);
+}
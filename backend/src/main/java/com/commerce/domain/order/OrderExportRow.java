@@ -0,0 +1,21 @@
+package com.commerce.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 한 행 (주문 + 주문상품 조인 결과)
+ */
+public record OrderExportRow(
+    Long orderId,
+    Long userId,
+    Long couponId,
+    OrderStatus status,
+    Long totalAmount,
+    LocalDateTime createdAt,
+    Long orderItemId,
+    Long productId,
+    Long quantity,
+    Long unitPrice,
+    Long amount
+) {
+}
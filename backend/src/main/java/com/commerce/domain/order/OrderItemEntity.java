@@ -1,14 +1,14 @@
 package com.commerce.domain.order;
 
+import com.commerce.common.id.CommerceId;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +21,10 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-@Table(name = "order_items")
+@Table(
+    name = "order_items",
+    indexes = @Index(name = "idx_order_items_order", columnList = "order_id, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -29,7 +32,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Builder
 public class OrderItemEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
     @Column(nullable = false, name = "product_id")
@@ -38,6 +41,10 @@ public class OrderItemEntity {
     @Column(nullable = false, name = "quantity")
     private Long quantity;
 
+    // 주문 시점 상품 단가 (이후 상품 가격이 바뀌어도 유지)
+    @Column(nullable = true, name = "unit_price")
+    private Long unitPrice;
+
     @Column(nullable = false, name = "amount")
     private Long amount;
 
@@ -56,12 +63,13 @@ public class OrderItemEntity {
     @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private OrderEntity order;
 
-    public static OrderItemEntity create(Long productId, OrderEntity order, Long quantity, Long amount) {
+    public static OrderItemEntity create(Long productId, OrderEntity order, Long quantity, Long unitPrice) {
         return OrderItemEntity.builder()
             .productId(productId)
             .order(order)
             .quantity(quantity)
-            .amount(amount)
+            .unitPrice(unitPrice)
+            .amount(unitPrice * quantity)
             .build();
     }
 }
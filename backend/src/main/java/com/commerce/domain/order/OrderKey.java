@@ -0,0 +1,12 @@
+package com.commerce.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 keyset 페이지네이션 위치 (createdAt, id)
+ */
+public record OrderKey(
+    Long id,
+    LocalDateTime createdAt
+) {
+}
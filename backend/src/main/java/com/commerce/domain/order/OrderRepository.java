@@ -1,7 +1,9 @@
 package com.commerce.domain.order;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
@@ -12,12 +14,43 @@ public interface OrderRepository {
 
     Optional<OrderEntity> findById(Long orderId);
 
+    List<OrderEntity> findAllByIds(Collection<Long> orderIds);
+
+    /**
+     * 멱등 키별 이미 생성된 주문 ID
+     */
+    Map<String, Long> findOrderIdsByRequestKeys(Collection<String> requestKeys);
+
     void updateOrderStatus(Long orderId, OrderStatus status);
 
-    List<OrderEntity> findNotPaidOrdersOlderThan(LocalDateTime expiredTime);
+    /**
+     * cutoff 이전에 생성된 결제 대기 주문을 (createdAt, id) 순으로 after 다음부터 최대 size 건 조회
+     * (status, created_at, id) 인덱스 범위만 읽는다.
+     */
+    List<OrderKey> findPendingOrderKeysBefore(LocalDateTime cutoff, OrderKey after, int size);
+
+    /**
+     * 결제 대기 상태인 주문 ID를 행 잠금과 함께 조회
+     */
+    List<Long> findPendingOrderIdsForUpdate(Collection<Long> orderIds);
+
+    /**
+     * 결제 대기(PENDING) 상태인 주문만 취소 상태로 변경
+     * @return 실제로 취소된 주문 수
+     */
+    int cancelPendingOrders(Collection<Long> orderIds);
+
+    /**
+     * 현재 상태가 from 인 주문만 to 로 일괄 전환
+     * 청크 단위로 행 잠금 조회 후 UPDATE ... WHERE id IN (...) AND status = from 을 실행한다.
+     * @return 주문별 전환 결과 (중복 ID는 한 번만 포함)
+     */
+    List<OrderStatusTransition> transitionStatus(List<Long> orderIds, OrderStatus from, OrderStatus to);
 
     List<OrderItemEntity> findByOrderId(Long orderId);
 
+    List<OrderItemEntity> findItemsByOrderIds(Collection<Long> orderIds);
+
     OrderItemEntity saveOrderItem(OrderItemEntity orderItem);
 
     void saveAll(List<OrderItemEntity> orderItems);
@@ -25,6 +58,4 @@ public interface OrderRepository {
     List<OrderEntity> saveAllOrder(List<OrderEntity> orders);
 
     void delete(OrderEntity order);
-
-    List<OrderEntity> findByUserId(Long userId);
 }
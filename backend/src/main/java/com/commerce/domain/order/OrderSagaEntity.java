@@ -0,0 +1,75 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * 주문 생성 사가 로그
+ * 단계별 실행 기록은 {@link OrderSagaStepEntity} 에 남기고, 중단된 사가는 복구 워커가 이어서 완료하거나 보상한다.
+ */
+@Table(
+    name = "order_sagas",
+    indexes = {
+        @Index(name = "idx_order_sagas_status_updated", columnList = "status, updated_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class OrderSagaEntity {
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = true, name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = true, name = "user_coupon_id")
+    private Long userCouponId;
+
+    @Builder.Default
+    @Column(nullable = false, name = "status")
+    @Enumerated(EnumType.STRING)
+    private OrderSagaStatus status = OrderSagaStatus.STARTED;
+
+    @Column(nullable = false, name = "reservation_expires_at")
+    private LocalDateTime reservationExpiresAt;
+
+    @Column(nullable = false, name = "created_at")
+    @CreationTimestamp
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false, name = "updated_at")
+    @UpdateTimestamp
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public static OrderSagaEntity start(Long userId, Long userCouponId, LocalDateTime reservationExpiresAt) {
+        return OrderSagaEntity.builder()
+            .userId(userId)
+            .userCouponId(userCouponId)
+            .status(OrderSagaStatus.STARTED)
+            .reservationExpiresAt(reservationExpiresAt)
+            .build();
+    }
+}
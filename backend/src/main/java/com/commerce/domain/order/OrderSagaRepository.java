@@ -0,0 +1,42 @@
+package com.commerce.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderSagaRepository {
+
+    OrderSagaEntity save(OrderSagaEntity saga);
+
+    Optional<OrderSagaEntity> findById(Long sagaId);
+
+    /**
+     * 사가를 공유 잠금(FOR SHARE)으로 조회
+     * 동시에 실행되는 단계끼리는 막지 않고, 상태 변경(보상 시작)과는 직렬화된다.
+     */
+    Optional<OrderSagaEntity> findByIdForShare(Long sagaId);
+
+    int attachOrder(Long sagaId, Long orderId);
+
+    /**
+     * 현재 상태가 from 일 때만 to 로 변경
+     * @return 변경된 행 수 (0 이면 다른 실행자가 먼저 변경)
+     */
+    int updateStatus(Long sagaId, OrderSagaStatus from, OrderSagaStatus to);
+
+    /**
+     * before 이전에 마지막으로 갱신된 진행 중(STARTED/COMPENSATING) 사가 조회
+     */
+    List<OrderSagaEntity> findStale(Collection<OrderSagaStatus> statuses, LocalDateTime before, int size);
+
+    void saveStep(OrderSagaStepEntity step);
+
+    List<OrderSagaStep> findExecutedSteps(Long sagaId);
+
+    /**
+     * 실행 완료(EXECUTED) 단계만 보상 완료로 변경
+     * @return 변경된 행 수 (0 이면 이미 보상됨)
+     */
+    int markStepCompensated(Long sagaId, OrderSagaStep step);
+}
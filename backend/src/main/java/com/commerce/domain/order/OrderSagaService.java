@@ -0,0 +1,99 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.order.exception.OrderErrorCode;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OrderSagaService {
+
+    private final OrderSagaRepository orderSagaRepository;
+
+    @Transactional
+    public OrderSagaEntity start(Long userId, Long userCouponId, LocalDateTime reservationExpiresAt) {
+        return orderSagaRepository.save(OrderSagaEntity.start(userId, userCouponId, reservationExpiresAt));
+    }
+
+    @Transactional(readOnly = true)
+    public OrderSagaEntity getSaga(Long sagaId) {
+        return orderSagaRepository.findById(sagaId)
+            .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_SAGA_ABORTED));
+    }
+
+    /**
+     * 단계 실행 전 사가가 아직 진행 중인지 확인
+     * 단계 트랜잭션이 끝날 때까지 공유 잠금을 유지해, 그 사이 복구 워커가 보상을 시작하지 못하게 한다.
+     */
+    @Transactional
+    public void checkRunning(Long sagaId) {
+        OrderSagaEntity saga = orderSagaRepository.findByIdForShare(sagaId)
+            .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_SAGA_ABORTED));
+        if (saga.getStatus() != OrderSagaStatus.STARTED) {
+            throw new BusinessException(OrderErrorCode.ORDER_SAGA_ABORTED);
+        }
+    }
+
+    @Transactional
+    public void recordStep(Long sagaId, OrderSagaStep step) {
+        orderSagaRepository.saveStep(OrderSagaStepEntity.executed(sagaId, step));
+    }
+
+    @Transactional
+    public void attachOrder(Long sagaId, Long orderId) {
+        orderSagaRepository.attachOrder(sagaId, orderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderSagaStep> getExecutedSteps(Long sagaId) {
+        return orderSagaRepository.findExecutedSteps(sagaId);
+    }
+
+    /**
+     * @return 진행 중이던 사가를 완료 처리했으면 true (이미 보상이 시작됐으면 false)
+     */
+    @Transactional
+    public boolean complete(Long sagaId) {
+        return orderSagaRepository.updateStatus(sagaId, OrderSagaStatus.STARTED, OrderSagaStatus.COMPLETED) == 1;
+    }
+
+    /**
+     * 보상 시작
+     * @return 보상을 진행해야 하면 true (이미 완료/보상 완료된 사가는 false)
+     */
+    @Transactional
+    public boolean beginCompensation(Long sagaId) {
+        if (orderSagaRepository.updateStatus(sagaId, OrderSagaStatus.STARTED, OrderSagaStatus.COMPENSATING) == 1) {
+            return true;
+        }
+        return orderSagaRepository.findById(sagaId)
+            .map(saga -> saga.getStatus() == OrderSagaStatus.COMPENSATING)
+            .orElse(false);
+    }
+
+    /**
+     * @return 이번 호출에서 보상 완료로 표시했으면 true (다른 실행자가 먼저 보상했으면 false)
+     */
+    @Transactional
+    public boolean markStepCompensated(Long sagaId, OrderSagaStep step) {
+        return orderSagaRepository.markStepCompensated(sagaId, step) == 1;
+    }
+
+    @Transactional
+    public void finishCompensation(Long sagaId) {
+        orderSagaRepository.updateStatus(sagaId, OrderSagaStatus.COMPENSATING, OrderSagaStatus.COMPENSATED);
+    }
+
+    /**
+     * before 이후로 진행이 없는 사가 조회 (복구 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<OrderSagaEntity> getStaleSagas(LocalDateTime before, int size) {
+        return orderSagaRepository.findStale(
+            List.of(OrderSagaStatus.STARTED, OrderSagaStatus.COMPENSATING), before, size);
+    }
+}
@@ -0,0 +1,8 @@
+package com.commerce.domain.order;
+
+public enum OrderSagaStatus {
+    STARTED,        // 단계 실행 중
+    COMPLETED,      // 모든 단계 완료
+    COMPENSATING,   // 보상 진행 중
+    COMPENSATED     // 보상 완료
+}
@@ -0,0 +1,11 @@
+package com.commerce.domain.order;
+
+/**
+ * 주문 생성 사가 단계 (선언 순서가 실행 순서, 보상은 역순)
+ * 주문 생성 이후의 재고 선점과 쿠폰 적용은 서로 독립적이라 동시에 실행한다.
+ */
+public enum OrderSagaStep {
+    CREATE_ORDER,   // 주문/주문상품 저장
+    RESERVE_STOCK,  // 재고 차감 + 선점 기록
+    APPLY_COUPON    // 쿠폰 사용 + 할인 적용
+}
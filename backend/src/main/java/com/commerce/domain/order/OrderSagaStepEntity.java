@@ -0,0 +1,70 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * 사가 단계 실행 기록
+ * 단계의 작업과 같은 트랜잭션에서 저장되므로, 기록이 있으면 해당 단계가 반영된 것이다.
+ * 사가 행 대신 단계별 행에 기록해 동시에 실행되는 단계끼리 같은 행을 두고 경합하지 않는다.
+ */
+@Table(
+    name = "order_saga_steps",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_order_saga_steps_saga_step", columnNames = {"saga_id", "step"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class OrderSagaStepEntity {
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(nullable = false, name = "saga_id")
+    private Long sagaId;
+
+    @Column(nullable = false, name = "step")
+    @Enumerated(EnumType.STRING)
+    private OrderSagaStep step;
+
+    @Builder.Default
+    @Column(nullable = false, name = "status")
+    @Enumerated(EnumType.STRING)
+    private OrderSagaStepStatus status = OrderSagaStepStatus.EXECUTED;
+
+    @Column(nullable = false, name = "created_at")
+    @CreationTimestamp
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false, name = "updated_at")
+    @UpdateTimestamp
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public static OrderSagaStepEntity executed(Long sagaId, OrderSagaStep step) {
+        return OrderSagaStepEntity.builder()
+            .sagaId(sagaId)
+            .step(step)
+            .status(OrderSagaStepStatus.EXECUTED)
+            .build();
+    }
+}
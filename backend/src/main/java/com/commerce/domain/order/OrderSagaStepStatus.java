@@ -0,0 +1,6 @@
+package com.commerce.domain.order;
+
+public enum OrderSagaStepStatus {
+    EXECUTED,       // 실행 완료 (보상 대상)
+    COMPENSATED     // 보상 완료
+}
@@ -3,15 +3,23 @@ package com.commerce.domain.order;
 import com.commerce.application.order.OrderCommand;
 import com.commerce.application.order.OrderCommand.OrderProduct;
 import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.order.event.OrderCreatedEvent;
+import com.commerce.domain.order.event.OrderDeletedEvent;
+import com.commerce.domain.order.event.OrderDiscountAppliedEvent;
+import com.commerce.domain.order.event.OrderStatusChangedEvent;
 import com.commerce.domain.order.exception.OrderErrorCode;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,37 +28,136 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private OrderEntity currentOrder;
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderExportRepository orderExportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 주문 생성
+     * @param unitPrices 상품 ID별 주문 시점 단가 (서버에서 조회한 가격)
+     */
     @Transactional
-    public Long createOrder(OrderCommand command, List<Long> productAmounts) {
+    public Long createOrder(OrderCommand command, Map<Long, Long> unitPrices) {
         List<OrderProduct> sortedItems = command.orderItem().stream()
             .sorted(Comparator.comparing(OrderProduct::productId))
             .collect(Collectors.toList());
 
-        OrderEntity order = OrderEntity.create(command.userId(), command.userCouponId());
+        OrderEntity order = OrderEntity.create(command.userId(), command.userCouponId(), command.requestKey());
 
-        for (int i = 0; i < sortedItems.size(); i++) {
-            OrderProduct item = sortedItems.get(i);
-            Long amount = productAmounts.get(i);
-            order.addOrderItem(item.productId(), item.quantity(), amount);
+        for (OrderProduct item : sortedItems) {
+            order.addOrderItem(item.productId(), item.quantity(), unitPrices.get(item.productId()));
         }
 
         OrderEntity saved = orderRepository.save(order);
         orderRepository.saveAll(order.getOrderItems());
-        this.currentOrder = saved;
+        eventPublisher.publishEvent(new OrderCreatedEvent(saved.getId()));
         return saved.getId();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void rollbackOrder() {
-        if (currentOrder != null) {
-            try {
-                orderRepository.delete(currentOrder);
-            } catch (Exception e) {
-                log.error("보상 실패 - 주문 삭제 실패", e);
-            }
+    /**
+     * 주문 수량만큼 재고 선점 기록 생성
+     * 주문 행을 잠그고 결제 대기 상태인지 다시 확인한다. 사가에서는 주문이 먼저 커밋되므로
+     * 그 사이 확정/취소된 주문에 선점이 붙지 않게 하기 위함이다.
+     */
+    @Transactional
+    public void reserveStock(Long orderId, Map<Long, Long> quantities, LocalDateTime expiresAt) {
+        if (orderRepository.findPendingOrderIdsForUpdate(List.of(orderId)).isEmpty()) {
+            throw new BusinessException(OrderErrorCode.ORDER_STATUS_INVALID);
         }
+        List<StockReservationEntity> reservations = new TreeMap<>(quantities).entrySet().stream()
+            .map(e -> StockReservationEntity.create(orderId, e.getKey(), e.getValue(), expiresAt))
+            .toList();
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 주문 확정 시 선점을 확정 상태로 전환 (이후 만료 대상에서 제외)
+     */
+    @Transactional
+    public void confirmReservations(Long orderId) {
+        stockReservationRepository.confirmByOrderId(orderId);
+    }
+
+    /**
+     * 선점 해제 및 결제 대기 주문 취소
+     * 선점 -> 주문 순으로 행 잠금을 잡은 뒤, 결제 대기 주문은 한 번의 UPDATE ... WHERE status = 'PENDING' 으로 취소한다.
+     * 이미 확정/해제된 선점은 잠금 조회 단계에서 걸러지므로 여러 번 호출해도 한 번만 반영된다.
+     * 복원은 선점 기록만 기준으로 한다. 선점 기록이 없는 결제 대기 주문(선점 도입 이전 주문, 생성 중이거나
+     * 보상 중인 사가 주문)은 차감된 재고가 없거나 사가 보상이 따로 복원하므로 취소만 한다.
+     * @return 복원해야 할 상품별 수량
+     */
+    @Transactional
+    public Map<Long, Long> releaseOrders(Collection<Long> orderIds) {
+        List<StockReservationEntity> reservations = stockReservationRepository.findReservedByOrderIdsForUpdate(orderIds);
+        List<Long> pendingOrderIds = orderRepository.findPendingOrderIdsForUpdate(orderIds);
+
+        Map<Long, Long> restored = new TreeMap<>();
+        reservations.forEach(r -> restored.merge(r.getProductId(), r.getQuantity(), Long::sum));
+        stockReservationRepository.updateStatus(
+            reservations.stream().map(StockReservationEntity::getId).toList(), ReservationStatus.RELEASED);
+
+        orderRepository.cancelPendingOrders(pendingOrderIds);
+        if (!pendingOrderIds.isEmpty()) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(pendingOrderIds, OrderStatus.CANCELLED));
+        }
+        return restored;
+    }
+
+    /**
+     * cutoff 이전에 생성된 결제 대기 주문 키를 keyset 방식으로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<OrderKey> getExpiredPendingOrderKeys(LocalDateTime cutoff, OrderKey after, int size) {
+        return orderRepository.findPendingOrderKeysBefore(cutoff, after, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationExpiry> getReservedExpiries() {
+        return stockReservationRepository.findReservedExpiries();
+    }
+
+    /**
+     * 한 주문의 선점만 해제 (주문 상태는 그대로 둔다)
+     * 만료 처리와 같은 선점 잠금을 거치므로 이미 해제/확정된 선점은 다시 복원되지 않는다.
+     * @return 복원해야 할 상품별 수량
+     */
+    @Transactional
+    public Map<Long, Long> releaseReservations(Long orderId) {
+        List<StockReservationEntity> reservations = stockReservationRepository.findReservedByOrderIdsForUpdate(List.of(orderId));
+        Map<Long, Long> restored = new TreeMap<>();
+        reservations.forEach(r -> restored.merge(r.getProductId(), r.getQuantity(), Long::sum));
+        stockReservationRepository.updateStatus(
+            reservations.stream().map(StockReservationEntity::getId).toList(), ReservationStatus.RELEASED);
+        return restored;
+    }
+
+    /**
+     * 확정된 주문의 선점 해제 (확정 후 취소)
+     * 확정된 선점은 만료 대상이 아니므로 취소할 때 여기서 RELEASED 로 바꾼다.
+     * 같은 선점 잠금을 거치므로 여러 번 호출해도 한 번만 복원된다.
+     * @return 복원해야 할 상품별 수량
+     */
+    @Transactional
+    public Map<Long, Long> releaseConfirmedReservations(Long orderId) {
+        List<StockReservationEntity> reservations = stockReservationRepository.findConfirmedByOrderIdForUpdate(orderId);
+        Map<Long, Long> restored = new TreeMap<>();
+        reservations.forEach(r -> restored.merge(r.getProductId(), r.getQuantity(), Long::sum));
+        stockReservationRepository.updateStatus(
+            reservations.stream().map(StockReservationEntity::getId).toList(), ReservationStatus.RELEASED);
+        return restored;
+    }
+
+    /**
+     * 주문 생성 보상 - 주문/주문상품/조회 모델 삭제
+     */
+    @Transactional
+    public void deleteOrder(Long orderId) {
+        orderRepository.findById(orderId).ifPresent(order -> {
+            eventPublisher.publishEvent(new OrderDeletedEvent(orderId));
+            orderRepository.delete(order);
+        });
+        orderSummaryRepository.deleteById(orderId);
     }
 
     @Transactional(readOnly = true)
@@ -59,12 +166,55 @@ public class OrderService {
             .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
     }
 
+    /**
+     * 멱등 키로 이미 생성된 주문 조회
+     * @return 멱등 키별 주문 ID (생성되지 않은 키는 포함하지 않는다)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getOrderIdsByRequestKeys(Collection<String> requestKeys) {
+        return orderRepository.findOrderIdsByRequestKeys(requestKeys);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderEntity> getOrders(Collection<Long> orderIds) {
+        return orderRepository.findAllByIds(orderIds);
+    }
+
     @Transactional
     public void updateOrderStatus(Long orderId, OrderStatus status) {
         OrderEntity order = orderRepository.findById(orderId)
             .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
+        if (!order.getStatus().canTransitionTo(status)) {
+            throw new BusinessException(OrderErrorCode.ORDER_STATUS_TRANSITION_INVALID);
+        }
         order.updateStatus(status);
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(List.of(orderId), status));
+    }
+
+    /**
+     * 주문 상태 일괄 전환 (현재 상태가 from 인 주문만)
+     * 확정(CONFIRMED)으로 전환된 주문은 재고 선점도 함께 확정한다.
+     * @return 주문별 전환 결과
+     */
+    @Transactional
+    public List<OrderStatusTransition> transitionStatus(List<Long> orderIds, OrderStatus from, OrderStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new BusinessException(OrderErrorCode.ORDER_STATUS_TRANSITION_INVALID);
+        }
+
+        List<OrderStatusTransition> results = orderRepository.transitionStatus(orderIds, from, to);
+        List<Long> transitioned = results.stream()
+            .filter(OrderStatusTransition::transitioned)
+            .map(OrderStatusTransition::orderId)
+            .toList();
+        if (!transitioned.isEmpty()) {
+            if (to == OrderStatus.CONFIRMED) {
+                stockReservationRepository.confirmByOrderIds(transitioned);
+            }
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(transitioned, to));
+        }
+        return results;
     }
 
     @Transactional
@@ -73,6 +223,7 @@ public class OrderService {
             .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
         order.applyCouponDiscount(discountAmount);
         orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderDiscountAppliedEvent(orderId, discountAmount, order.getTotalAmount()));
     }
 
     @Transactional(readOnly = true)
@@ -80,8 +231,64 @@ public class OrderService {
         return orderRepository.findByOrderId(orderId);
     }
 
+    /**
+     * 취소 상태이면서 쿠폰을 사용한 주문 (만료/취소 시 쿠폰 복원 대상)
+     */
+    @Transactional(readOnly = true)
+    public List<OrderEntity> getCancelledCouponOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findAllByIds(orderIds).stream()
+            .filter(order -> order.getStatus() == OrderStatus.CANCELLED && order.getCouponId() != null)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderItemEntity> getOrderItems(Collection<Long> orderIds) {
+        return orderRepository.findItemsByOrderIds(orderIds);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderSummaryEntity getOrderSummary(Long orderId) {
+        return orderSummaryRepository.findById(orderId)
+            .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
+    }
+
     @Transactional(readOnly = true)
-    public List<OrderEntity> getOrdersByUserId(Long userId) {
-        return orderRepository.findByUserId(userId);
+    public List<OrderSummaryEntity> getOrderSummaries(Long userId, OrderKey before, int size) {
+        return orderSummaryRepository.findByUserIdBefore(userId, before, size);
+    }
+
+    /**
+     * 주문 내보내기
+     * 트랜잭션 없이 스트리밍 조회 하나로 읽어 행마다 consumer 에 넘긴다.
+     */
+    public void exportOrders(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> consumer) {
+        orderExportRepository.stream(from, to, consumer);
+    }
+
+    @Transactional
+    public void saveOrderSummary(OrderSummaryEntity summary) {
+        orderSummaryRepository.save(summary);
+    }
+
+    @Transactional
+    public void updateOrderSummaryStatus(Collection<Long> orderIds, OrderStatus status) {
+        orderSummaryRepository.updateStatus(orderIds, status);
+    }
+
+    @Transactional
+    public void updateOrderSummaryTotalAmount(Long orderId, Long totalAmount) {
+        orderSummaryRepository.updateTotalAmount(orderId, totalAmount);
+    }
+
+    /**
+     * 조회 모델이 없는 주문의 요약 생성
+     * @return 생성된 요약 수
+     */
+    @Transactional
+    public int backfillOrderSummaries(int limit) {
+        return orderSummaryRepository.backfillMissing(limit);
     }
 }
@@ -5,5 +5,18 @@ public enum OrderStatus {
     CONFIRMED,    // 확인됨
     SHIPPED,      // 배송됨
     DELIVERED,    // 배송 완료
-    CANCELLED     // 취소됨
+    CANCELLED;    // 취소됨
+
+    /**
+     * 주문 상태 전이 규칙
+     * PENDING -> CONFIRMED | CANCELLED, CONFIRMED -> SHIPPED | CANCELLED, SHIPPED -> DELIVERED
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PENDING -> next == CONFIRMED || next == CANCELLED;
+            case CONFIRMED -> next == SHIPPED || next == CANCELLED;
+            case SHIPPED -> next == DELIVERED;
+            case DELIVERED, CANCELLED -> false;
+        };
+    }
 }
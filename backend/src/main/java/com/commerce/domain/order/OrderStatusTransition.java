@@ -0,0 +1,21 @@
+package com.commerce.domain.order;
+
+/**
+ * 주문 한 건의 상태 전환 결과
+ * @param currentStatus 전환 후 상태 (전환되지 않았으면 현재 상태, 주문이 없으면 null)
+ */
+public record OrderStatusTransition(
+    Long orderId,
+    Outcome outcome,
+    OrderStatus currentStatus
+) {
+    public enum Outcome {
+        TRANSITIONED,       // 전환됨
+        STATUS_MISMATCH,    // 현재 상태가 from 과 달라 건너뜀
+        NOT_FOUND           // 주문 없음
+    }
+
+    public boolean transitioned() {
+        return outcome == Outcome.TRANSITIONED;
+    }
+}
@@ -0,0 +1,78 @@
+package com.commerce.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 주문 조회 전용 모델
+ * 주문 헤더와 주문 상품(상품명/이미지 스냅샷)을 한 행에 담아 조회 시 orders/order_items 를 읽지 않는다.
+ * 주문 도메인 이벤트로만 갱신된다.
+ */
+@Table(
+    name = "order_summaries",
+    indexes = @Index(name = "idx_order_summaries_user_created", columnList = "user_id, created_at, order_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class OrderSummaryEntity {
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = true, name = "coupon_id")
+    private Long couponId;
+
+    @Column(nullable = false, name = "status")
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(nullable = false, name = "total_amount")
+    private Long totalAmount;
+
+    @Column(nullable = false, name = "item_count")
+    private Integer itemCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, name = "items", columnDefinition = "json")
+    private List<OrderSummaryItem> items;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static OrderSummaryEntity of(OrderEntity order, List<OrderSummaryItem> items) {
+        return OrderSummaryEntity.builder()
+            .orderId(order.getId())
+            .userId(order.getUserId())
+            .couponId(order.getCouponId())
+            .status(order.getStatus())
+            .totalAmount(order.getTotalAmount())
+            .itemCount(items.size())
+            .items(items)
+            .createdAt(order.getCreatedAt())
+            .updatedAt(order.getUpdatedAt())
+            .build();
+    }
+}
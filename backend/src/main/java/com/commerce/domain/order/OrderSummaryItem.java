@@ -0,0 +1,14 @@
+package com.commerce.domain.order;
+
+/**
+ * 주문 요약에 함께 저장되는 주문 상품 스냅샷 (주문 시점 상품명/이미지 포함)
+ */
+public record OrderSummaryItem(
+    Long id,
+    Long productId,
+    String productName,
+    String imageUrl,
+    Long quantity,
+    Long amount
+) {
+}
@@ -0,0 +1,29 @@
+package com.commerce.domain.order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderSummaryRepository {
+
+    void save(OrderSummaryEntity summary);
+
+    Optional<OrderSummaryEntity> findById(Long orderId);
+
+    /**
+     * 사용자 주문 요약을 최신순((createdAt, orderId) 내림차순)으로 before 다음부터 최대 size 건 조회
+     */
+    List<OrderSummaryEntity> findByUserIdBefore(Long userId, OrderKey before, int size);
+
+    int updateStatus(Collection<Long> orderIds, OrderStatus status);
+
+    int updateTotalAmount(Long orderId, Long totalAmount);
+
+    void deleteById(Long orderId);
+
+    /**
+     * 요약이 없는 주문을 최대 limit 건 orders/order_items/products 로부터 생성
+     * @return 생성된 요약 수
+     */
+    int backfillMissing(int limit);
+}
@@ -0,0 +1,22 @@
+package com.commerce.domain.order;
+
+/**
+ * 비동기 주문 접수 티켓
+ * 완료되면 orderId, 실패하면 errorCode/message 가 채워진다.
+ */
+public record OrderTicket(
+    String ticketId,
+    Long userId,
+    OrderTicketStatus status,
+    Long orderId,
+    String errorCode,
+    String message
+) {
+    public static OrderTicket queued(String ticketId, Long userId) {
+        return new OrderTicket(ticketId, userId, OrderTicketStatus.QUEUED, null, null, null);
+    }
+
+    public boolean finished() {
+        return status == OrderTicketStatus.COMPLETED || status == OrderTicketStatus.FAILED;
+    }
+}
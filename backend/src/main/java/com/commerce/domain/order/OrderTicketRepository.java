@@ -0,0 +1,19 @@
+package com.commerce.domain.order;
+
+import java.util.Optional;
+
+public interface OrderTicketRepository {
+
+    void save(OrderTicket ticket);
+
+    Optional<OrderTicket> findById(String ticketId);
+
+    /**
+     * 처리 시작 (원자적 비교 후 변경)
+     * 완료/실패한 티켓이나 다른 워커의 처리 임대가 남아 있는 티켓은 바꾸지 않는다.
+     * @return PROCESSING 으로 바꾸고 leaseMillis 동안 처리 임대를 얻었으면 true
+     */
+    boolean markProcessing(String ticketId, Long userId, long leaseMillis);
+
+    void delete(String ticketId);
+}
@@ -0,0 +1,67 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.response.BaseResponseCode;
+import com.commerce.domain.order.exception.OrderErrorCode;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class OrderTicketService {
+
+    private final OrderTicketRepository orderTicketRepository;
+
+    @Value("${commerce.order.intake.processing-lease-ms:30000}")
+    private long processingLeaseMs;
+
+    public OrderTicket issue(Long userId) {
+        OrderTicket ticket = OrderTicket.queued(UUID.randomUUID().toString(), userId);
+        orderTicketRepository.save(ticket);
+        return ticket;
+    }
+
+    public OrderTicket getTicket(String ticketId, Long userId) {
+        OrderTicket ticket = orderTicketRepository.findById(ticketId)
+            .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_TICKET_NOT_FOUND));
+        if (!ticket.userId().equals(userId)) {
+            throw new BusinessException(OrderErrorCode.ORDER_TICKET_NOT_FOUND);
+        }
+        return ticket;
+    }
+
+    /**
+     * 처리 시작 표시 (원자적)
+     * 처리 중에 프로세스가 중단되면 임대가 끝난 뒤 재전달된 메시지로 다시 처리할 수 있다.
+     * @return 처리 권한을 얻었으면 true, 이미 끝났거나 다른 워커가 처리 중이면 false
+     */
+    public boolean markProcessing(String ticketId, Long userId) {
+        return orderTicketRepository.markProcessing(ticketId, userId, processingLeaseMs);
+    }
+
+    /**
+     * 처리가 끝난(완료/실패) 티켓인지 확인
+     */
+    public boolean isFinished(String ticketId) {
+        return orderTicketRepository.findById(ticketId)
+            .map(OrderTicket::finished)
+            .orElse(false);
+    }
+
+    public void complete(String ticketId, Long userId, Long orderId) {
+        orderTicketRepository.save(new OrderTicket(ticketId, userId, OrderTicketStatus.COMPLETED, orderId, null, null));
+    }
+
+    public void fail(String ticketId, Long userId, BaseResponseCode code, String message) {
+        orderTicketRepository.save(new OrderTicket(ticketId, userId, OrderTicketStatus.FAILED, null, code.getStatus(), message));
+    }
+
+    /**
+     * 대기열 등록에 실패한 티켓 정리
+     */
+    public void discard(String ticketId) {
+        orderTicketRepository.delete(ticketId);
+    }
+}
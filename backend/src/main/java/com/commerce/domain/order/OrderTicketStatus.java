@@ -0,0 +1,8 @@
+package com.commerce.domain.order;
+
+public enum OrderTicketStatus {
+    QUEUED,       // 접수 대기열 등록
+    PROCESSING,   // 주문 생성 중
+    COMPLETED,    // 주문 생성 완료
+    FAILED        // 주문 생성 실패
+}
@@ -0,0 +1,12 @@
+package com.commerce.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문별 재고 선점 만료 시각
+ */
+public record ReservationExpiry(
+    Long orderId,
+    LocalDateTime expiresAt
+) {
+}
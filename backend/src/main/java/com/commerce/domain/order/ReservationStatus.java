@@ -0,0 +1,7 @@
+package com.commerce.domain.order;
+
+public enum ReservationStatus {
+    RESERVED,     // 재고 선점 중
+    CONFIRMED,    // 주문 확정 (재고 소진)
+    RELEASED      // 만료/취소로 재고 반환
+}
@@ -0,0 +1,77 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * 주문 생성 시 차감한 재고의 선점 기록
+ * 결제(확정) 전에 expiresAt 이 지나면 선점이 해제되고 재고가 복원된다.
+ */
+@Table(
+    name = "stock_reservations",
+    indexes = {
+        @Index(name = "idx_stock_reservation_order", columnList = "order_id"),
+        @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class StockReservationEntity {
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(nullable = false, name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = false, name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, name = "quantity")
+    private Long quantity;
+
+    @Builder.Default
+    @Column(nullable = false, name = "status")
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status = ReservationStatus.RESERVED;
+
+    @Column(nullable = false, name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, name = "created_at")
+    @CreationTimestamp
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(nullable = false, name = "updated_at")
+    @UpdateTimestamp
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public static StockReservationEntity create(Long orderId, Long productId, Long quantity, LocalDateTime expiresAt) {
+        return StockReservationEntity.builder()
+            .orderId(orderId)
+            .productId(productId)
+            .quantity(quantity)
+            .status(ReservationStatus.RESERVED)
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.commerce.domain.order;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository {
+
+    void saveAll(List<StockReservationEntity> reservations);
+
+    /**
+     * 선점 중(RESERVED)인 예약을 주문 ID로 조회하며 행 잠금을 건다
+     */
+    List<StockReservationEntity> findReservedByOrderIdsForUpdate(Collection<Long> orderIds);
+
+    /**
+     * 확정(CONFIRMED)된 예약을 주문 ID로 조회하며 행 잠금을 건다
+     */
+    List<StockReservationEntity> findConfirmedByOrderIdForUpdate(Long orderId);
+
+    int updateStatus(Collection<Long> reservationIds, ReservationStatus status);
+
+    int confirmByOrderId(Long orderId);
+
+    int confirmByOrderIds(Collection<Long> orderIds);
+
+    /**
+     * 선점 중인 주문별 만료 시각 (타이머 재구성용)
+     */
+    List<ReservationExpiry> findReservedExpiries();
+}
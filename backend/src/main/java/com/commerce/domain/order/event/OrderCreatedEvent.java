@@ -0,0 +1,6 @@
+package com.commerce.domain.order.event;
+
+public record OrderCreatedEvent(
+    Long orderId
+) {
+}
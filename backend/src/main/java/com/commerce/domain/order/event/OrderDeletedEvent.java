@@ -0,0 +1,10 @@
+package com.commerce.domain.order.event;
+
+/**
+ * 주문 삭제 (사가 보상)
+ * 삭제 직전에 같은 트랜잭션 안에서 동기로 발행되므로 구독자는 아직 주문을 읽을 수 있다.
+ */
+public record OrderDeletedEvent(
+    Long orderId
+) {
+}
@@ -0,0 +1,8 @@
+package com.commerce.domain.order.event;
+
+public record OrderDiscountAppliedEvent(
+    Long orderId,
+    Long discountAmount,
+    Long totalAmount
+) {
+}
@@ -0,0 +1,13 @@
+package com.commerce.domain.order.event;
+
+import com.commerce.domain.order.OrderStatus;
+import java.util.List;
+
+/**
+ * 주문 상태 변경 (일괄 변경은 한 이벤트로 묶어서 발행)
+ */
+public record OrderStatusChangedEvent(
+    List<Long> orderIds,
+    OrderStatus status
+) {
+}
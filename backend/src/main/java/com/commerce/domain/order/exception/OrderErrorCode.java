@@ -17,10 +17,16 @@ public enum OrderErrorCode implements BaseResponseCode {
     USER_NOT_FOUND(404, "User Not Found", "사용자를 찾을 수 없습니다."),
     ORDER_NOT_FOUND(404, "Order Not Found", "주문을 찾을 수 없습니다."),
     ORDER_ITEM_NOT_FOUND(404, "Order Item Not Found", "주문상품을 찾을 수 없습니다."),
+    ORDER_TICKET_NOT_FOUND(404, "Order Ticket Not Found", "주문 접수 내역을 찾을 수 없습니다."),
 
     // 409 - 비즈니스 충돌
     ORDER_STATUS_INVALID(409, "Order Status Invalid", "결제가 불가능한 주문 상태입니다."),
-    INSUFFICIENT_STOCK(409, "Insufficient Stock", "재고가 부족합니다.");
+    ORDER_STATUS_TRANSITION_INVALID(409, "Order Status Transition Invalid", "변경할 수 없는 주문 상태입니다."),
+    INSUFFICIENT_STOCK(409, "Insufficient Stock", "재고가 부족합니다."),
+    ORDER_SAGA_ABORTED(409, "Order Saga Aborted", "주문 처리가 중단되었습니다. 다시 시도해주세요."),
+
+    // 503 - 일시적 처리 불가
+    ORDER_QUEUE_FULL(503, "Order Queue Full", "주문 접수량이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final String status;
@@ -1,5 +1,6 @@
 package com.commerce.domain.product;
 
+import com.commerce.common.id.CommerceId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +18,7 @@ import java.util.List;
 public class CategoryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
     @Column(nullable = false, unique = true)
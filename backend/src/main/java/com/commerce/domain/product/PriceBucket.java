@@ -0,0 +1,29 @@
+package com.commerce.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 필터용 가격대 [minPrice, maxPrice)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PriceBucket {
+    UNDER_10K(0L, 10_000L),
+    FROM_10K_TO_30K(10_000L, 30_000L),
+    FROM_30K_TO_50K(30_000L, 50_000L),
+    FROM_50K_TO_100K(50_000L, 100_000L),
+    OVER_100K(100_000L, Long.MAX_VALUE);
+
+    private final long minPrice;
+    private final long maxPrice;
+
+    public static PriceBucket of(long price) {
+        for (PriceBucket bucket : values()) {
+            if (price < bucket.maxPrice) {
+                return bucket;
+            }
+        }
+        return OVER_100K;
+    }
+}
@@ -1,15 +1,27 @@
 package com.commerce.domain.product;
 
 import com.commerce.common.exception.BusinessException;
+import com.commerce.common.id.CommerceId;
 import com.commerce.domain.product.exception.ProductErrorCode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(
+        name = "products",
+        indexes = {
+                @Index(name = "idx_products_created", columnList = "created_at, id"),
+                @Index(name = "idx_products_price", columnList = "price, id"),
+                @Index(name = "idx_products_name", columnList = "name, id"),
+                @Index(name = "idx_products_category_created", columnList = "category_id, created_at, id"),
+                @Index(name = "idx_products_category_price", columnList = "category_id, price, id"),
+                @Index(name = "idx_products_category_name", columnList = "category_id, name, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -17,16 +29,16 @@ import java.time.LocalDateTime;
 public class ProductEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, name = "name")
     private String name;
 
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    @Column(nullable = false, name = "price")
     private Long price;
 
     @Column(nullable = false)
@@ -40,11 +52,22 @@ public class ProductEntity {
     private String imageUrl;
 
     @CreationTimestamp
-    @Column(nullable = false, updatable = false)
+    @Column(nullable = false, updatable = false, name = "created_at")
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
 
+    // 0 이면 샤딩 미사용, 샤딩 시 stock 은 샤드 합계의 캐시
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer stockShardCount = 0;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public static ProductEntity create(String name, String description, Long price, Long stock, CategoryEntity category, String imageUrl) {
         return ProductEntity.builder()
                 .name(name)
@@ -78,4 +101,20 @@ public class ProductEntity {
         this.stock += quantity;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public boolean isStockSharded() {
+        return this.stockShardCount != null && this.stockShardCount > 0;
+    }
+
+    public void enableStockSharding(Integer shardCount, Long totalStock) {
+        this.stockShardCount = shardCount;
+        this.stock = totalStock;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void disableStockSharding(Long totalStock) {
+        this.stockShardCount = 0;
+        this.stock = totalStock;
+        this.updatedAt = LocalDateTime.now();
+    }
 }
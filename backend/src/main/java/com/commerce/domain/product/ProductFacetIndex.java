@@ -0,0 +1,20 @@
+package com.commerce.domain.product;
+
+/**
+ * 카테고리/가격대/재고 유무 필터와 필터별 건수를 메모리에서 계산하는 색인
+ */
+public interface ProductFacetIndex {
+
+    boolean isReady();
+
+    ProductFacetResult query(ProductFacetQuery query, int offset, int limit);
+
+    void index(Long productId, Long categoryId, Long price, boolean inStock);
+
+    void remove(Long productId);
+
+    /**
+     * 전체 상품으로 색인을 새로 만들어 교체
+     */
+    void rebuild();
+}
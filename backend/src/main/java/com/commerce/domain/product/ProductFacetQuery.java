@@ -0,0 +1,17 @@
+package com.commerce.domain.product;
+
+import java.util.Set;
+
+/**
+ * 필터 조건 (같은 필터 안의 값은 OR, 필터끼리는 AND, 비어 있거나 null 이면 적용하지 않는다)
+ */
+public record ProductFacetQuery(
+        Set<Long> categoryIds,
+        Set<PriceBucket> priceBuckets,
+        Boolean inStock
+) {
+    public ProductFacetQuery {
+        categoryIds = categoryIds == null ? Set.of() : Set.copyOf(categoryIds);
+        priceBuckets = priceBuckets == null ? Set.of() : Set.copyOf(priceBuckets);
+    }
+}
@@ -0,0 +1,20 @@
+package com.commerce.domain.product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 결과
+ * 각 필터의 값별 건수는 그 필터를 뺀 나머지 조건으로 센다 (다른 값을 골랐을 때 나올 건수).
+ * @param productIds     최신순 상품 ID (요청한 페이지만)
+ * @param categoryCounts 카테고리 ID별 상품 수
+ * @param inStockCount   재고 있는 상품 수
+ */
+public record ProductFacetResult(
+        long total,
+        List<Long> productIds,
+        Map<Long, Long> categoryCounts,
+        Map<PriceBucket, Long> priceBucketCounts,
+        long inStockCount
+) {
+}
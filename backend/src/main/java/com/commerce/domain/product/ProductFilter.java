@@ -0,0 +1,15 @@
+package com.commerce.domain.product;
+
+/**
+ * 상품 목록 조건 (null 인 조건은 적용하지 않는다)
+ * @param inStock true 면 재고가 있는 상품만
+ * @param keyword 상품명 부분 일치
+ */
+public record ProductFilter(
+        Long categoryId,
+        Long minPrice,
+        Long maxPrice,
+        Boolean inStock,
+        String keyword
+) {
+}
@@ -0,0 +1,11 @@
+package com.commerce.domain.product;
+
+/**
+ * 상품 목록 keyset 위치 (정렬 값 + ID)
+ * @param sortValue {@link ProductSort} 에 따른 생성 시각/가격/이름
+ */
+public record ProductKey(
+        Object sortValue,
+        Long id
+) {
+}
@@ -0,0 +1,17 @@
+package com.commerce.domain.product;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 상품 재고 변경 락
+ * 같은 상품의 재고를 바꾸는 작업을 노드 간에 직렬화한다.
+ */
+public interface ProductLockManager {
+
+    /**
+     * 상품들의 락을 모두 잡은 상태에서 action 을 실행
+     * 대기 시간 안에 락을 얻지 못하면 LOCK_ACQUISITION_FAILED 로 실패한다.
+     */
+    <T> T executeWithLocks(Collection<Long> productIds, Supplier<T> action);
+}
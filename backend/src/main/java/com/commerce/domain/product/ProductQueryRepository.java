@@ -0,0 +1,27 @@
+package com.commerce.domain.product;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 목록 조회 전용 저장소
+ * 엔티티 대신 필요한 컬럼만 {@link ProductSummary} 로 바로 읽어 영속성 컨텍스트를 거치지 않는다.
+ */
+public interface ProductQueryRepository {
+
+    /**
+     * 오프셋 페이지 (관리/백오피스용, 전체 건수 포함)
+     */
+    Page<ProductSummary> findSummaries(ProductFilter filter, Pageable pageable);
+
+    /**
+     * keyset 방식 목록 (전체 건수 없음)
+     * @param after null 이면 첫 페이지
+     */
+    List<ProductSummary> findSummaries(ProductFilter filter, ProductSort sort, ProductKey after, int size);
+
+    List<ProductSummary> findSummariesByIds(Collection<Long> productIds);
+}
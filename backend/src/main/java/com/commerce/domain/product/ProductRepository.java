@@ -3,14 +3,22 @@ package com.commerce.domain.product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
     ProductEntity save(ProductEntity product);
     Optional<ProductEntity> findById(Long id);
-    Page<ProductEntity> findPagedProducts(Pageable pageable);
-    Page<ProductEntity> findByCategoryId(Long categoryId, Pageable pageable);
-    List<ProductEntity> findByNameContaining(String keyword);
+    List<ProductEntity> findAllByIds(Collection<Long> ids);
+    Page<ProductEntity> findByNameContaining(String keyword, Pageable pageable);
     void deleteById(Long id);
+
+    /**
+     * 조건부 재고 차감을 하나의 JDBC 배치로 실행하고, 차감에 실패한 상품 ID를 반환한다.
+     */
+    List<Long> decreaseStockBatch(Map<Long, Long> quantities);
+
+    void increaseStockBatch(Map<Long, Long> quantities);
 }
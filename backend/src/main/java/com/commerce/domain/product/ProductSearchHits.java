@@ -0,0 +1,15 @@
+package com.commerce.domain.product;
+
+import java.util.List;
+
+/**
+ * 검색 결과 (관련도 순 상품 ID와 전체 일치 수)
+ */
+public record ProductSearchHits(
+        long total,
+        List<Long> productIds
+) {
+    public static ProductSearchHits empty() {
+        return new ProductSearchHits(0, List.of());
+    }
+}
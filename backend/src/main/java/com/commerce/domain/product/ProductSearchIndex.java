@@ -0,0 +1,24 @@
+package com.commerce.domain.product;
+
+/**
+ * 상품 검색 색인 (상품명/설명)
+ * 준비되지 않은 동안(기동 직후 재색인 중 등)에는 DB 검색으로 대신한다.
+ */
+public interface ProductSearchIndex {
+
+    boolean isReady();
+
+    /**
+     * 키워드의 모든 n-gram 을 포함하는 상품을 관련도 순으로 offset 부터 최대 limit 건 조회
+     */
+    ProductSearchHits search(String keyword, int offset, int limit);
+
+    void index(Long productId, String name, String description);
+
+    void remove(Long productId);
+
+    /**
+     * 전체 상품으로 색인을 새로 만들어 교체
+     */
+    void rebuild();
+}
@@ -1,14 +1,23 @@
 package com.commerce.domain.product;
 
 import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.product.event.ProductChangedEvent;
 import com.commerce.domain.product.exception.ProductErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,7 +25,12 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductQueryRepository productQueryRepository;
     private final CategoryRepository categoryRepository;
+    private final StockCounter stockCounter;
+    private final ProductStockShardService stockShardService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductEntity createProduct(String name, String description, Long price, Long stock, Long categoryId, String imageUrl) {
@@ -24,7 +38,9 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.CATEGORY_NOT_FOUND));
 
         ProductEntity product = ProductEntity.create(name, description, price, stock, category, imageUrl);
-        return productRepository.save(product);
+        ProductEntity saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.catalog(saved.getId()));
+        return saved;
     }
 
     public ProductEntity findById(Long productId) {
@@ -32,16 +48,52 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
     }
 
-    public Page<ProductEntity> getProducts(Pageable pageable) {
-        return productRepository.findPagedProducts(pageable);
+    public List<ProductEntity> findAllByIds(Collection<Long> productIds) {
+        return productRepository.findAllByIds(productIds);
     }
 
-    public Page<ProductEntity> getProductsByCategory(Long categoryId, Pageable pageable) {
-        return productRepository.findByCategoryId(categoryId, pageable);
+    /**
+     * 상품 ID별 현재 가격 (한 번의 IN 조회)
+     * 없는 상품이 있으면 전체 실패
+     */
+    public Map<Long, Long> getPrices(Collection<Long> productIds) {
+        Map<Long, Long> prices = productRepository.findAllByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, ProductEntity::getPrice));
+        if (prices.size() < productIds.size()) {
+            List<Long> missing = productIds.stream()
+                    .filter(productId -> !prices.containsKey(productId))
+                    .toList();
+            throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND, "상품을 찾을 수 없습니다. productIds=" + missing);
+        }
+        return prices;
+    }
+
+    public Page<ProductSummary> getProductSummaries(ProductFilter filter, Pageable pageable) {
+        return productQueryRepository.findSummaries(filter, pageable);
+    }
+
+    /**
+     * 커서 기반 상품 목록 (전체 건수를 세지 않는다)
+     */
+    public List<ProductSummary> getProductSummaries(ProductFilter filter, ProductSort sort, ProductKey after, int size) {
+        return productQueryRepository.findSummaries(filter, sort, after, size);
     }
 
-    public List<ProductEntity> searchProducts(String keyword) {
-        return productRepository.findByNameContaining(keyword);
+    public List<ProductSummary> getProductSummaries(Collection<Long> productIds) {
+        return productQueryRepository.findSummariesByIds(productIds);
+    }
+
+    /**
+     * 상품 검색 (관련도 순 상품 ID)
+     * 검색 색인이 준비되기 전(기동 직후 재색인 중)에는 상품명 LIKE 검색으로 대신한다.
+     */
+    public ProductSearchHits searchProducts(String keyword, int offset, int limit) {
+        if (productSearchIndex.isReady()) {
+            return productSearchIndex.search(keyword, offset, limit);
+        }
+
+        Page<ProductEntity> products = productRepository.findByNameContaining(keyword, PageRequest.of(offset / limit, limit));
+        return new ProductSearchHits(products.getTotalElements(), products.map(ProductEntity::getId).getContent());
     }
 
     @Transactional
@@ -50,7 +102,17 @@ public class ProductService {
         CategoryEntity category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessException(ProductErrorCode.CATEGORY_NOT_FOUND));
 
-        product.update(name, description, price, stock, category, imageUrl);
+        // Redis 카운터를 쓰면 DB 재고는 직접 바꾸지 않고 카운터 변경량으로만 반영한다 (write-behind 와 이중 반영 방지)
+        Long persistedStock = product.getStock();
+        boolean counted = stockCounter.isActive();
+        product.update(name, description, price, counted ? persistedStock : stock, category, imageUrl);
+        if (product.isStockSharded()) {
+            stockShardService.replaceStock(product, stock);
+        }
+        if (counted) {
+            stockCounter.reset(productId, stock, persistedStock);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.catalog(productId));
         return product;
     }
 
@@ -59,18 +121,86 @@ public class ProductService {
         if (!productRepository.findById(productId).isPresent()) {
             throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND);
         }
+        stockShardService.deleteShards(productId);
         productRepository.deleteById(productId);
+        if (stockCounter.isActive()) {
+            stockCounter.evict(productId);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.catalog(productId));
     }
 
     @Transactional
     public void decreaseStock(Long productId, Long quantity) {
-        ProductEntity product = findById(productId);
-        product.decreaseStock(quantity);
+        decreaseStocks(Map.of(productId, quantity));
     }
 
     @Transactional
     public void increaseStock(Long productId, Long quantity) {
-        ProductEntity product = findById(productId);
-        product.increaseStock(quantity);
+        increaseStocks(Map.of(productId, quantity));
+    }
+
+    /**
+     * 재고 차감 전에 상품 락으로 직렬화할 상품
+     * 샤딩된 상품은 샤드 행 단위 조건부 UPDATE 로 차감하고 부족할 때만 샤드 행을 잠그므로 상품 락이 필요 없다.
+     * 상품 락을 잡으면 샤드로 나눈 구매가 다시 한 줄로 직렬화되므로 락 대상에서 뺀다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLockRequiredProductIds(Collection<Long> productIds) {
+        Set<Long> lockRequired = new TreeSet<>(productIds);
+        lockRequired.removeAll(stockShardService.findShardCounts(productIds).keySet());
+        return lockRequired;
+    }
+
+    /**
+     * 주문 단위 재고 차감 (하나라도 부족하면 전체 실패)
+     */
+    @Transactional
+    public void decreaseStocks(Map<Long, Long> quantities) {
+        validateQuantities(quantities);
+        eventPublisher.publishEvent(ProductChangedEvent.stock(quantities.keySet()));
+        if (stockCounter.isActive()) {
+            stockCounter.decrease(quantities);
+            return;
+        }
+
+        // 샤딩된 상품은 샤드에서, 나머지는 엔티티 로딩 없이 조건부 UPDATE 배치로 차감 (실패 시 트랜잭션 롤백)
+        Map<Long, Integer> shardCounts = stockShardService.findShardCounts(quantities.keySet());
+        Map<Long, Long> plainQuantities = new TreeMap<>(quantities);
+        plainQuantities.keySet().removeAll(shardCounts.keySet());
+
+        if (!plainQuantities.isEmpty()) {
+            List<Long> failedProductIds = productRepository.decreaseStockBatch(plainQuantities);
+            if (!failedProductIds.isEmpty()) {
+                throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK, "재고가 부족합니다. productIds=" + failedProductIds);
+            }
+        }
+        new TreeMap<>(shardCounts).forEach((productId, shardCount) ->
+                stockShardService.decrease(productId, shardCount, quantities.get(productId)));
+    }
+
+    @Transactional
+    public void increaseStocks(Map<Long, Long> quantities) {
+        validateQuantities(quantities);
+        eventPublisher.publishEvent(ProductChangedEvent.stock(quantities.keySet()));
+        if (stockCounter.isActive()) {
+            stockCounter.increase(quantities);
+            return;
+        }
+
+        Map<Long, Integer> shardCounts = stockShardService.findShardCounts(quantities.keySet());
+        Map<Long, Long> plainQuantities = new TreeMap<>(quantities);
+        plainQuantities.keySet().removeAll(shardCounts.keySet());
+
+        if (!plainQuantities.isEmpty()) {
+            productRepository.increaseStockBatch(plainQuantities);
+        }
+        shardCounts.forEach((productId, shardCount) ->
+                stockShardService.increase(productId, shardCount, quantities.get(productId)));
+    }
+
+    private void validateQuantities(Map<Long, Long> quantities) {
+        if (quantities.values().stream().anyMatch(quantity -> quantity == null || quantity <= 0)) {
+            throw new BusinessException(ProductErrorCode.INVALID_QUANTITY);
+        }
     }
 }
@@ -0,0 +1,37 @@
+package com.commerce.domain.product;
+
+import com.commerce.common.pagination.Cursor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 기반 상품 목록 정렬 기준
+ * 모두 (정렬 컬럼, id) 복합 인덱스가 있어 커서 위치부터 인덱스를 바로 읽는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductSort {
+    NEWEST(false),
+    PRICE_ASC(true),
+    PRICE_DESC(false),
+    NAME(true);
+
+    private final boolean ascending;
+
+    public Object sortValueOf(ProductSummary product) {
+        return switch (this) {
+            case NEWEST -> product.getCreatedAt();
+            case PRICE_ASC, PRICE_DESC -> product.getPrice();
+            case NAME -> product.getName();
+        };
+    }
+
+    public ProductKey keyOf(Cursor cursor) {
+        Object value = switch (this) {
+            case NEWEST -> cursor.valueAsDateTime();
+            case PRICE_ASC, PRICE_DESC -> cursor.valueAsLong();
+            case NAME -> cursor.value();
+        };
+        return new ProductKey(value, cursor.id());
+    }
+}
@@ -0,0 +1,42 @@
+package com.commerce.domain.product;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(
+        name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_shard", columnNames = {"product_id", "shard_no"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductStockShardEntity {
+
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Long stock;
+
+    public static ProductStockShardEntity create(Long productId, Integer shardNo, Long stock) {
+        return ProductStockShardEntity.builder()
+                .productId(productId)
+                .shardNo(shardNo)
+                .stock(stock)
+                .build();
+    }
+
+    public void decreaseStock(Long quantity) {
+        this.stock -= quantity;
+    }
+}
@@ -0,0 +1,31 @@
+package com.commerce.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockShardRepository {
+    List<ProductStockShardEntity> findByProductId(Long productId);
+
+    /**
+     * 샤드 행을 비관적 락으로 조회 (여러 샤드에 걸친 차감/재분배 용도)
+     */
+    List<ProductStockShardEntity> findByProductIdForUpdate(Long productId);
+
+    /**
+     * 샤딩된 상품의 샤드 수 (샤딩되지 않은 상품은 포함되지 않음)
+     */
+    Map<Long, Integer> findShardCounts(Collection<Long> productIds);
+
+    boolean decreaseShard(Long productId, int shardNo, long quantity);
+    void increaseShard(Long productId, int shardNo, long quantity);
+    void saveAll(List<ProductStockShardEntity> shards);
+    void deleteByProductId(Long productId);
+
+    List<Long> findShardedProductIds();
+
+    /**
+     * products.stock 을 샤드 합계로 갱신
+     */
+    void refreshProductStocks(Collection<Long> productIds);
+}
@@ -0,0 +1,199 @@
+package com.commerce.domain.product;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.product.event.ProductChangedEvent;
+import com.commerce.domain.product.exception.ProductErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 상품 재고를 N개의 샤드로 나눠 단일 행 경합을 분산한다.
+ * 샤딩된 상품의 products.stock 은 샤드 합계의 캐시이며 {@link #refreshCachedStocks()} 로 갱신된다.
+ * 갱신 대상은 노드 메모리에만 있어 커밋 직후 노드가 내려가면 잃을 수 있으므로,
+ * {@link #resyncCachedStocks()} 가 주기적으로 샤딩된 상품 전체의 합계를 다시 맞춘다.
+ * 갱신이 커밋되면 재고 변경 이벤트를 발행해 products.stock 을 읽는 색인도 갱신된 합계로 다시 반영되게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductStockShardService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository shardRepository;
+    private final StockCounter stockCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 합계 캐시 갱신이 필요한 상품
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+
+    public List<ProductStockShardEntity> getShards(Long productId) {
+        return shardRepository.findByProductId(productId);
+    }
+
+    public Map<Long, Integer> findShardCounts(Collection<Long> productIds) {
+        return shardRepository.findShardCounts(productIds);
+    }
+
+    /**
+     * 샤딩 활성화 (이미 샤딩된 상품이면 샤드 수 변경)
+     */
+    @Transactional
+    public ProductEntity enableSharding(Long productId, int shardCount) {
+        if (stockCounter.isActive()) {
+            throw new BusinessException(ProductErrorCode.STOCK_SHARDING_UNAVAILABLE);
+        }
+        ProductEntity product = findProduct(productId);
+        long total = product.isStockSharded() ? sumOf(shardRepository.findByProductIdForUpdate(productId)) : product.getStock();
+        redistribute(product, total, shardCount);
+        return product;
+    }
+
+    /**
+     * 샤드 간 재고를 균등하게 재분배
+     */
+    @Transactional
+    public ProductEntity rebalance(Long productId) {
+        ProductEntity product = findShardedProduct(productId);
+        long total = sumOf(shardRepository.findByProductIdForUpdate(productId));
+        redistribute(product, total, product.getStockShardCount());
+        return product;
+    }
+
+    @Transactional
+    public ProductEntity disableSharding(Long productId) {
+        ProductEntity product = findShardedProduct(productId);
+        long total = sumOf(shardRepository.findByProductIdForUpdate(productId));
+        shardRepository.deleteByProductId(productId);
+        product.disableStockSharding(total);
+        return product;
+    }
+
+    @Transactional
+    public void deleteShards(Long productId) {
+        shardRepository.deleteByProductId(productId);
+    }
+
+    /**
+     * 관리자가 재고를 직접 지정한 경우 샤드에 다시 나눠 담는다.
+     */
+    @Transactional
+    public void replaceStock(ProductEntity product, long stock) {
+        shardRepository.findByProductIdForUpdate(product.getId());
+        redistribute(product, stock, product.getStockShardCount());
+    }
+
+    /**
+     * 임의의 샤드에서 차감하고, 부족하면 다른 샤드로 넘어간다.
+     * 단일 샤드로 충당할 수 없으면 전체 샤드를 잠그고 나눠서 차감한다.
+     */
+    @Transactional
+    public void decrease(Long productId, int shardCount, long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (shardRepository.decreaseShard(productId, (start + i) % shardCount, quantity)) {
+                markDirty(productId);
+                return;
+            }
+        }
+
+        List<ProductStockShardEntity> shards = shardRepository.findByProductIdForUpdate(productId);
+        if (sumOf(shards) < quantity) {
+            throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK, "재고가 부족합니다. productId=" + productId);
+        }
+        long remaining = quantity;
+        for (ProductStockShardEntity shard : shards) {
+            long taken = Math.min(shard.getStock(), remaining);
+            shard.decreaseStock(taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        markDirty(productId);
+    }
+
+    @Transactional
+    public void increase(Long productId, int shardCount, long quantity) {
+        shardRepository.increaseShard(productId, ThreadLocalRandom.current().nextInt(shardCount), quantity);
+        markDirty(productId);
+    }
+
+    @Transactional
+    public void refreshCachedStocks() {
+        if (dirtyProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>(dirtyProductIds);
+        dirtyProductIds.removeAll(productIds);
+        shardRepository.refreshProductStocks(productIds);
+        eventPublisher.publishEvent(ProductChangedEvent.stock(productIds));
+    }
+
+    /**
+     * 샤딩된 상품 전체의 합계 캐시 재계산 (갱신 대상 유실 대비)
+     */
+    @Transactional
+    public void resyncCachedStocks() {
+        List<Long> productIds = shardRepository.findShardedProductIds();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        shardRepository.refreshProductStocks(productIds);
+        eventPublisher.publishEvent(ProductChangedEvent.stock(productIds));
+    }
+
+    private void redistribute(ProductEntity product, long total, int shardCount) {
+        shardRepository.deleteByProductId(product.getId());
+
+        List<ProductStockShardEntity> shards = new ArrayList<>(shardCount);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            long stock = total / shardCount + (shardNo < total % shardCount ? 1 : 0);
+            shards.add(ProductStockShardEntity.create(product.getId(), shardNo, stock));
+        }
+        shardRepository.saveAll(shards);
+        product.enableStockSharding(shardCount, total);
+    }
+
+    private void markDirty(Long productId) {
+        // 커밋 이후에 합계를 다시 계산해야 최신 샤드 값이 반영된다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyProductIds.add(productId);
+                }
+            });
+            return;
+        }
+        dirtyProductIds.add(productId);
+    }
+
+    private ProductEntity findProduct(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private ProductEntity findShardedProduct(Long productId) {
+        ProductEntity product = findProduct(productId);
+        if (!product.isStockSharded()) {
+            throw new BusinessException(ProductErrorCode.STOCK_NOT_SHARDED);
+        }
+        return product;
+    }
+
+    private long sumOf(List<ProductStockShardEntity> shards) {
+        return shards.stream().mapToLong(ProductStockShardEntity::getStock).sum();
+    }
+}
@@ -0,0 +1,20 @@
+package com.commerce.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품명/카테고리명 접두어 자동완성
+ * 조회는 메모리의 불변 구조만 읽으며 DB 를 거치지 않는다.
+ */
+public interface ProductSuggester {
+
+    /**
+     * 접두어로 시작하는 상품명/카테고리명을 인기순으로 최대 limit 건 조회
+     */
+    List<ProductSuggestion> suggest(String prefix, int limit);
+
+    /**
+     * 현재 상품/카테고리와 인기도로 자동완성 구조를 새로 만들어 교체
+     */
+    void rebuild();
+}
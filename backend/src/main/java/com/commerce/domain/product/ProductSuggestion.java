@@ -0,0 +1,15 @@
+package com.commerce.domain.product;
+
+/**
+ * 검색어 자동완성 항목
+ * @param targetId 상품 ID 또는 카테고리 ID
+ */
+public record ProductSuggestion(
+        Type type,
+        Long targetId,
+        String text
+) {
+    public enum Type {
+        PRODUCT, CATEGORY
+    }
+}
@@ -0,0 +1,18 @@
+package com.commerce.domain.product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 조회 모델 (설명 등 목록에 필요 없는 컬럼은 읽지 않는다)
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        Long price,
+        Long stock,
+        Long categoryId,
+        String categoryName,
+        String imageUrl,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.commerce.domain.product;
+
+import java.util.Map;
+
+/**
+ * DB 앞단의 재고 카운터 (Redis 등)
+ * 활성화되지 않은 경우 재고 변경은 DB로 직접 처리된다.
+ */
+public interface StockCounter {
+
+    boolean isActive();
+
+    /**
+     * 여러 상품의 재고를 원자적으로 차감 (하나라도 부족하면 전체 실패)
+     */
+    void decrease(Map<Long, Long> quantities);
+
+    void increase(Map<Long, Long> quantities);
+
+    /**
+     * 관리자 수정 등으로 재고를 stock 으로 바꾼다 (트랜잭션 안이면 커밋 후 반영).
+     * 카운터를 덮어쓰고 이전 값과의 차이를 변경량으로 쌓아 DB에는 write-behind 로만 반영하므로,
+     * 이미 꺼내 반영 중인 변경량과 겹쳐 두 번 반영되지 않는다.
+     * persistedStock 은 카운터가 적재되지 않은 상품의 기준값(현재 DB 재고)이다.
+     */
+    void reset(Long productId, Long stock, Long persistedStock);
+
+    void evict(Long productId);
+}
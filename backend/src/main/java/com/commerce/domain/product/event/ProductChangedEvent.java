@@ -0,0 +1,21 @@
+package com.commerce.domain.product.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 변경 (상품 조회 캐시 무효화, 검색 색인 갱신용)
+ * @param stockOnly 재고만 바뀐 경우 true (주문마다 발생하므로 무효화를 모아서 처리한다)
+ */
+public record ProductChangedEvent(
+        List<Long> productIds,
+        boolean stockOnly
+) {
+    public static ProductChangedEvent catalog(Long productId) {
+        return new ProductChangedEvent(List.of(productId), false);
+    }
+
+    public static ProductChangedEvent stock(Collection<Long> productIds) {
+        return new ProductChangedEvent(List.copyOf(productIds), true);
+    }
+}
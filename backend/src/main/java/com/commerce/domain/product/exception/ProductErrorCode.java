@@ -10,7 +10,11 @@ public enum ProductErrorCode implements BaseResponseCode {
     PRODUCT_NOT_FOUND(404, "NOT_FOUND", "상품을 찾을 수 없습니다."),
     CATEGORY_NOT_FOUND(404, "NOT_FOUND", "카테고리를 찾을 수 없습니다."),
     INSUFFICIENT_STOCK(409, "CONFLICT", "재고가 부족합니다."),
-    INVALID_QUANTITY(400, "BAD_REQUEST", "잘못된 수량입니다.");
+    INVALID_QUANTITY(400, "BAD_REQUEST", "잘못된 수량입니다."),
+    CONCURRENT_MODIFICATION(409, "CONFLICT", "다른 요청에 의해 상품이 변경되었습니다. 잠시 후 다시 시도해주세요."),
+    STOCK_NOT_SHARDED(400, "BAD_REQUEST", "재고 샤딩이 활성화되지 않은 상품입니다."),
+    STOCK_SHARDING_UNAVAILABLE(409, "CONFLICT", "Redis 재고 모드에서는 재고 샤딩을 사용할 수 없습니다."),
+    PRODUCT_FACET_NOT_READY(503, "SERVICE_UNAVAILABLE", "상품 필터를 준비 중입니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final String status;
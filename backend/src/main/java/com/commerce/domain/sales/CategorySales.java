@@ -0,0 +1,10 @@
+package com.commerce.domain.sales;
+
+/**
+ * 기간 내 카테고리별 매출 합계
+ */
+public record CategorySales(
+    Long categoryId,
+    SalesMetrics metrics
+) {
+}
@@ -0,0 +1,9 @@
+package com.commerce.domain.sales;
+
+import java.time.LocalDate;
+
+public record DailySales(
+    LocalDate salesDate,
+    SalesMetrics metrics
+) {
+}
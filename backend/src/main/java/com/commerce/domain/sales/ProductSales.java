@@ -0,0 +1,10 @@
+package com.commerce.domain.sales;
+
+/**
+ * 기간 내 상품별 매출 합계
+ */
+public record ProductSales(
+    Long productId,
+    SalesMetrics metrics
+) {
+}
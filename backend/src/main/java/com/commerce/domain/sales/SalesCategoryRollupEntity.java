@@ -0,0 +1,54 @@
+package com.commerce.domain.sales;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일자 + 카테고리별 매출 집계 (주문 생성일 기준)
+ * 변경분 반영/재집계 모두 upsert SQL 로만 갱신한다.
+ */
+@Table(
+    name = "sales_category_rollups",
+    indexes = @Index(name = "idx_sales_category_rollups_category", columnList = "category_id, sales_date")
+)
+@IdClass(SalesCategoryRollupEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class SalesCategoryRollupEntity {
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Embedded
+    private SalesMetrics metrics;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private Long categoryId;
+    }
+}
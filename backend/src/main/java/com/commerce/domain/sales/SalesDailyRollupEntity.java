@@ -0,0 +1,32 @@
+package com.commerce.domain.sales;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일자별 매출 집계 (주문 생성일 기준)
+ * 변경분 반영/재집계 모두 upsert SQL 로만 갱신한다.
+ */
+@Table(name = "sales_daily_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class SalesDailyRollupEntity {
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Embedded
+    private SalesMetrics metrics;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,52 @@
+package com.commerce.domain.sales;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * 매출 집계 지표
+ * 취소 지표는 주문 생성일 기준으로 집계되므로 순매출은 총액 - 할인 - 취소 금액이다.
+ */
+@Embeddable
+public record SalesMetrics(
+    @Column(nullable = false, name = "order_count") long orderCount,
+    @Column(nullable = false, name = "units") long units,
+    @Column(nullable = false, name = "gross_amount") long grossAmount,
+    @Column(nullable = false, name = "discount_amount") long discountAmount,
+    @Column(nullable = false, name = "cancelled_count") long cancelledCount,
+    @Column(nullable = false, name = "cancelled_units") long cancelledUnits,
+    @Column(nullable = false, name = "cancelled_amount") long cancelledAmount
+) {
+    public static SalesMetrics placed(long units, long grossAmount, long discountAmount) {
+        return new SalesMetrics(1, units, grossAmount, discountAmount, 0, 0, 0);
+    }
+
+    public static SalesMetrics discounted(long discountAmount) {
+        return new SalesMetrics(0, 0, 0, discountAmount, 0, 0, 0);
+    }
+
+    public static SalesMetrics cancelled(long units, long amount) {
+        return new SalesMetrics(0, 0, 0, 0, 1, units, amount);
+    }
+
+    public SalesMetrics plus(SalesMetrics other) {
+        return new SalesMetrics(
+            orderCount + other.orderCount,
+            units + other.units,
+            grossAmount + other.grossAmount,
+            discountAmount + other.discountAmount,
+            cancelledCount + other.cancelledCount,
+            cancelledUnits + other.cancelledUnits,
+            cancelledAmount + other.cancelledAmount
+        );
+    }
+
+    public SalesMetrics negate() {
+        return new SalesMetrics(-orderCount, -units, -grossAmount, -discountAmount,
+            -cancelledCount, -cancelledUnits, -cancelledAmount);
+    }
+
+    public long netAmount() {
+        return grossAmount - discountAmount - cancelledAmount;
+    }
+}
@@ -0,0 +1,73 @@
+package com.commerce.domain.sales;
+
+import com.commerce.common.id.CommerceId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * 집계에 아직 반영되지 않은 매출 변경분
+ * 주문 변경과 같은 트랜잭션에서 기록되고, 집계 소비자가 묶어서 반영한 뒤 삭제한다.
+ */
+@Table(
+    name = "sales_rollup_deltas",
+    indexes = @Index(name = "idx_sales_rollup_deltas_date", columnList = "sales_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Builder
+public class SalesRollupDeltaEntity {
+    @Id
+    @CommerceId
+    private Long id;
+
+    @Column(nullable = false, name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = false, name = "level")
+    @Enumerated(EnumType.STRING)
+    private SalesRollupLevel level;
+
+    @Column(nullable = false, name = "sales_date")
+    private LocalDate salesDate;
+
+    // 상품/카테고리 ID (일자별 집계는 null)
+    @Column(nullable = true, name = "target_id")
+    private Long targetId;
+
+    @Embedded
+    private SalesMetrics metrics;
+
+    @CreationTimestamp
+    @Column(nullable = false, name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public static SalesRollupDeltaEntity of(Long orderId, SalesRollupKey key, SalesMetrics metrics) {
+        return SalesRollupDeltaEntity.builder()
+            .orderId(orderId)
+            .level(key.level())
+            .salesDate(key.salesDate())
+            .targetId(key.targetId())
+            .metrics(metrics)
+            .build();
+    }
+
+    public SalesRollupKey key() {
+        return new SalesRollupKey(level, salesDate, targetId);
+    }
+}
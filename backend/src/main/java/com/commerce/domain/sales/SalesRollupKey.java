@@ -0,0 +1,24 @@
+package com.commerce.domain.sales;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 집계 행 키 (일자별 집계는 targetId 가 null)
+ */
+public record SalesRollupKey(
+    SalesRollupLevel level,
+    LocalDate salesDate,
+    Long targetId
+) implements Comparable<SalesRollupKey> {
+
+    private static final Comparator<SalesRollupKey> ORDER = Comparator
+        .comparing(SalesRollupKey::level)
+        .thenComparing(SalesRollupKey::salesDate)
+        .thenComparing(SalesRollupKey::targetId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @Override
+    public int compareTo(SalesRollupKey other) {
+        return ORDER.compare(this, other);
+    }
+}
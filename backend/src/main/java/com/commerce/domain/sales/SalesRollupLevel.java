@@ -0,0 +1,10 @@
+package com.commerce.domain.sales;
+
+/**
+ * 매출 집계 단위
+ */
+public enum SalesRollupLevel {
+    DAILY,      // 일자별 (주문 단위 지표)
+    PRODUCT,    // 일자 + 상품별
+    CATEGORY    // 일자 + 카테고리별
+}
@@ -0,0 +1,41 @@
+package com.commerce.domain.sales;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface SalesRollupRepository {
+
+    void saveDeltas(List<SalesRollupDeltaEntity> deltas);
+
+    /**
+     * 반영 대기 중인 변경분을 오래된 순으로 최대 limit 건 행 잠금과 함께 조회
+     */
+    List<SalesRollupDeltaEntity> findPendingDeltasForUpdate(int limit);
+
+    void deleteDeltas(Collection<Long> deltaIds);
+
+    /**
+     * 키별 변경량을 집계 테이블에 더한다 (INSERT ... ON DUPLICATE KEY UPDATE)
+     */
+    void upsert(Map<SalesRollupKey, SalesMetrics> metrics);
+
+    /**
+     * 하루치 집계를 주문 원본으로 다시 만든다
+     * 해당 일자의 반영 대기 변경분과 기존 집계를 지운 뒤 orders/order_items 를 그 날짜 범위만 읽어 다시 적재한다.
+     */
+    void rebuild(LocalDate salesDate);
+
+    List<DailySales> findDaily(LocalDate from, LocalDate to);
+
+    /**
+     * 기간 내 상품별 합계 (순매출 내림차순)
+     */
+    List<ProductSales> findTopProducts(LocalDate from, LocalDate to, int limit);
+
+    /**
+     * 기간 내 카테고리별 합계 (순매출 내림차순)
+     */
+    List<CategorySales> findCategories(LocalDate from, LocalDate to);
+}
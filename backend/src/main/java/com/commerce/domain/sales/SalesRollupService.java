@@ -0,0 +1,83 @@
+package com.commerce.domain.sales;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.sales.exception.SalesErrorCode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+
+    @Value("${commerce.sales.max-period-days:366}")
+    private long maxPeriodDays;
+
+    /**
+     * 매출 변경분 기록 (주문 변경 트랜잭션에 참여)
+     */
+    @Transactional
+    public void recordDeltas(List<SalesRollupDeltaEntity> deltas) {
+        if (!deltas.isEmpty()) {
+            salesRollupRepository.saveDeltas(deltas);
+        }
+    }
+
+    /**
+     * 쌓인 변경분을 최대 limit 건 꺼내 키별로 합친 뒤 집계에 반영하고 삭제
+     * 같은 트랜잭션에서 반영과 삭제가 함께 커밋되므로 변경분은 정확히 한 번 반영된다.
+     * @return 처리한 변경분 수
+     */
+    @Transactional
+    public int applyPendingDeltas(int limit) {
+        List<SalesRollupDeltaEntity> deltas = salesRollupRepository.findPendingDeltasForUpdate(limit);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 키 순으로 반영해 동시에 갱신하는 트랜잭션과 잠금 순서를 맞춘다
+        Map<SalesRollupKey, SalesMetrics> merged = new TreeMap<>();
+        deltas.forEach(delta -> merged.merge(delta.key(), delta.getMetrics(), SalesMetrics::plus));
+        salesRollupRepository.upsert(merged);
+        salesRollupRepository.deleteDeltas(deltas.stream().map(SalesRollupDeltaEntity::getId).toList());
+        return deltas.size();
+    }
+
+    @Transactional
+    public void rebuild(LocalDate salesDate) {
+        salesRollupRepository.rebuild(salesDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailySales> getDailySales(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return salesRollupRepository.findDaily(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSales> getTopProductSales(LocalDate from, LocalDate to, int limit) {
+        validatePeriod(from, to);
+        return salesRollupRepository.findTopProducts(from, to, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategorySales> getCategorySales(LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        return salesRollupRepository.findCategories(from, to);
+    }
+
+    public void validatePeriod(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)
+            || ChronoUnit.DAYS.between(from, to) >= maxPeriodDays) {
+            throw new BusinessException(SalesErrorCode.SALES_PERIOD_INVALID);
+        }
+    }
+}
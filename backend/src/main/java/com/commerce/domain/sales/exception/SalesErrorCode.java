@@ -0,0 +1,17 @@
+package com.commerce.domain.sales.exception;
+
+import com.commerce.common.response.BaseResponseCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SalesErrorCode implements BaseResponseCode {
+
+    // 400 - 잘못된 요청
+    SALES_PERIOD_INVALID(400, "Sales Period Invalid", "조회 기간이 올바르지 않습니다.");
+
+    private final int code;
+    private final String status;
+    private final String message;
+}
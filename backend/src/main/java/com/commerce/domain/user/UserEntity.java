@@ -1,5 +1,6 @@
 package com.commerce.domain.user;
 
+import com.commerce.common.id.CommerceId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @CommerceId
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,11 @@
+package com.commerce.domain.waiting;
+
+/**
+ * 대기열을 통과한 사용자에게 발급되는 1회용 주문 입장 토큰
+ */
+public record AdmissionToken(
+        String token,
+        String saleId,
+        Long userId
+) {
+}
@@ -0,0 +1,67 @@
+package com.commerce.domain.waiting;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface WaitingRoomRepository {
+
+    /**
+     * 세일 시작 (이미 진행 중이면 초당 입장 인원과 세일 상품을 바꾼다)
+     */
+    void openSale(String saleId, int admitsPerSecond, Collection<Long> productIds);
+
+    void closeSale(String saleId);
+
+    /**
+     * 진행 중인 세일별 초당 입장 인원
+     */
+    Map<String, Integer> findOpenSales();
+
+    Optional<Integer> findAdmitsPerSecond(String saleId);
+
+    /**
+     * 상품이 속한 진행 중인 세일 ID (세일 상품이 없으면 빈 집합)
+     */
+    Set<String> findSaleIds(Collection<Long> productIds);
+
+    /**
+     * 대기열 등록 (이미 등록된 사용자는 기존 순번 유지)
+     */
+    void enqueue(String saleId, Long userId, long enteredAt);
+
+    /**
+     * @return 0부터 시작하는 대기 순번, 대기열에 없으면 empty
+     */
+    Optional<Long> findRank(String saleId, Long userId);
+
+    long countWaiting(String saleId);
+
+    /**
+     * 앞에서부터 최대 count 명을 대기열에서 꺼낸다
+     * 같은 주기에 다른 인스턴스가 이미 꺼냈다면 빈 목록을 반환한다.
+     */
+    List<Long> popFront(String saleId, int count, long periodMillis);
+
+    void saveTokens(List<AdmissionToken> tokens, long ttlSeconds);
+
+    Optional<String> findToken(String saleId, Long userId);
+
+    /**
+     * 토큰을 사용 중으로 옮긴다 (남은 유효 시간 유지)
+     * 사용 중인 토큰은 다시 꺼낼 수 없으므로 같은 토큰으로 동시에 들어온 요청은 하나만 통과한다.
+     */
+    Optional<AdmissionToken> holdToken(String token);
+
+    /**
+     * 사용 중인 토큰 삭제 (1회용)
+     */
+    void consumeToken(AdmissionToken token);
+
+    /**
+     * 사용 중인 토큰을 다시 사용 가능하게 되돌린다
+     */
+    void releaseToken(AdmissionToken token);
+}
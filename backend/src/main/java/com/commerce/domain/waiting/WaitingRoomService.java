@@ -0,0 +1,122 @@
+package com.commerce.domain.waiting;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.waiting.exception.WaitingRoomErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private static final long ADMISSION_PERIOD_MILLIS = 1000L;
+
+    private final WaitingRoomRepository waitingRoomRepository;
+
+    @Value("${commerce.waiting-room.token-ttl-seconds:300}")
+    private long tokenTtlSeconds;
+
+    public void openSale(String saleId, int admitsPerSecond, Collection<Long> productIds) {
+        if (admitsPerSecond < 1) {
+            throw new BusinessException(WaitingRoomErrorCode.INVALID_ADMITS_PER_SECOND);
+        }
+        if (productIds == null || productIds.isEmpty()) {
+            throw new BusinessException(WaitingRoomErrorCode.SALE_PRODUCTS_REQUIRED);
+        }
+        waitingRoomRepository.openSale(saleId, admitsPerSecond, productIds);
+    }
+
+    public void closeSale(String saleId) {
+        waitingRoomRepository.closeSale(saleId);
+    }
+
+    public Set<String> findSaleIds(Collection<Long> productIds) {
+        return waitingRoomRepository.findSaleIds(productIds);
+    }
+
+    public WaitingStatus enter(String saleId, Long userId) {
+        int admitsPerSecond = getAdmitsPerSecond(saleId);
+        if (waitingRoomRepository.findToken(saleId, userId).isEmpty()) {
+            waitingRoomRepository.enqueue(saleId, userId, System.currentTimeMillis());
+        }
+        return buildStatus(saleId, userId, admitsPerSecond);
+    }
+
+    public WaitingStatus getStatus(String saleId, Long userId) {
+        return buildStatus(saleId, userId, getAdmitsPerSecond(saleId));
+    }
+
+    /**
+     * 진행 중인 세일마다 초당 입장 인원만큼 대기열에서 꺼내 입장 토큰 발급
+     * @return 이번 주기에 입장한 인원
+     */
+    public int admitAll() {
+        int admitted = 0;
+        for (Map.Entry<String, Integer> sale : waitingRoomRepository.findOpenSales().entrySet()) {
+            String saleId = sale.getKey();
+            List<AdmissionToken> tokens = waitingRoomRepository.popFront(saleId, sale.getValue(), ADMISSION_PERIOD_MILLIS)
+                    .stream()
+                    .map(userId -> new AdmissionToken(UUID.randomUUID().toString(), saleId, userId))
+                    .toList();
+            if (!tokens.isEmpty()) {
+                waitingRoomRepository.saveTokens(tokens, tokenTtlSeconds);
+                admitted += tokens.size();
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * 입장 토큰 검증 후 사용 중으로 전환
+     * 토큰은 주문에 포함된 세일 상품의 세일에서 발급된 것이어야 하며, 여러 세일의 상품을 한 주문에 담을 수는 없다.
+     * 주문이 성공하면 {@link #consumeToken}, 실패하면 {@link #releaseToken} 으로 마무리해야 한다.
+     */
+    public AdmissionToken holdToken(String token, Long userId, Set<String> saleIds) {
+        if (token == null || token.isBlank()) {
+            throw new BusinessException(WaitingRoomErrorCode.ADMISSION_TOKEN_REQUIRED);
+        }
+        AdmissionToken admission = waitingRoomRepository.holdToken(token)
+                .orElseThrow(() -> new BusinessException(WaitingRoomErrorCode.INVALID_ADMISSION_TOKEN));
+        if (!admission.userId().equals(userId) || !saleIds.equals(Set.of(admission.saleId()))) {
+            // 다른 사용자나 다른 세일 주문에 잘못 쓰여 토큰 주인의 입장 기회가 사라지지 않게 되돌린다
+            waitingRoomRepository.releaseToken(admission);
+            throw new BusinessException(WaitingRoomErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+        return admission;
+    }
+
+    public void consumeToken(AdmissionToken token) {
+        waitingRoomRepository.consumeToken(token);
+    }
+
+    public void releaseToken(AdmissionToken token) {
+        waitingRoomRepository.releaseToken(token);
+    }
+
+    private int getAdmitsPerSecond(String saleId) {
+        return waitingRoomRepository.findAdmitsPerSecond(saleId)
+                .orElseThrow(() -> new BusinessException(WaitingRoomErrorCode.SALE_NOT_OPEN));
+    }
+
+    private WaitingStatus buildStatus(String saleId, Long userId, int admitsPerSecond) {
+        long waitingCount = waitingRoomRepository.countWaiting(saleId);
+        Optional<String> token = waitingRoomRepository.findToken(saleId, userId);
+        if (token.isPresent()) {
+            return new WaitingStatus(saleId, null, waitingCount, 0L, token.get());
+        }
+
+        Long position = waitingRoomRepository.findRank(saleId, userId)
+                .map(rank -> rank + 1)
+                .orElse(null);
+        Long estimatedWaitSeconds = position == null ? null : (position + admitsPerSecond - 1) / admitsPerSecond;
+        return new WaitingStatus(saleId, position, waitingCount, estimatedWaitSeconds, null);
+    }
+}
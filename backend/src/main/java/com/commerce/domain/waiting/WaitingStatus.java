@@ -0,0 +1,17 @@
+package com.commerce.domain.waiting;
+
+/**
+ * 대기열 내 사용자 상태
+ * position 은 1부터 시작하며, 입장이 허용되면 position 대신 token 이 채워진다.
+ */
+public record WaitingStatus(
+        String saleId,
+        Long position,
+        Long waitingCount,
+        Long estimatedWaitSeconds,
+        String token
+) {
+    public boolean admitted() {
+        return token != null;
+    }
+}
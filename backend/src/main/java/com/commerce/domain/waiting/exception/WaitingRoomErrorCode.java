@@ -0,0 +1,25 @@
+package com.commerce.domain.waiting.exception;
+
+import com.commerce.common.response.BaseResponseCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WaitingRoomErrorCode implements BaseResponseCode {
+
+    // 400 - 잘못된 요청
+    INVALID_ADMITS_PER_SECOND(400, "Invalid Admits Per Second", "초당 입장 인원은 1 이상이어야 합니다."),
+    SALE_PRODUCTS_REQUIRED(400, "Sale Products Required", "세일 상품을 1개 이상 지정해야 합니다."),
+
+    // 403 - 입장 제한
+    ADMISSION_TOKEN_REQUIRED(403, "Admission Token Required", "대기열 입장 토큰이 필요합니다."),
+    INVALID_ADMISSION_TOKEN(403, "Invalid Admission Token", "유효하지 않거나 만료된 입장 토큰입니다."),
+
+    // 404 - 리소스 없음
+    SALE_NOT_OPEN(404, "Sale Not Open", "진행 중인 대기열이 없습니다.");
+
+    private final int code;
+    private final String status;
+    private final String message;
+}
@@ -0,0 +1,177 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.domain.coupon.UserCouponEntity;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 발급 내역(coupon:issued)을 주기적으로 user_coupons 에 일괄 저장 (write-behind)
+ *
+ * - 꺼낸 발급 내역은 지우지 않고 처리 중 리스트(coupon:issued:processing)로 원자적으로 옮기고, 저장이 커밋된 뒤에 지운다.
+ *   저장 도중 프로세스가 중단되면 처리 중 리스트에 남은 내역을 다음 반영 때 먼저 건별로 다시 저장한다(이미 저장된 건은 유니크 키로 걸러진다).
+ * - 처리 중 리스트는 하나이므로 반영은 노드 간 임대 락(coupon:issued:flush-lock)을 잡은 한 노드만 실행한다.
+ *   배치마다 임대를 연장하고, 저장이 끝나면 락을 아직 쥐고 있을 때만 저장한 건수만큼 리스트 앞에서 잘라낸다.
+ *   임대가 만료돼 다른 노드가 넘겨받았다면 리스트를 건드리지 않고 멈추며, 남은 내역은 그 노드가 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueWriteBehindFlusher {
+
+    static final String PROCESSING_KEY = "coupon:issued:processing";
+    private static final String LOCK_KEY = "coupon:issued:flush-lock";
+
+    // 앞에서부터 최대 n건을 처리 중 리스트로 옮기는 작업을 원자적으로 처리
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MOVE_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+            + "if #entries == 0 then return entries end "
+            + "redis.call('LTRIM', KEYS[1], #entries, -1) "
+            + "redis.call('RPUSH', KEYS[2], unpack(entries)) "
+            + "return entries",
+        List.class);
+
+    // 자신이 잡은 락일 때만 임대 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+            + "return 0",
+        Long.class);
+
+    // 자신이 잡은 락일 때만 처리 중 리스트 앞에서 저장한 n건을 잘라낸다 (뒤에 붙은 내역은 남긴다)
+    private static final RedisScript<Long> TRIM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+            + "redis.call('LTRIM', KEYS[2], tonumber(ARGV[2]), -1) "
+            + "return 1",
+        Long.class);
+
+    // 자신이 잡은 락만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaUserCouponRepository jpaUserCouponRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${commerce.coupon.flush-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${commerce.coupon.flush-lock-lease-ms:30000}")
+    private long lockLeaseMs;
+
+    @Scheduled(fixedDelayString = "${commerce.coupon.flush-interval-ms:200}")
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMillis(lockLeaseMs)))) {
+            return;
+        }
+        try {
+            // 이전 반영이 커밋 전후로 중단돼 남은 내역 (한 배치씩)
+            while (true) {
+                List<String> leftover = redisTemplate.opsForList().range(PROCESSING_KEY, 0, batchSize - 1);
+                if (leftover == null || leftover.isEmpty()) {
+                    break;
+                }
+                log.info("처리 중이던 쿠폰 발급 내역 재반영 - {}건", leftover.size());
+                if (!persistEach(leftover, token) || !renew(token)) {
+                    return;
+                }
+            }
+
+            while (true) {
+                List<String> entries = moveToProcessing();
+                if (entries.isEmpty() || !persist(entries, token) || entries.size() < batchSize || !renew(token)) {
+                    return;
+                }
+            }
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean persist(List<String> entries, String token) {
+        try {
+            List<UserCouponEntity> userCoupons = entries.stream()
+                .map(this::toEntity)
+                .toList();
+            transactionTemplate.executeWithoutResult(status -> jpaUserCouponRepository.saveAll(userCoupons));
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 write-behind 일괄 반영 실패, 건별 반영으로 전환 - {}건", entries.size(), e);
+            return persistEach(entries, token);
+        }
+        log.debug("쿠폰 발급 write-behind 반영 완료 - {}건", entries.size());
+        return trimProcessed(entries.size(), token);
+    }
+
+    /**
+     * 건별 반영
+     * 이미 저장된 발급(유니크 키 충돌)은 건너뛴다. 하나라도 실패하면 처리 중 리스트를 그대로 두어
+     * 다음 주기에 다시 건별로 반영한다(성공한 건은 그때 유니크 키 충돌로 걸러진다).
+     */
+    private boolean persistEach(List<String> entries, String token) {
+        boolean failed = false;
+        for (String entry : entries) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jpaUserCouponRepository.save(toEntity(entry)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("이미 저장된 쿠폰 발급 - {}", entry);
+            } catch (Exception e) {
+                log.error("쿠폰 발급 write-behind 반영 실패 - {}", entry, e);
+                failed = true;
+            }
+        }
+        if (failed) {
+            return false;
+        }
+        return trimProcessed(entries.size(), token);
+    }
+
+    private boolean trimProcessed(int count, String token) {
+        Long trimmed = redisTemplate.execute(TRIM_SCRIPT, List.of(LOCK_KEY, PROCESSING_KEY), token, String.valueOf(count));
+        if (!Long.valueOf(1L).equals(trimmed)) {
+            log.warn("쿠폰 발급 반영 락 임대 만료, 처리 중 내역은 다음 반영 노드가 다시 저장 - {}건", count);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean renew(String token) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY), token, String.valueOf(lockLeaseMs));
+        return Long.valueOf(1L).equals(renewed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> moveToProcessing() {
+        List<String> entries = redisTemplate.execute(MOVE_SCRIPT,
+            List.of(RedisCouponIssuer.ISSUED_QUEUE_KEY, PROCESSING_KEY), String.valueOf(batchSize));
+        return entries != null ? entries : List.of();
+    }
+
+    // couponId:userId:issuedAtEpochMillis
+    private UserCouponEntity toEntity(String entry) {
+        String[] parts = entry.split(":");
+        LocalDateTime issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault());
+        return UserCouponEntity.issued(Long.parseLong(parts[0]), Long.parseLong(parts[1]), issuedAt);
+    }
+}
@@ -0,0 +1,32 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.domain.coupon.CouponEntity;
+import com.commerce.domain.coupon.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponRepositoryImpl implements CouponRepository {
+
+    private final JpaCouponRepository jpaCouponRepository;
+
+    @Override
+    public CouponEntity save(CouponEntity coupon) {
+        return jpaCouponRepository.save(coupon);
+    }
+
+    @Override
+    public Optional<CouponEntity> findById(Long id) {
+        return jpaCouponRepository.findById(id);
+    }
+
+    @Override
+    public List<CouponEntity> findAllNotExpired(LocalDateTime now) {
+        return jpaCouponRepository.findByExpiresAtAfter(now);
+    }
+}
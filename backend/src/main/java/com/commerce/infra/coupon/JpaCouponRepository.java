@@ -0,0 +1,11 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.domain.coupon.CouponEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaCouponRepository extends JpaRepository<CouponEntity, Long> {
+    List<CouponEntity> findByExpiresAtAfter(LocalDateTime now);
+}
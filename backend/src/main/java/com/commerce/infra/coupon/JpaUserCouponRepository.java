@@ -0,0 +1,36 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.domain.coupon.UserCouponEntity;
+import com.commerce.domain.coupon.UserCouponStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaUserCouponRepository extends JpaRepository<UserCouponEntity, Long> {
+
+    List<UserCouponEntity> findByUserIdOrderByIssuedAtDesc(Long userId);
+
+    @Query("select uc.userId from UserCouponEntity uc where uc.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserCouponEntity uc set uc.status = :to, uc.orderId = :orderId, "
+            + "uc.usedAt = local datetime, uc.updatedAt = local datetime "
+            + "where uc.id = :id and uc.status = :from")
+    int markUsed(@Param("id") Long id,
+                 @Param("orderId") Long orderId,
+                 @Param("from") UserCouponStatus from,
+                 @Param("to") UserCouponStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserCouponEntity uc set uc.status = :to, uc.orderId = null, "
+            + "uc.usedAt = null, uc.updatedAt = local datetime "
+            + "where uc.id = :id and uc.orderId = :orderId and uc.status = :from")
+    int restore(@Param("id") Long id,
+                @Param("orderId") Long orderId,
+                @Param("from") UserCouponStatus from,
+                @Param("to") UserCouponStatus to);
+}
@@ -0,0 +1,135 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.coupon.CouponEntity;
+import com.commerce.domain.coupon.CouponIssueResult;
+import com.commerce.domain.coupon.CouponIssuer;
+import com.commerce.domain.coupon.exception.CouponErrorCode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 선착순 쿠폰 발급기
+ * 잔여 수량(coupon:{id}:remaining), 발급 사용자 집합(coupon:{id}:users) 검사와 차감을 Lua 스크립트 한 번으로 처리하고,
+ * 발급 내역은 coupon:issued 리스트에 쌓아 {@link CouponIssueWriteBehindFlusher}가 user_coupons 에 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCouponIssuer implements CouponIssuer {
+
+    static final String ISSUED_QUEUE_KEY = "coupon:issued";
+
+    private static final String KEY_PREFIX = "coupon:";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    // 반환값: 0 발급, 1 수량 소진, 2 이미 발급, -1 카운터 미적재
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+        "local remaining = redis.call('GET', KEYS[1]) "
+            + "if not remaining then return -1 end "
+            + "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 2 end "
+            + "if tonumber(remaining) <= 0 then return 1 end "
+            + "redis.call('DECR', KEYS[1]) "
+            + "redis.call('SADD', KEYS[2], ARGV[1]) "
+            + "redis.call('RPUSH', KEYS[3], ARGV[2]) "
+            + "return 0",
+        Long.class);
+
+    // 대기 리스트와 처리 중 리스트를 한 시점에 함께 읽는다 (반영기가 옮기는 중인 내역이 빠지지 않게)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> UNFLUSHED_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('LRANGE', KEYS[1], 0, -1) "
+            + "for _, entry in ipairs(redis.call('LRANGE', KEYS[2], 0, -1)) do table.insert(entries, entry) end "
+            + "return entries",
+        List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaCouponRepository jpaCouponRepository;
+    private final JpaUserCouponRepository jpaUserCouponRepository;
+
+    @Override
+    public void register(Long couponId, Long totalQuantity) {
+        redisTemplate.opsForValue().setIfAbsent(remainingKey(couponId), String.valueOf(totalQuantity));
+    }
+
+    @Override
+    public CouponIssueResult issue(Long couponId, Long userId) {
+        Long result = execute(couponId, userId);
+        if (result != null && result < 0) {
+            load(couponId);
+            result = execute(couponId, userId);
+        }
+        if (result == null || result < 0) {
+            throw new IllegalStateException("쿠폰 발급 카운터를 적재하지 못했습니다. couponId=" + couponId);
+        }
+
+        return switch (result.intValue()) {
+            case 0 -> CouponIssueResult.ISSUED;
+            case 1 -> CouponIssueResult.SOLD_OUT;
+            default -> CouponIssueResult.ALREADY_ISSUED;
+        };
+    }
+
+    private Long execute(Long couponId, Long userId) {
+        String payload = couponId + ":" + userId + ":" + System.currentTimeMillis();
+        return redisTemplate.execute(ISSUE_SCRIPT,
+            List.of(remainingKey(couponId), usersKey(couponId), ISSUED_QUEUE_KEY),
+            String.valueOf(userId), payload);
+    }
+
+    /**
+     * 카운터가 없으면(Redis 재시작 등) DB 발급 내역과 아직 반영되지 않은 발급 내역으로 다시 적재
+     * 반영 전 내역을 빼면 잔여 수량이 실제보다 커져 초과 발급되므로 함께 센다. Redis 리스트를 먼저 읽고 DB를 읽어,
+     * 그 사이 반영된 내역은 DB 쪽에서 보이게 한다(처리 중 리스트는 커밋 뒤에 지워진다).
+     * 사용자 집합을 먼저 채운 뒤 잔여 수량을 SETNX 로 올려, 적재 도중 중복 발급이 통과하지 않게 한다.
+     */
+    private void load(Long couponId) {
+        CouponEntity coupon = jpaCouponRepository.findById(couponId)
+            .orElseThrow(() -> new BusinessException(CouponErrorCode.COUPON_NOT_FOUND));
+        Set<Long> issuedUserIds = unflushedUserIds(couponId);
+        issuedUserIds.addAll(jpaUserCouponRepository.findUserIdsByCouponId(couponId));
+        List<Long> userIds = new ArrayList<>(issuedUserIds);
+
+        for (int from = 0; from < userIds.size(); from += LOAD_CHUNK_SIZE) {
+            String[] members = userIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, userIds.size())).stream()
+                .map(String::valueOf)
+                .toArray(String[]::new);
+            redisTemplate.opsForSet().add(usersKey(couponId), members);
+        }
+
+        long remaining = Math.max(coupon.getTotalQuantity() - userIds.size(), 0);
+        redisTemplate.opsForValue().setIfAbsent(remainingKey(couponId), String.valueOf(remaining));
+        log.info("쿠폰 발급 카운터 적재 - couponId={}, remaining={}", couponId, remaining);
+    }
+
+    // couponId:userId:issuedAtEpochMillis 중 해당 쿠폰의 사용자
+    @SuppressWarnings("unchecked")
+    private Set<Long> unflushedUserIds(Long couponId) {
+        List<String> entries = redisTemplate.execute(UNFLUSHED_SCRIPT,
+            List.of(ISSUED_QUEUE_KEY, CouponIssueWriteBehindFlusher.PROCESSING_KEY));
+        String prefix = couponId + ":";
+        Set<Long> userIds = new HashSet<>();
+        if (entries != null) {
+            entries.stream()
+                .filter(entry -> entry.startsWith(prefix))
+                .forEach(entry -> userIds.add(Long.parseLong(entry.split(":")[1])));
+        }
+        return userIds;
+    }
+
+    private String remainingKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":remaining";
+    }
+
+    private String usersKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":users";
+    }
+}
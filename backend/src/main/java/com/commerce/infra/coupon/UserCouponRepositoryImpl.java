@@ -0,0 +1,47 @@
+package com.commerce.infra.coupon;
+
+import com.commerce.domain.coupon.UserCouponEntity;
+import com.commerce.domain.coupon.UserCouponRepository;
+import com.commerce.domain.coupon.UserCouponStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserCouponRepositoryImpl implements UserCouponRepository {
+
+    private final JpaUserCouponRepository jpaUserCouponRepository;
+
+    @Override
+    public void saveAll(List<UserCouponEntity> userCoupons) {
+        jpaUserCouponRepository.saveAll(userCoupons);
+    }
+
+    @Override
+    public Optional<UserCouponEntity> findById(Long id) {
+        return jpaUserCouponRepository.findById(id);
+    }
+
+    @Override
+    public List<UserCouponEntity> findByUserId(Long userId) {
+        return jpaUserCouponRepository.findByUserIdOrderByIssuedAtDesc(userId);
+    }
+
+    @Override
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return jpaUserCouponRepository.findUserIdsByCouponId(couponId);
+    }
+
+    @Override
+    public int markUsed(Long id, Long orderId) {
+        return jpaUserCouponRepository.markUsed(id, orderId, UserCouponStatus.ISSUED, UserCouponStatus.USED);
+    }
+
+    @Override
+    public int restore(Long id, Long orderId) {
+        return jpaUserCouponRepository.restore(id, orderId, UserCouponStatus.USED, UserCouponStatus.ISSUED);
+    }
+}
@@ -0,0 +1,114 @@
+package com.commerce.infra.lock;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.common.response.ResponseCode;
+import com.commerce.domain.product.ProductLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 재고 변경용 분산 락 (Redisson)
+ * 상품 ID를 고정 개수의 스트라이프로 매핑하고, 스트라이프 번호 순으로 MultiLock 을 획득해
+ * 노드 간 교착 없이 주문 단위로 재고 변경을 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonProductLockManager implements ProductLockManager {
+
+    private static final String LOCK_KEY_PREFIX = "lock:product:stripe:";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${commerce.lock.enabled:true}")
+    private boolean enabled;
+
+    @Value("${commerce.lock.wait-time-ms:3000}")
+    private long waitTimeMs;
+
+    @Value("${commerce.lock.lease-time-ms:10000}")
+    private long leaseTimeMs;
+
+    @Value("${commerce.lock.stripes:1024}")
+    private int stripes;
+
+    @Value("${commerce.lock.contention-threshold-ms:10}")
+    private long contentionThresholdMs;
+
+    @Override
+    public <T> T executeWithLocks(Collection<Long> productIds, Supplier<T> action) {
+        if (!enabled || productIds.isEmpty()) {
+            return action.get();
+        }
+
+        RLock[] locks = productIds.stream()
+            .mapToInt(this::stripeOf)
+            .distinct()
+            .sorted()
+            .mapToObj(stripe -> redissonClient.getLock(LOCK_KEY_PREFIX + stripe))
+            .toArray(RLock[]::new);
+        RLock lock = locks.length == 1 ? locks[0] : redissonClient.getMultiLock(locks);
+
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(waitTimeMs, leaseTimeMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ResponseCode.LOCK_ACQUISITION_FAILED);
+        }
+        long waitedNanos = System.nanoTime() - startedAt;
+        recordWait(productIds, waitedNanos, acquired);
+
+        if (!acquired) {
+            log.warn("상품 락 획득 실패 - productIds={}, waited={}ms", productIds, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+            throw new BusinessException(ResponseCode.LOCK_ACQUISITION_FAILED);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            try {
+                lock.unlock();
+            } catch (IllegalMonitorStateException e) {
+                // 임대 시간이 지나 이미 해제된 경우
+                log.warn("상품 락 해제 실패 (lease 만료) - productIds={}", productIds);
+            }
+        }
+    }
+
+    private int stripeOf(Long productId) {
+        return Math.floorMod(Long.hashCode(productId), stripes);
+    }
+
+    private void recordWait(Collection<Long> productIds, long waitedNanos, boolean acquired) {
+        Timer.builder("commerce.product.lock.wait")
+            .description("상품 락 대기 시간")
+            .tag("result", acquired ? "acquired" : "timeout")
+            .register(meterRegistry)
+            .record(waitedNanos, TimeUnit.NANOSECONDS);
+
+        // 상품 ID 태그는 상품 수만큼 시계열을 만들므로, 건수만 세고 경합 상품은 로그로 남긴다
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(waitedNanos);
+        if (!acquired || waitedMs >= contentionThresholdMs) {
+            Counter.builder("commerce.product.lock.contention")
+                .description("상품 락 경합 횟수")
+                .register(meterRegistry)
+                .increment();
+            if (acquired) {
+                log.info("상품 락 경합 - productIds={}, waited={}ms", productIds, waitedMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.commerce.infra.order;
+
+import com.commerce.application.order.OrderIntake;
+import com.commerce.application.order.OrderIntakeQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 메모리 접수 대기열 (고정 용량)
+ * 프로세스가 종료되면 남은 요청은 사라지므로 티켓은 QUEUED 상태로 만료된다.
+ */
+@Component
+@ConditionalOnProperty(name = "commerce.order.intake.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOrderIntakeQueue implements OrderIntakeQueue {
+
+    private final BlockingQueue<OrderIntake> queue;
+
+    public InMemoryOrderIntakeQueue(@Value("${commerce.order.intake.capacity:10000}") int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean offer(OrderIntake intake) {
+        return queue.offer(intake);
+    }
+
+    @Override
+    public List<OrderIntake> poll(int maxBatch, long timeoutMs) throws InterruptedException {
+        List<OrderIntake> batch = new ArrayList<>(maxBatch);
+        OrderIntake first = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        queue.drainTo(batch, maxBatch - 1);
+        return batch;
+    }
+
+    @Override
+    public void ack(List<OrderIntake> intakes) {
+        // 메모리 큐는 꺼내는 순간 제거된다
+    }
+
+    @Override
+    public void release(List<OrderIntake> intakes) {
+        // 용량이 가득 차 다시 넣지 못한 요청은 티켓이 PROCESSING 상태로 만료된다
+        intakes.forEach(queue::offer);
+    }
+}
@@ -1,6 +1,7 @@
 package com.commerce.infra.order;
 
 import com.commerce.domain.order.OrderItemEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,4 +10,6 @@ import org.springframework.stereotype.Repository;
 public interface JpaOrderItemRepository extends JpaRepository<OrderItemEntity, Long> {
 
     List<OrderItemEntity> findByOrderId(Long orderId);
+
+    List<OrderItemEntity> findByOrderIdIn(Collection<Long> orderIds);
 }
@@ -1,14 +1,57 @@
 package com.commerce.infra.order;
 
 import com.commerce.domain.order.OrderEntity;
-import com.commerce.domain.order.OrderItemEntity;
+import com.commerce.domain.order.OrderKey;
+import com.commerce.domain.order.OrderStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderRepository extends JpaRepository<OrderEntity, Long> {
 
-    List<OrderEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("select new com.commerce.domain.order.OrderKey(o.id, o.createdAt) from OrderEntity o "
+        + "where o.status = :status and o.createdAt < :cutoff "
+        + "order by o.createdAt, o.id")
+    List<OrderKey> findKeysByStatusBefore(@Param("status") OrderStatus status,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          Pageable pageable);
+
+    @Query("select new com.commerce.domain.order.OrderKey(o.id, o.createdAt) from OrderEntity o "
+        + "where o.status = :status and o.createdAt < :cutoff "
+        + "and (o.createdAt > :afterCreatedAt or (o.createdAt = :afterCreatedAt and o.id > :afterId)) "
+        + "order by o.createdAt, o.id")
+    List<OrderKey> findKeysByStatusBeforeAfter(@Param("status") OrderStatus status,
+                                               @Param("cutoff") LocalDateTime cutoff,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from OrderEntity o where o.id in :ids and o.status = :status order by o.id")
+    List<Long> findIdsByStatusForUpdate(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    @Query("select new com.commerce.infra.order.OrderRequestKeyRow(o.requestKey, o.id) from OrderEntity o "
+        + "where o.requestKey in :requestKeys")
+    List<OrderRequestKeyRow> findIdsByRequestKeys(@Param("requestKeys") Collection<String> requestKeys);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.commerce.infra.order.OrderStatusRow(o.id, o.status) from OrderEntity o "
+        + "where o.id in :ids order by o.id")
+    List<OrderStatusRow> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderEntity o set o.status = :to, o.updatedAt = local datetime "
+        + "where o.id in :ids and o.status = :from")
+    int updateStatusIfMatches(@Param("ids") Collection<Long> ids,
+                              @Param("from") OrderStatus from,
+                              @Param("to") OrderStatus to);
 }
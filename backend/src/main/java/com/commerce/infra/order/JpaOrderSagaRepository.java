@@ -0,0 +1,41 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderSagaEntity;
+import com.commerce.domain.order.OrderSagaStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderSagaRepository extends JpaRepository<OrderSagaEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select s from OrderSagaEntity s where s.id = :id")
+    Optional<OrderSagaEntity> findByIdForShare(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSagaEntity s set s.orderId = :orderId, s.updatedAt = local datetime where s.id = :id")
+    int updateOrderId(@Param("id") Long id, @Param("orderId") Long orderId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSagaEntity s set s.status = :to, s.updatedAt = local datetime "
+        + "where s.id = :id and s.status = :from")
+    int updateStatusIfMatches(@Param("id") Long id,
+                              @Param("from") OrderSagaStatus from,
+                              @Param("to") OrderSagaStatus to);
+
+    @Query("select s from OrderSagaEntity s where s.status in :statuses and s.updatedAt < :before "
+        + "order by s.updatedAt")
+    List<OrderSagaEntity> findByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<OrderSagaStatus> statuses,
+                                                           @Param("before") LocalDateTime before,
+                                                           Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderSagaStep;
+import com.commerce.domain.order.OrderSagaStepEntity;
+import com.commerce.domain.order.OrderSagaStepStatus;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderSagaStepRepository extends JpaRepository<OrderSagaStepEntity, Long> {
+
+    @Query("select s.step from OrderSagaStepEntity s where s.sagaId = :sagaId and s.status = :status")
+    List<OrderSagaStep> findStepsBySagaIdAndStatus(@Param("sagaId") Long sagaId,
+                                                   @Param("status") OrderSagaStepStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSagaStepEntity s set s.status = :to, s.updatedAt = local datetime "
+        + "where s.sagaId = :sagaId and s.step = :step and s.status = :from")
+    int updateStatusIfMatches(@Param("sagaId") Long sagaId,
+                              @Param("step") OrderSagaStep step,
+                              @Param("from") OrderSagaStepStatus from,
+                              @Param("to") OrderSagaStepStatus to);
+}
@@ -0,0 +1,38 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderSummaryEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderSummaryRepository extends JpaRepository<OrderSummaryEntity, Long> {
+
+    @Query("select s from OrderSummaryEntity s where s.userId = :userId order by s.createdAt desc, s.orderId desc")
+    List<OrderSummaryEntity> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select s from OrderSummaryEntity s where s.userId = :userId "
+        + "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.orderId < :orderId)) "
+        + "order by s.createdAt desc, s.orderId desc")
+    List<OrderSummaryEntity> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("orderId") Long orderId,
+                                                    Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSummaryEntity s set s.status = :status, s.updatedAt = local datetime "
+        + "where s.orderId in :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderSummaryEntity s set s.totalAmount = :totalAmount, s.updatedAt = local datetime "
+        + "where s.orderId = :orderId")
+    int updateTotalAmount(@Param("orderId") Long orderId, @Param("totalAmount") Long totalAmount);
+}
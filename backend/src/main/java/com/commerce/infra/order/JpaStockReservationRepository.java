@@ -0,0 +1,48 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.ReservationExpiry;
+import com.commerce.domain.order.ReservationStatus;
+import com.commerce.domain.order.StockReservationEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaStockReservationRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservationEntity r "
+        + "where r.orderId in :orderIds and r.status = :status "
+        + "order by r.orderId, r.productId")
+    List<StockReservationEntity> findByOrderIdsAndStatusForUpdate(@Param("orderIds") Collection<Long> orderIds,
+                                                                  @Param("status") ReservationStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StockReservationEntity r set r.status = :status, r.updatedAt = local datetime "
+        + "where r.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StockReservationEntity r set r.status = :to, r.updatedAt = local datetime "
+        + "where r.orderId = :orderId and r.status = :from")
+    int updateStatusByOrderId(@Param("orderId") Long orderId,
+                              @Param("from") ReservationStatus from,
+                              @Param("to") ReservationStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update StockReservationEntity r set r.status = :to, r.updatedAt = local datetime "
+        + "where r.orderId in :orderIds and r.status = :from")
+    int updateStatusByOrderIds(@Param("orderIds") Collection<Long> orderIds,
+                               @Param("from") ReservationStatus from,
+                               @Param("to") ReservationStatus to);
+
+    @Query("select new com.commerce.domain.order.ReservationExpiry(r.orderId, max(r.expiresAt)) "
+        + "from StockReservationEntity r where r.status = :status group by r.orderId")
+    List<ReservationExpiry> findExpiriesByStatus(@Param("status") ReservationStatus status);
+}
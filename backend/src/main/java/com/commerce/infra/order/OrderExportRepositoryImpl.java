@@ -0,0 +1,72 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderExportRepository;
+import com.commerce.domain.order.OrderExportRow;
+import com.commerce.domain.order.OrderStatus;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    // orders PK 순서로 읽고 주문상품은 (order_id, id) 인덱스로 붙이므로 정렬(filesort) 없이 흘려보낸다
+    private static final String EXPORT_SQL = """
+        SELECT o.id AS order_id, o.user_id, o.coupon_id, o.status, o.total_amount, o.created_at,
+               oi.id AS order_item_id, oi.product_id, oi.quantity, oi.unit_price, oi.amount
+        FROM orders o
+        JOIN order_items oi ON oi.order_id = o.id
+        %s
+        ORDER BY o.id, oi.id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void stream(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> consumer) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (from != null) {
+            conditions.add("o.created_at >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("o.created_at < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        String sql = EXPORT_SQL.formatted(conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions));
+
+        // MySQL 드라이버는 forward-only/read-only 문장에 fetchSize 가 Integer.MIN_VALUE 일 때만 행을 하나씩 스트리밍한다
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(new OrderExportRow(
+                rs.getLong("order_id"),
+                rs.getLong("user_id"),
+                rs.getObject("coupon_id", Long.class),
+                OrderStatus.valueOf(rs.getString("status")),
+                rs.getLong("total_amount"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getLong("order_item_id"),
+                rs.getLong("product_id"),
+                rs.getLong("quantity"),
+                rs.getObject("unit_price", Long.class),
+                rs.getLong("amount")
+            ));
+        });
+    }
+}
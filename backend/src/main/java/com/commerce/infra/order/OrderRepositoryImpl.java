@@ -2,19 +2,28 @@ package com.commerce.infra.order;
 
 import com.commerce.domain.order.OrderEntity;
 import com.commerce.domain.order.OrderItemEntity;
+import com.commerce.domain.order.OrderKey;
 import com.commerce.domain.order.OrderRepository;
 import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderStatusTransition;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
+    private static final int TRANSITION_CHUNK_SIZE = 1000;
+
     private final JpaOrderRepository jpaOrderRepository;
     private final JpaOrderItemRepository jpaOrderItemRepository;
     private final EntityManager em;
@@ -39,11 +48,59 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public List<OrderEntity> findNotPaidOrdersOlderThan(LocalDateTime expiredTime) {
-        return jpaOrderRepository.findAll().stream()
-            .filter(o -> o.getCreatedAt().isBefore(LocalDateTime.now().minusMinutes(5))
-                && o.getStatus() == OrderStatus.PENDING)
-            .toList();
+    public List<OrderKey> findPendingOrderKeysBefore(LocalDateTime cutoff, OrderKey after, int size) {
+        if (after == null) {
+            return jpaOrderRepository.findKeysByStatusBefore(OrderStatus.PENDING, cutoff, PageRequest.ofSize(size));
+        }
+        return jpaOrderRepository.findKeysByStatusBeforeAfter(OrderStatus.PENDING, cutoff,
+            after.createdAt(), after.id(), PageRequest.ofSize(size));
+    }
+
+    @Override
+    public List<Long> findPendingOrderIdsForUpdate(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaOrderRepository.findIdsByStatusForUpdate(orderIds, OrderStatus.PENDING);
+    }
+
+    @Override
+    public int cancelPendingOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jpaOrderRepository.updateStatusIfMatches(orderIds, OrderStatus.PENDING, OrderStatus.CANCELLED);
+    }
+
+    @Override
+    public List<OrderStatusTransition> transitionStatus(List<Long> orderIds, OrderStatus from, OrderStatus to) {
+        List<Long> ids = orderIds.stream().distinct().toList();
+        List<OrderStatusTransition> results = new ArrayList<>(ids.size());
+
+        for (int start = 0; start < ids.size(); start += TRANSITION_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + TRANSITION_CHUNK_SIZE, ids.size()));
+            Map<Long, OrderStatus> current = jpaOrderRepository.findStatusesForUpdate(chunk).stream()
+                .collect(Collectors.toMap(OrderStatusRow::id, OrderStatusRow::status));
+
+            List<Long> matched = chunk.stream()
+                .filter(id -> current.get(id) == from)
+                .toList();
+            if (!matched.isEmpty()) {
+                jpaOrderRepository.updateStatusIfMatches(matched, from, to);
+            }
+
+            for (Long id : chunk) {
+                OrderStatus status = current.get(id);
+                if (status == null) {
+                    results.add(new OrderStatusTransition(id, OrderStatusTransition.Outcome.NOT_FOUND, null));
+                } else if (status == from) {
+                    results.add(new OrderStatusTransition(id, OrderStatusTransition.Outcome.TRANSITIONED, to));
+                } else {
+                    results.add(new OrderStatusTransition(id, OrderStatusTransition.Outcome.STATUS_MISMATCH, status));
+                }
+            }
+        }
+        return results;
     }
 
     @Override
@@ -51,6 +108,31 @@ public class OrderRepositoryImpl implements OrderRepository {
         return jpaOrderItemRepository.findByOrderId(orderId);
     }
 
+    @Override
+    public List<OrderEntity> findAllByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaOrderRepository.findAllById(orderIds);
+    }
+
+    @Override
+    public Map<String, Long> findOrderIdsByRequestKeys(Collection<String> requestKeys) {
+        if (requestKeys.isEmpty()) {
+            return Map.of();
+        }
+        return jpaOrderRepository.findIdsByRequestKeys(requestKeys).stream()
+            .collect(Collectors.toMap(OrderRequestKeyRow::requestKey, OrderRequestKeyRow::id));
+    }
+
+    @Override
+    public List<OrderItemEntity> findItemsByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaOrderItemRepository.findByOrderIdIn(orderIds);
+    }
+
     @Override
     public OrderItemEntity saveOrderItem(OrderItemEntity orderItem) {
         em.persist(orderItem);
@@ -71,9 +153,4 @@ public class OrderRepositoryImpl implements OrderRepository {
     public void delete(OrderEntity order) {
         jpaOrderRepository.delete(order);
     }
-
-    @Override
-    public List<OrderEntity> findByUserId(Long userId) {
-        return jpaOrderRepository.findByUserIdOrderByCreatedAtDesc(userId);
-    }
 }
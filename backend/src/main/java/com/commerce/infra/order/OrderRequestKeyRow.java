@@ -0,0 +1,7 @@
+package com.commerce.infra.order;
+
+/**
+ * 주문 멱등 키와 주문 ID만 읽는 조회 결과
+ */
+public record OrderRequestKeyRow(String requestKey, Long id) {
+}
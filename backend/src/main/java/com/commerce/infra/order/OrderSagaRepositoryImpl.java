@@ -0,0 +1,69 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderSagaEntity;
+import com.commerce.domain.order.OrderSagaRepository;
+import com.commerce.domain.order.OrderSagaStatus;
+import com.commerce.domain.order.OrderSagaStep;
+import com.commerce.domain.order.OrderSagaStepEntity;
+import com.commerce.domain.order.OrderSagaStepStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSagaRepositoryImpl implements OrderSagaRepository {
+
+    private final JpaOrderSagaRepository jpaOrderSagaRepository;
+    private final JpaOrderSagaStepRepository jpaOrderSagaStepRepository;
+
+    @Override
+    public OrderSagaEntity save(OrderSagaEntity saga) {
+        return jpaOrderSagaRepository.save(saga);
+    }
+
+    @Override
+    public Optional<OrderSagaEntity> findById(Long sagaId) {
+        return jpaOrderSagaRepository.findById(sagaId);
+    }
+
+    @Override
+    public Optional<OrderSagaEntity> findByIdForShare(Long sagaId) {
+        return jpaOrderSagaRepository.findByIdForShare(sagaId);
+    }
+
+    @Override
+    public int attachOrder(Long sagaId, Long orderId) {
+        return jpaOrderSagaRepository.updateOrderId(sagaId, orderId);
+    }
+
+    @Override
+    public int updateStatus(Long sagaId, OrderSagaStatus from, OrderSagaStatus to) {
+        return jpaOrderSagaRepository.updateStatusIfMatches(sagaId, from, to);
+    }
+
+    @Override
+    public List<OrderSagaEntity> findStale(Collection<OrderSagaStatus> statuses, LocalDateTime before, int size) {
+        return jpaOrderSagaRepository.findByStatusInAndUpdatedAtBefore(statuses, before, PageRequest.ofSize(size));
+    }
+
+    @Override
+    public void saveStep(OrderSagaStepEntity step) {
+        jpaOrderSagaStepRepository.save(step);
+    }
+
+    @Override
+    public List<OrderSagaStep> findExecutedSteps(Long sagaId) {
+        return jpaOrderSagaStepRepository.findStepsBySagaIdAndStatus(sagaId, OrderSagaStepStatus.EXECUTED);
+    }
+
+    @Override
+    public int markStepCompensated(Long sagaId, OrderSagaStep step) {
+        return jpaOrderSagaStepRepository.updateStatusIfMatches(sagaId, step,
+            OrderSagaStepStatus.EXECUTED, OrderSagaStepStatus.COMPENSATED);
+    }
+}
@@ -0,0 +1,9 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderStatus;
+
+/**
+ * 주문 ID와 상태만 읽는 조회 결과
+ */
+public record OrderStatusRow(Long id, OrderStatus status) {
+}
@@ -0,0 +1,84 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderKey;
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.order.OrderSummaryEntity;
+import com.commerce.domain.order.OrderSummaryRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepository {
+
+    // 주문 상품과 상품 스냅샷을 JSON 배열로 묶어 한 번에 적재 (MySQL JSON_ARRAYAGG)
+    private static final String BACKFILL_SQL = """
+        INSERT INTO order_summaries (order_id, user_id, coupon_id, status, total_amount, item_count, items, created_at, updated_at)
+        SELECT o.id, o.user_id, o.coupon_id, o.status, o.total_amount, COUNT(oi.id),
+               IF(COUNT(oi.id) = 0, JSON_ARRAY(), JSON_ARRAYAGG(JSON_OBJECT(
+                   'id', oi.id, 'productId', oi.product_id, 'productName', p.name, 'imageUrl', p.image_url,
+                   'quantity', oi.quantity, 'amount', oi.amount))),
+               o.created_at, o.updated_at
+        FROM (
+            SELECT o2.id FROM orders o2
+            LEFT JOIN order_summaries s ON s.order_id = o2.id
+            WHERE s.order_id IS NULL
+            ORDER BY o2.id
+            LIMIT ?
+        ) missing
+        JOIN orders o ON o.id = missing.id
+        LEFT JOIN order_items oi ON oi.order_id = o.id
+        LEFT JOIN products p ON p.id = oi.product_id
+        GROUP BY o.id
+        """;
+
+    private final JpaOrderSummaryRepository jpaOrderSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(OrderSummaryEntity summary) {
+        jpaOrderSummaryRepository.save(summary);
+    }
+
+    @Override
+    public Optional<OrderSummaryEntity> findById(Long orderId) {
+        return jpaOrderSummaryRepository.findById(orderId);
+    }
+
+    @Override
+    public List<OrderSummaryEntity> findByUserIdBefore(Long userId, OrderKey before, int size) {
+        if (before == null) {
+            return jpaOrderSummaryRepository.findPageByUserId(userId, PageRequest.ofSize(size));
+        }
+        return jpaOrderSummaryRepository.findPageByUserIdBefore(userId, before.createdAt(), before.id(),
+            PageRequest.ofSize(size));
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> orderIds, OrderStatus status) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jpaOrderSummaryRepository.updateStatus(orderIds, status);
+    }
+
+    @Override
+    public int updateTotalAmount(Long orderId, Long totalAmount) {
+        return jpaOrderSummaryRepository.updateTotalAmount(orderId, totalAmount);
+    }
+
+    @Override
+    public void deleteById(Long orderId) {
+        jpaOrderSummaryRepository.deleteById(orderId);
+    }
+
+    @Override
+    public int backfillMissing(int limit) {
+        return jdbcTemplate.update(BACKFILL_SQL, limit);
+    }
+}
@@ -0,0 +1,92 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.OrderTicket;
+import com.commerce.domain.order.OrderTicketRepository;
+import com.commerce.domain.order.OrderTicketStatus;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 접수 티켓 저장소 (Redis 해시 order:ticket:{ticketId}, TTL 적용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisOrderTicketRepository implements OrderTicketRepository {
+
+    private static final String KEY_PREFIX = "order:ticket:";
+
+    // 상태 확인과 변경을 한 번에 처리해 같은 티켓을 두 워커가 동시에 처리하지 못하게 한다 (임대 시각은 Redis 시계 기준)
+    private static final RedisScript<Long> MARK_PROCESSING_SCRIPT = new DefaultRedisScript<>(
+        "local status = redis.call('HGET', KEYS[1], 'status') "
+            + "if status == 'COMPLETED' or status == 'FAILED' then return 0 end "
+            + "local time = redis.call('TIME') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+            + "if status == 'PROCESSING' and tonumber(redis.call('HGET', KEYS[1], 'leaseUntil') or '0') > now then "
+            + "  return 0 "
+            + "end "
+            + "redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'status', 'PROCESSING', "
+            + "  'leaseUntil', tostring(now + tonumber(ARGV[2]))) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${commerce.order.intake.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    @Override
+    public void save(OrderTicket ticket) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(ticket.userId()));
+        fields.put("status", ticket.status().name());
+        if (ticket.orderId() != null) {
+            fields.put("orderId", String.valueOf(ticket.orderId()));
+        }
+        if (ticket.errorCode() != null) {
+            fields.put("errorCode", ticket.errorCode());
+            fields.put("message", ticket.message());
+        }
+
+        String key = KEY_PREFIX + ticket.ticketId();
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofSeconds(ticketTtlSeconds));
+    }
+
+    @Override
+    public Optional<OrderTicket> findById(String ticketId) {
+        Map<String, String> fields = redisTemplate.<String, String>opsForHash().entries(KEY_PREFIX + ticketId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new OrderTicket(
+            ticketId,
+            Long.parseLong(fields.get("userId")),
+            OrderTicketStatus.valueOf(fields.get("status")),
+            fields.containsKey("orderId") ? Long.parseLong(fields.get("orderId")) : null,
+            fields.get("errorCode"),
+            fields.get("message")
+        ));
+    }
+
+    @Override
+    public boolean markProcessing(String ticketId, Long userId, long leaseMillis) {
+        Long result = redisTemplate.execute(MARK_PROCESSING_SCRIPT, List.of(KEY_PREFIX + ticketId),
+            String.valueOf(userId), String.valueOf(leaseMillis), String.valueOf(ticketTtlSeconds));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void delete(String ticketId) {
+        redisTemplate.delete(KEY_PREFIX + ticketId);
+    }
+}
@@ -0,0 +1,195 @@
+package com.commerce.infra.order;
+
+import com.commerce.application.order.OrderIntake;
+import com.commerce.application.order.OrderIntakeQueue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드가 공유하는 Redis Stream 접수 대기열
+ * 소비자 그룹으로 노드 간에 요청을 나눠 받고, 처리 후 XACK 한다.
+ *
+ * 확인되지 않은(pending) 메시지는 주기적으로 XPENDING 으로 찾아, claim-min-idle-ms 이상 확인되지 않았고
+ * 이 노드에서 처리 중이 아닌 것을 XCLAIM 으로 가져온다. 종료된 노드나 재기동 전의 이 노드가 받아 두고
+ * 처리하지 못한 메시지가 여기서 회수된다. XCLAIM 은 유휴 시간을 다시 검사하므로 여러 노드가 동시에 가져가지 않는다.
+ * 가져온 메시지는 노드 내 큐에 넣어 워커 하나에만 넘기고, 새 메시지는 XREADGROUP > 로만 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "commerce.order.intake.mode", havingValue = "redis-stream")
+public class RedisStreamOrderIntakeQueue implements OrderIntakeQueue {
+
+    private static final String STREAM_KEY = "order:intake";
+    private static final String GROUP = "order-intake-workers";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final int CLAIM_BATCH = 256;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 처리 중인 티켓 -> 스트림 메시지 ID (ack 용)
+    private final Map<String, RecordId> inFlight = new ConcurrentHashMap<>();
+
+    // XCLAIM 으로 가져와 아직 워커에 넘기지 않은 요청
+    private final Queue<OrderIntake> claimed = new ConcurrentLinkedQueue<>();
+
+    @Value("${commerce.order.intake.capacity:10000}")
+    private long capacity;
+
+    @Value("${commerce.order.intake.consumer-name:}")
+    private String consumerName;
+
+    @Value("${commerce.order.intake.claim-min-idle-ms:30000}")
+    private long claimMinIdleMs;
+
+    @PostConstruct
+    public void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            try {
+                consumerName = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                consumerName = "order-intake-" + ProcessHandle.current().pid();
+            }
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException e) {
+            // 이미 그룹이 있으면 BUSYGROUP
+            log.debug("주문 접수 스트림 소비자 그룹 존재 - {}", GROUP);
+        }
+    }
+
+    @Override
+    public boolean offer(OrderIntake intake) {
+        Long length = redisTemplate.opsForStream().size(STREAM_KEY);
+        if (length != null && length >= capacity) {
+            return false;
+        }
+        try {
+            redisTemplate.opsForStream().add(
+                MapRecord.create(STREAM_KEY, Map.of(PAYLOAD_FIELD, objectMapper.writeValueAsString(intake))));
+            return true;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 접수 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public List<OrderIntake> poll(int maxBatch, long timeoutMs) {
+        // 회수한 메시지가 있으면 먼저 처리 (큐에서 꺼낸 워커만 받으므로 중복 전달되지 않는다)
+        List<OrderIntake> intakes = new ArrayList<>();
+        OrderIntake intake;
+        while (intakes.size() < maxBatch && (intake = claimed.poll()) != null) {
+            intakes.add(intake);
+        }
+        if (!intakes.isEmpty()) {
+            return intakes;
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+            Consumer.from(GROUP, consumerName),
+            StreamReadOptions.empty().count(maxBatch).block(Duration.ofMillis(timeoutMs)),
+            StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        if (records == null) {
+            return intakes;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            OrderIntake received = track(record);
+            if (received != null) {
+                intakes.add(received);
+            }
+        }
+        return intakes;
+    }
+
+    @Override
+    public void ack(List<OrderIntake> intakes) {
+        RecordId[] ids = intakes.stream()
+            .map(intake -> inFlight.remove(intake.ticketId()))
+            .filter(id -> id != null)
+            .toArray(RecordId[]::new);
+        if (ids.length == 0) {
+            return;
+        }
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        // 처리된 메시지는 스트림 길이(용량)에서 제외
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    @Override
+    public void release(List<OrderIntake> intakes) {
+        // 확인하지 않은 채 처리 중 표시만 지우면 유휴 시간이 지난 뒤 다시 회수된다
+        intakes.forEach(intake -> inFlight.remove(intake.ticketId()));
+    }
+
+    /**
+     * 오래 확인되지 않은 메시지 회수 (기동 직후 한 번, 이후 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${commerce.order.intake.claim-interval-ms:5000}")
+    public void claimIdle() {
+        Duration minIdle = Duration.ofMillis(claimMinIdleMs);
+        PendingMessages pending = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), CLAIM_BATCH);
+
+        List<RecordId> idle = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0
+                && !inFlight.containsValue(message.getId())) {
+                idle.add(message.getId());
+            }
+        }
+        if (idle.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+            .claim(STREAM_KEY, GROUP, consumerName, minIdle, idle.toArray(RecordId[]::new));
+        for (MapRecord<String, Object, Object> record : records) {
+            OrderIntake received = track(record);
+            if (received != null) {
+                claimed.add(received);
+            }
+        }
+        log.info("확인되지 않은 주문 접수 메시지 회수 - {}건", records.size());
+    }
+
+    // 받은 메시지를 처리 중으로 기록하고 요청으로 변환 (읽을 수 없는 메시지는 폐기하고 null)
+    private OrderIntake track(MapRecord<String, Object, Object> record) {
+        try {
+            OrderIntake intake = objectMapper.readValue(String.valueOf(record.getValue().get(PAYLOAD_FIELD)), OrderIntake.class);
+            inFlight.put(intake.ticketId(), record.getId());
+            return intake;
+        } catch (JsonProcessingException e) {
+            log.error("주문 접수 메시지 역직렬화 실패, 폐기 - id={}", record.getId(), e);
+            redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, record.getId());
+            redisTemplate.opsForStream().delete(STREAM_KEY, record.getId());
+            return null;
+        }
+    }
+}
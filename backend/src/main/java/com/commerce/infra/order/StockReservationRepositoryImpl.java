@@ -0,0 +1,63 @@
+package com.commerce.infra.order;
+
+import com.commerce.domain.order.ReservationExpiry;
+import com.commerce.domain.order.ReservationStatus;
+import com.commerce.domain.order.StockReservationEntity;
+import com.commerce.domain.order.StockReservationRepository;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    private final JpaStockReservationRepository jpaStockReservationRepository;
+
+    @Override
+    public void saveAll(List<StockReservationEntity> reservations) {
+        jpaStockReservationRepository.saveAll(reservations);
+    }
+
+    @Override
+    public List<StockReservationEntity> findReservedByOrderIdsForUpdate(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaStockReservationRepository.findByOrderIdsAndStatusForUpdate(orderIds, ReservationStatus.RESERVED);
+    }
+
+    @Override
+    public List<StockReservationEntity> findConfirmedByOrderIdForUpdate(Long orderId) {
+        return jpaStockReservationRepository.findByOrderIdsAndStatusForUpdate(List.of(orderId), ReservationStatus.CONFIRMED);
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> reservationIds, ReservationStatus status) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return jpaStockReservationRepository.updateStatus(reservationIds, status);
+    }
+
+    @Override
+    public int confirmByOrderId(Long orderId) {
+        return jpaStockReservationRepository.updateStatusByOrderId(orderId,
+            ReservationStatus.RESERVED, ReservationStatus.CONFIRMED);
+    }
+
+    @Override
+    public int confirmByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jpaStockReservationRepository.updateStatusByOrderIds(orderIds,
+            ReservationStatus.RESERVED, ReservationStatus.CONFIRMED);
+    }
+
+    @Override
+    public List<ReservationExpiry> findReservedExpiries() {
+        return jpaStockReservationRepository.findExpiriesByStatus(ReservationStatus.RESERVED);
+    }
+}
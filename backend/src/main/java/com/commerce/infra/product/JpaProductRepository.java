@@ -4,10 +4,16 @@ import com.commerce.domain.product.ProductEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface JpaProductRepository extends JpaRepository<ProductEntity, Long> {
-    Page<ProductEntity> findByCategoryId(Long categoryId, Pageable pageable);
-    List<ProductEntity> findByNameContaining(String keyword);
+    Page<ProductEntity> findByNameContaining(String keyword, Pageable pageable);
+
+    @Modifying
+    @Query("update ProductEntity p set p.stock = p.stock + :delta, p.version = p.version + 1, p.updatedAt = local datetime where p.id = :id")
+    int applyStockDelta(@Param("id") Long id, @Param("delta") Long delta);
 }
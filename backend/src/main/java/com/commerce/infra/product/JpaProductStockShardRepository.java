@@ -0,0 +1,23 @@
+package com.commerce.infra.product;
+
+import com.commerce.domain.product.ProductStockShardEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaProductStockShardRepository extends JpaRepository<ProductStockShardEntity, Long> {
+    List<ProductStockShardEntity> findByProductIdOrderByShardNo(Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockShardEntity s where s.productId = :productId order by s.shardNo")
+    List<ProductStockShardEntity> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("delete from ProductStockShardEntity s where s.productId = :productId")
+    void deleteByProductId(@Param("productId") Long productId);
+}
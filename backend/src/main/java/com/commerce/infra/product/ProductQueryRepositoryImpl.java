@@ -0,0 +1,136 @@
+package com.commerce.infra.product;
+
+import com.commerce.domain.product.ProductFilter;
+import com.commerce.domain.product.ProductKey;
+import com.commerce.domain.product.ProductQueryRepository;
+import com.commerce.domain.product.ProductSort;
+import com.commerce.domain.product.ProductSummary;
+import com.commerce.domain.product.QCategoryEntity;
+import com.commerce.domain.product.QProductEntity;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+
+    private static final QProductEntity product = QProductEntity.productEntity;
+    private static final QCategoryEntity category = QCategoryEntity.categoryEntity;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<ProductSummary> findSummaries(ProductFilter filter, Pageable pageable) {
+        List<ProductSummary> content = selectSummaries()
+                .where(conditions(filter))
+                .orderBy(product.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 첫 페이지가 다 차지 않거나 마지막 페이지면 COUNT 를 실행하지 않는다
+        JPAQuery<Long> countQuery = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(conditions(filter));
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<ProductSummary> findSummaries(ProductFilter filter, ProductSort sort, ProductKey after, int size) {
+        return selectSummaries()
+                .where(conditions(filter))
+                .where(seek(sort, after))
+                .orderBy(orderBy(sort))
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return selectSummaries()
+                .where(product.id.in(productIds))
+                .fetch();
+    }
+
+    private JPAQuery<ProductSummary> selectSummaries() {
+        return queryFactory
+                .select(Projections.constructor(ProductSummary.class,
+                        product.id,
+                        product.name,
+                        product.price,
+                        product.stock,
+                        category.id,
+                        category.name,
+                        product.imageUrl,
+                        product.createdAt))
+                .from(product)
+                .leftJoin(product.category, category);
+    }
+
+    private BooleanExpression[] conditions(ProductFilter filter) {
+        return new BooleanExpression[]{
+                filter.categoryId() != null ? product.category.id.eq(filter.categoryId()) : null,
+                filter.minPrice() != null ? product.price.goe(filter.minPrice()) : null,
+                filter.maxPrice() != null ? product.price.loe(filter.maxPrice()) : null,
+                Boolean.TRUE.equals(filter.inStock()) ? product.stock.gt(0L) : null,
+                StringUtils.hasText(filter.keyword()) ? product.name.contains(filter.keyword()) : null
+        };
+    }
+
+    // (정렬 컬럼, id) 가 커서 위치 다음인 행
+    private BooleanExpression seek(ProductSort sort, ProductKey after) {
+        if (after == null) {
+            return null;
+        }
+
+        BooleanExpression idAfter = sort.isAscending() ? product.id.gt(after.id()) : product.id.lt(after.id());
+        return switch (sort) {
+            case NEWEST -> {
+                LocalDateTime createdAt = (LocalDateTime) after.sortValue();
+                yield product.createdAt.lt(createdAt).or(product.createdAt.eq(createdAt).and(idAfter));
+            }
+            case PRICE_ASC -> {
+                Long price = (Long) after.sortValue();
+                yield product.price.gt(price).or(product.price.eq(price).and(idAfter));
+            }
+            case PRICE_DESC -> {
+                Long price = (Long) after.sortValue();
+                yield product.price.lt(price).or(product.price.eq(price).and(idAfter));
+            }
+            case NAME -> {
+                String name = (String) after.sortValue();
+                yield product.name.gt(name).or(product.name.eq(name).and(idAfter));
+            }
+        };
+    }
+
+    // 정렬 컬럼과 id 를 같은 방향으로 정렬해야 (컬럼, id) 복합 인덱스를 그대로 읽는다
+    private OrderSpecifier<?>[] orderBy(ProductSort sort) {
+        ComparableExpressionBase<?> column = switch (sort) {
+            case NEWEST -> product.createdAt;
+            case PRICE_ASC, PRICE_DESC -> product.price;
+            case NAME -> product.name;
+        };
+        return sort.isAscending()
+                ? new OrderSpecifier<?>[]{column.asc(), product.id.asc()}
+                : new OrderSpecifier<?>[]{column.desc(), product.id.desc()};
+    }
+}
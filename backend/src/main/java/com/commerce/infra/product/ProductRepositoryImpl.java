@@ -5,16 +5,27 @@ import com.commerce.domain.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE products SET stock = stock - ?, version = version + 1, updated_at = NOW() WHERE id = ? AND stock >= ?";
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE products SET stock = stock + ?, version = version + 1, updated_at = NOW() WHERE id = ?";
+
     private final JpaProductRepository jpaProductRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public ProductEntity save(ProductEntity product) {
@@ -27,22 +38,54 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public Page<ProductEntity> findPagedProducts(Pageable pageable) {
-        return jpaProductRepository.findAll(pageable);
+    public List<ProductEntity> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaProductRepository.findAllById(ids);
     }
 
     @Override
-    public Page<ProductEntity> findByCategoryId(Long categoryId, Pageable pageable) {
-        return jpaProductRepository.findByCategoryId(categoryId, pageable);
+    public Page<ProductEntity> findByNameContaining(String keyword, Pageable pageable) {
+        return jpaProductRepository.findByNameContaining(keyword, pageable);
     }
 
     @Override
-    public List<ProductEntity> findByNameContaining(String keyword) {
-        return jpaProductRepository.findByNameContaining(keyword);
+    public void deleteById(Long id) {
+        jpaProductRepository.deleteById(id);
     }
 
     @Override
-    public void deleteById(Long id) {
-        jpaProductRepository.deleteById(id);
+    public List<Long> decreaseStockBatch(Map<Long, Long> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        // 상품 ID 순서로 실행해 동시 주문 간 락 순서를 맞춘다 (데드락 방지)
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+            ps.setLong(3, entry.getValue());
+        })[0];
+
+        List<Long> failedProductIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] == 0) {
+                failedProductIds.add(entries.get(i).getKey());
+            }
+        }
+        return failedProductIds;
+    }
+
+    @Override
+    public void increaseStockBatch(Map<Long, Long> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
     }
 }
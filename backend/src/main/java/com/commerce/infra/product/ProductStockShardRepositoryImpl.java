@@ -0,0 +1,91 @@
+package com.commerce.infra.product;
+
+import com.commerce.domain.product.ProductStockShardEntity;
+import com.commerce.domain.product.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockShardRepositoryImpl implements ProductStockShardRepository {
+
+    private static final String DECREASE_SHARD_SQL =
+            "UPDATE product_stock_shards SET stock = stock - ? WHERE product_id = ? AND shard_no = ? AND stock >= ?";
+    private static final String INCREASE_SHARD_SQL =
+            "UPDATE product_stock_shards SET stock = stock + ? WHERE product_id = ? AND shard_no = ?";
+    private static final String SHARD_COUNT_SQL =
+            "SELECT product_id, COUNT(*) AS shard_count FROM product_stock_shards WHERE product_id IN (:productIds) GROUP BY product_id";
+    private static final String REFRESH_PRODUCT_STOCK_SQL =
+            "UPDATE products p SET p.stock = (SELECT COALESCE(SUM(s.stock), 0) FROM product_stock_shards s WHERE s.product_id = p.id) "
+                    + "WHERE p.id IN (:productIds) AND p.stock_shard_count > 0";
+    private static final String SHARDED_PRODUCT_IDS_SQL =
+            "SELECT id FROM products WHERE stock_shard_count > 0";
+
+    private final JpaProductStockShardRepository jpaProductStockShardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<ProductStockShardEntity> findByProductId(Long productId) {
+        return jpaProductStockShardRepository.findByProductIdOrderByShardNo(productId);
+    }
+
+    @Override
+    public List<ProductStockShardEntity> findByProductIdForUpdate(Long productId) {
+        return jpaProductStockShardRepository.findByProductIdForUpdate(productId);
+    }
+
+    @Override
+    public Map<Long, Integer> findShardCounts(Collection<Long> productIds) {
+        Map<Long, Integer> shardCounts = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return shardCounts;
+        }
+        namedParameterJdbcTemplate.query(SHARD_COUNT_SQL, new MapSqlParameterSource("productIds", productIds),
+                rs -> {
+                    shardCounts.put(rs.getLong("product_id"), rs.getInt("shard_count"));
+                });
+        return shardCounts;
+    }
+
+    @Override
+    public boolean decreaseShard(Long productId, int shardNo, long quantity) {
+        return jdbcTemplate.update(DECREASE_SHARD_SQL, quantity, productId, shardNo, quantity) > 0;
+    }
+
+    @Override
+    public void increaseShard(Long productId, int shardNo, long quantity) {
+        jdbcTemplate.update(INCREASE_SHARD_SQL, quantity, productId, shardNo);
+    }
+
+    @Override
+    public void saveAll(List<ProductStockShardEntity> shards) {
+        jpaProductStockShardRepository.saveAll(shards);
+    }
+
+    @Override
+    public void deleteByProductId(Long productId) {
+        jpaProductStockShardRepository.deleteByProductId(productId);
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return jdbcTemplate.queryForList(SHARDED_PRODUCT_IDS_SQL, Long.class);
+    }
+
+    @Override
+    public void refreshProductStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(REFRESH_PRODUCT_STOCK_SQL, new MapSqlParameterSource("productIds", productIds));
+    }
+}
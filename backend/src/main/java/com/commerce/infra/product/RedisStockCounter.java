@@ -0,0 +1,197 @@
+package com.commerce.infra.product;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.product.ProductEntity;
+import com.commerce.domain.product.StockCounter;
+import com.commerce.domain.product.exception.ProductErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 재고 카운터
+ * 주문 단위 차감은 Lua 스크립트 한 번으로 검사 + 차감을 원자적으로 처리하고,
+ * 변경량은 stock:dirty 해시에 누적되어 {@link StockWriteBehindFlusher}가 DB에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStockCounter implements StockCounter {
+
+    static final String STOCK_KEY_PREFIX = "stock:";
+    static final String DIRTY_KEY = "stock:dirty";
+
+    private static final String MODE_REDIS = "redis";
+
+    // 반환값: 0 성공, i > 0 i번째 상품 재고 부족, i < 0 i번째 상품 카운터 미적재
+    private static final RedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>(
+        "local n = #ARGV / 2 "
+            + "for i = 1, n do "
+            + "  local stock = redis.call('GET', KEYS[i]) "
+            + "  if not stock then return -i end "
+            + "  if tonumber(stock) < tonumber(ARGV[i]) then return i end "
+            + "end "
+            + "for i = 1, n do "
+            + "  redis.call('DECRBY', KEYS[i], ARGV[i]) "
+            + "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i])) "
+            + "end "
+            + "return 0",
+        Long.class);
+
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+        "local n = #ARGV / 2 "
+            + "for i = 1, n do "
+            + "  if redis.call('EXISTS', KEYS[i]) == 0 then return -i end "
+            + "end "
+            + "for i = 1, n do "
+            + "  redis.call('INCRBY', KEYS[i], ARGV[i]) "
+            + "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i]) "
+            + "end "
+            + "return 0",
+        Long.class);
+
+    // 카운터를 덮어쓰고 차이만큼 변경량을 누적 (미적재 상품은 ARGV[3] 의 DB 재고 기준)
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('GET', KEYS[1]) or ARGV[3] "
+            + "local delta = tonumber(ARGV[1]) - tonumber(current) "
+            + "redis.call('SET', KEYS[1], ARGV[1]) "
+            + "if delta ~= 0 then redis.call('HINCRBY', KEYS[2], ARGV[2], delta) end "
+            + "return delta",
+        Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) "
+            + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaProductRepository jpaProductRepository;
+
+    @Value("${commerce.stock.mode:db}")
+    private String mode;
+
+    @Override
+    public boolean isActive() {
+        return MODE_REDIS.equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public void decrease(Map<Long, Long> quantities) {
+        // 키 순서를 고정해 스크립트 결과(인덱스)를 상품 ID로 되돌릴 수 있게 한다
+        TreeMap<Long, Long> sorted = new TreeMap<>(quantities);
+        long result = executeWithLoad(DECREASE_SCRIPT, sorted);
+        if (result > 0) {
+            Long productId = new ArrayList<>(sorted.keySet()).get((int) result - 1);
+            throw new BusinessException(ProductErrorCode.INSUFFICIENT_STOCK, "재고가 부족합니다. productId=" + productId);
+        }
+
+        // 주문 트랜잭션이 롤백되면 차감한 재고를 되돌린다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        increaseNow(sorted);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void increase(Map<Long, Long> quantities) {
+        TreeMap<Long, Long> sorted = new TreeMap<>(quantities);
+
+        // 재고 복원은 커밋이 확정된 뒤에만 반영한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increaseNow(sorted);
+                }
+            });
+            return;
+        }
+        increaseNow(sorted);
+    }
+
+    @Override
+    public void reset(Long productId, Long stock, Long persistedStock) {
+        // 수정 트랜잭션이 롤백되면 카운터를 건드리지 않는다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resetNow(productId, stock, persistedStock);
+                }
+            });
+            return;
+        }
+        resetNow(productId, stock, persistedStock);
+    }
+
+    @Override
+    public void evict(Long productId) {
+        redisTemplate.execute(EVICT_SCRIPT, List.of(STOCK_KEY_PREFIX + productId, DIRTY_KEY),
+            String.valueOf(productId));
+    }
+
+    private void resetNow(Long productId, Long stock, Long persistedStock) {
+        try {
+            redisTemplate.execute(RESET_SCRIPT, List.of(STOCK_KEY_PREFIX + productId, DIRTY_KEY),
+                String.valueOf(stock), String.valueOf(productId), String.valueOf(persistedStock));
+        } catch (Exception e) {
+            log.error("Redis 재고 재설정 실패 - productId={}, stock={}", productId, stock, e);
+        }
+    }
+
+    private void increaseNow(TreeMap<Long, Long> sorted) {
+        try {
+            executeWithLoad(INCREASE_SCRIPT, sorted);
+        } catch (Exception e) {
+            log.error("Redis 재고 복원 실패 - quantities={}", sorted, e);
+        }
+    }
+
+    private long executeWithLoad(RedisScript<Long> script, TreeMap<Long, Long> sorted) {
+        List<String> keys = new ArrayList<>(sorted.size() + 1);
+        List<String> args = new ArrayList<>(sorted.size() * 2);
+        sorted.keySet().forEach(productId -> keys.add(STOCK_KEY_PREFIX + productId));
+        keys.add(DIRTY_KEY);
+        sorted.values().forEach(quantity -> args.add(String.valueOf(quantity)));
+        sorted.keySet().forEach(productId -> args.add(String.valueOf(productId)));
+
+        Long result = redisTemplate.execute(script, keys, args.toArray());
+        if (result != null && result < 0) {
+            // 카운터가 없는 상품은 DB 재고로 적재 후 한 번만 재시도
+            load(sorted.keySet());
+            result = redisTemplate.execute(script, keys, args.toArray());
+        }
+        if (result == null || result < 0) {
+            throw new IllegalStateException("Redis 재고 카운터 적재 실패: " + sorted.keySet());
+        }
+        return result;
+    }
+
+    private void load(Iterable<Long> productIds) {
+        List<ProductEntity> products = jpaProductRepository.findAllById(productIds);
+        for (Long productId : productIds) {
+            ProductEntity product = products.stream()
+                .filter(p -> p.getId().equals(productId))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND));
+            redisTemplate.opsForValue().setIfAbsent(STOCK_KEY_PREFIX + productId, String.valueOf(product.getStock()));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.commerce.infra.product;
+
+import com.commerce.domain.product.event.ProductChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 재고 변경량(stock:dirty)을 주기적으로 products.stock 에 반영 (write-behind)
+ * 반영이 커밋되면 재고 변경 이벤트를 다시 발행해, products.stock 을 읽는 색인이 반영된 값으로 갱신되게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockWriteBehindFlusher {
+
+    // 누적 변경량을 읽고 비우는 작업을 원자적으로 처리
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+        "local entries = redis.call('HGETALL', KEYS[1]) "
+            + "redis.call('DEL', KEYS[1]) "
+            + "return entries",
+        List.class);
+
+    private final RedisStockCounter redisStockCounter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JpaProductRepository jpaProductRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelayString = "${commerce.stock.flush-interval-ms:1000}")
+    public void flush() {
+        if (!redisStockCounter.isActive()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                deltas.forEach(jpaProductRepository::applyStockDelta);
+                eventPublisher.publishEvent(ProductChangedEvent.stock(deltas.keySet()));
+            });
+            log.debug("재고 write-behind 반영 완료 - {}건", deltas.size());
+        } catch (Exception e) {
+            // 반영 실패 시 변경량을 다시 누적해 다음 주기에 재시도
+            log.error("재고 write-behind 반영 실패. 변경량 복구 - {}", deltas, e);
+            deltas.forEach((productId, delta) ->
+                redisTemplate.opsForHash().increment(RedisStockCounter.DIRTY_KEY, String.valueOf(productId), delta));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        List<?> entries = redisTemplate.execute(DRAIN_SCRIPT, List.of(RedisStockCounter.DIRTY_KEY));
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(String.valueOf(entries.get(i + 1)));
+            if (delta != 0) {
+                deltas.put(Long.parseLong(String.valueOf(entries.get(i))), delta);
+            }
+        }
+        return deltas;
+    }
+}
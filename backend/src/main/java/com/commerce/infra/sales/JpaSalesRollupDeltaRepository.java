@@ -0,0 +1,25 @@
+package com.commerce.infra.sales;
+
+import com.commerce.domain.sales.SalesRollupDeltaEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaSalesRollupDeltaRepository extends JpaRepository<SalesRollupDeltaEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from SalesRollupDeltaEntity d order by d.id")
+    List<SalesRollupDeltaEntity> findPendingForUpdate(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SalesRollupDeltaEntity d where d.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,233 @@
+package com.commerce.infra.sales;
+
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.sales.CategorySales;
+import com.commerce.domain.sales.DailySales;
+import com.commerce.domain.sales.ProductSales;
+import com.commerce.domain.sales.SalesMetrics;
+import com.commerce.domain.sales.SalesRollupDeltaEntity;
+import com.commerce.domain.sales.SalesRollupKey;
+import com.commerce.domain.sales.SalesRollupRepository;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepositoryImpl implements SalesRollupRepository {
+
+    private static final String METRIC_COLUMNS =
+        "order_count, units, gross_amount, discount_amount, cancelled_count, cancelled_units, cancelled_amount";
+
+    private static final String ACCUMULATE = """
+        ON DUPLICATE KEY UPDATE
+            order_count = order_count + VALUES(order_count),
+            units = units + VALUES(units),
+            gross_amount = gross_amount + VALUES(gross_amount),
+            discount_amount = discount_amount + VALUES(discount_amount),
+            cancelled_count = cancelled_count + VALUES(cancelled_count),
+            cancelled_units = cancelled_units + VALUES(cancelled_units),
+            cancelled_amount = cancelled_amount + VALUES(cancelled_amount),
+            updated_at = VALUES(updated_at)
+        """;
+
+    private static final String UPSERT_DAILY_SQL =
+        "INSERT INTO sales_daily_rollups (sales_date, " + METRIC_COLUMNS + ", updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW()) " + ACCUMULATE;
+
+    private static final String UPSERT_PRODUCT_SQL =
+        "INSERT INTO sales_product_rollups (sales_date, product_id, " + METRIC_COLUMNS + ", updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " + ACCUMULATE;
+
+    private static final String UPSERT_CATEGORY_SQL =
+        "INSERT INTO sales_category_rollups (sales_date, category_id, " + METRIC_COLUMNS + ", updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " + ACCUMULATE;
+
+    // (status, created_at, id) 인덱스로 하루치 범위만 읽도록 모든 상태를 IN 으로 나열한다
+    private static final String ORDER_RANGE = "o.status IN ("
+        + Arrays.stream(OrderStatus.values()).map(status -> "'" + status.name() + "'").collect(Collectors.joining(", "))
+        + ") AND o.created_at >= ? AND o.created_at < ?";
+
+    private static final String REBUILD_DAILY_SQL = """
+        INSERT INTO sales_daily_rollups (sales_date, %s, updated_at)
+        SELECT ?, COUNT(*), SUM(t.units), SUM(t.gross), SUM(t.gross - t.total_amount),
+               SUM(t.cancelled), SUM(t.cancelled * t.units), SUM(t.cancelled * t.total_amount), NOW()
+        FROM (
+            SELECT o.id, o.total_amount, o.status = 'CANCELLED' AS cancelled,
+                   SUM(oi.quantity) AS units, SUM(oi.amount) AS gross
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            WHERE %s
+            GROUP BY o.id, o.total_amount, o.status
+        ) t
+        HAVING COUNT(*) > 0
+        """.formatted(METRIC_COLUMNS, ORDER_RANGE);
+
+    private static final String REBUILD_PRODUCT_SQL = """
+        INSERT INTO sales_product_rollups (sales_date, product_id, %s, updated_at)
+        SELECT ?, oi.product_id, COUNT(DISTINCT o.id), SUM(oi.quantity), SUM(oi.amount), 0,
+               COUNT(DISTINCT IF(o.status = 'CANCELLED', o.id, NULL)),
+               SUM(IF(o.status = 'CANCELLED', oi.quantity, 0)),
+               SUM(IF(o.status = 'CANCELLED', oi.amount, 0)), NOW()
+        FROM orders o
+        JOIN order_items oi ON oi.order_id = o.id
+        WHERE %s
+        GROUP BY oi.product_id
+        """.formatted(METRIC_COLUMNS, ORDER_RANGE);
+
+    private static final String REBUILD_CATEGORY_SQL = """
+        INSERT INTO sales_category_rollups (sales_date, category_id, %s, updated_at)
+        SELECT ?, p.category_id, COUNT(DISTINCT o.id), SUM(oi.quantity), SUM(oi.amount), 0,
+               COUNT(DISTINCT IF(o.status = 'CANCELLED', o.id, NULL)),
+               SUM(IF(o.status = 'CANCELLED', oi.quantity, 0)),
+               SUM(IF(o.status = 'CANCELLED', oi.amount, 0)), NOW()
+        FROM orders o
+        JOIN order_items oi ON oi.order_id = o.id
+        JOIN products p ON p.id = oi.product_id
+        WHERE %s AND p.category_id IS NOT NULL
+        GROUP BY p.category_id
+        """.formatted(METRIC_COLUMNS, ORDER_RANGE);
+
+    private static final String SUM_COLUMNS = """
+        SUM(order_count) AS order_count, SUM(units) AS units, SUM(gross_amount) AS gross_amount,
+        SUM(discount_amount) AS discount_amount, SUM(cancelled_count) AS cancelled_count,
+        SUM(cancelled_units) AS cancelled_units, SUM(cancelled_amount) AS cancelled_amount
+        """;
+
+    private static final String FIND_DAILY_SQL =
+        "SELECT sales_date, " + METRIC_COLUMNS + " FROM sales_daily_rollups "
+            + "WHERE sales_date BETWEEN ? AND ? ORDER BY sales_date";
+
+    private static final String FIND_TOP_PRODUCTS_SQL =
+        "SELECT product_id, " + SUM_COLUMNS + " FROM sales_product_rollups "
+            + "WHERE sales_date BETWEEN ? AND ? GROUP BY product_id "
+            + "ORDER BY SUM(gross_amount) - SUM(cancelled_amount) DESC, product_id LIMIT ?";
+
+    private static final String FIND_CATEGORIES_SQL =
+        "SELECT category_id, " + SUM_COLUMNS + " FROM sales_category_rollups "
+            + "WHERE sales_date BETWEEN ? AND ? GROUP BY category_id "
+            + "ORDER BY SUM(gross_amount) - SUM(cancelled_amount) DESC, category_id";
+
+    private final JpaSalesRollupDeltaRepository jpaSalesRollupDeltaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveDeltas(List<SalesRollupDeltaEntity> deltas) {
+        jpaSalesRollupDeltaRepository.saveAll(deltas);
+    }
+
+    @Override
+    public List<SalesRollupDeltaEntity> findPendingDeltasForUpdate(int limit) {
+        return jpaSalesRollupDeltaRepository.findPendingForUpdate(PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public void deleteDeltas(Collection<Long> deltaIds) {
+        if (!deltaIds.isEmpty()) {
+            jpaSalesRollupDeltaRepository.deleteByIds(deltaIds);
+        }
+    }
+
+    @Override
+    public void upsert(Map<SalesRollupKey, SalesMetrics> metrics) {
+        List<Object[]> daily = new ArrayList<>();
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> categories = new ArrayList<>();
+
+        metrics.forEach((key, value) -> {
+            switch (key.level()) {
+                case DAILY -> daily.add(row(Date.valueOf(key.salesDate()), null, value));
+                case PRODUCT -> products.add(row(Date.valueOf(key.salesDate()), key.targetId(), value));
+                case CATEGORY -> categories.add(row(Date.valueOf(key.salesDate()), key.targetId(), value));
+            }
+        });
+
+        batchUpdate(UPSERT_DAILY_SQL, daily);
+        batchUpdate(UPSERT_PRODUCT_SQL, products);
+        batchUpdate(UPSERT_CATEGORY_SQL, categories);
+    }
+
+    @Override
+    public void rebuild(LocalDate salesDate) {
+        Date date = Date.valueOf(salesDate);
+        Timestamp start = Timestamp.valueOf(salesDate.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(salesDate.plusDays(1).atStartOfDay());
+
+        // 반영 대기 변경분은 원본 주문에 이미 반영되어 있으므로 함께 버린다
+        jdbcTemplate.update("DELETE FROM sales_rollup_deltas WHERE sales_date = ?", date);
+        jdbcTemplate.update("DELETE FROM sales_daily_rollups WHERE sales_date = ?", date);
+        jdbcTemplate.update("DELETE FROM sales_product_rollups WHERE sales_date = ?", date);
+        jdbcTemplate.update("DELETE FROM sales_category_rollups WHERE sales_date = ?", date);
+
+        jdbcTemplate.update(REBUILD_DAILY_SQL, date, start, end);
+        jdbcTemplate.update(REBUILD_PRODUCT_SQL, date, start, end);
+        jdbcTemplate.update(REBUILD_CATEGORY_SQL, date, start, end);
+    }
+
+    @Override
+    public List<DailySales> findDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DAILY_SQL,
+            (rs, rowNum) -> new DailySales(rs.getDate("sales_date").toLocalDate(), metrics(rs)),
+            Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public List<ProductSales> findTopProducts(LocalDate from, LocalDate to, int limit) {
+        return jdbcTemplate.query(FIND_TOP_PRODUCTS_SQL,
+            (rs, rowNum) -> new ProductSales(rs.getLong("product_id"), metrics(rs)),
+            Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    @Override
+    public List<CategorySales> findCategories(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_CATEGORIES_SQL,
+            (rs, rowNum) -> new CategorySales(rs.getLong("category_id"), metrics(rs)),
+            Date.valueOf(from), Date.valueOf(to));
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private Object[] row(Date salesDate, Long targetId, SalesMetrics metrics) {
+        List<Object> values = new ArrayList<>();
+        values.add(salesDate);
+        if (targetId != null) {
+            values.add(targetId);
+        }
+        values.add(metrics.orderCount());
+        values.add(metrics.units());
+        values.add(metrics.grossAmount());
+        values.add(metrics.discountAmount());
+        values.add(metrics.cancelledCount());
+        values.add(metrics.cancelledUnits());
+        values.add(metrics.cancelledAmount());
+        return values.toArray();
+    }
+
+    private SalesMetrics metrics(ResultSet rs) throws SQLException {
+        return new SalesMetrics(
+            rs.getLong("order_count"),
+            rs.getLong("units"),
+            rs.getLong("gross_amount"),
+            rs.getLong("discount_amount"),
+            rs.getLong("cancelled_count"),
+            rs.getLong("cancelled_units"),
+            rs.getLong("cancelled_amount")
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.commerce.infra.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 n-gram 분석기
+ * 한글은 띄어쓰기/조사와 무관하게 부분 일치해야 하므로 형태소 분석 대신 글자 단위 bigram 을 쓴다.
+ * 한 글자 검색어도 찾을 수 있도록 색인에는 unigram 도 함께 넣는다.
+ */
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트의 unigram/bigram 빈도를 weight 배로 누적
+     * @return 누적한 term 수 (문서 길이)
+     */
+    static int accumulate(String text, int weight, Map<String, Integer> termFrequencies) {
+        int length = 0;
+        for (int[] token : tokens(text)) {
+            for (int i = 0; i < token.length; i++) {
+                termFrequencies.merge(new String(token, i, 1), weight, Integer::sum);
+                length += weight;
+                if (i + 1 < token.length) {
+                    termFrequencies.merge(new String(token, i, 2), weight, Integer::sum);
+                    length += weight;
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 검색어 term (중복 제거)
+     * 두 글자 이상인 토큰은 더 선택적인 bigram 만, 한 글자 토큰은 unigram 을 쓴다.
+     */
+    static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (int[] token : tokens(keyword)) {
+            if (token.length == 1) {
+                terms.add(new String(token, 0, 1));
+            }
+            for (int i = 0; i + 1 < token.length; i++) {
+                terms.add(new String(token, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    // NFKC 정규화 + 소문자화 후 글자/숫자 연속 구간을 코드포인트 배열로 나눈다
+    private static List<int[]> tokens(String text) {
+        List<int[]> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(Arrays.copyOfRange(codePoints, start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
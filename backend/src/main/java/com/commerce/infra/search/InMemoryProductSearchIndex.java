@@ -0,0 +1,408 @@
+package com.commerce.infra.search;
+
+import com.commerce.domain.product.ProductSearchHits;
+import com.commerce.domain.product.ProductSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 노드 내 메모리 n-gram 역색인 (BM25 관련도 정렬)
+ *
+ * - 상품명/설명을 글자 bigram 으로 나눠 term -> (문서 번호, 빈도) 목록을 유지한다. 상품명 term 은 가중치를 더 준다.
+ * - 검색은 검색어 bigram 의 목록을 짧은 것부터 교집합하므로 LIKE '%keyword%' 처럼 전체 행을 훑지 않는다.
+ * - 변경은 읽기/쓰기 락 아래에서 바로 반영하고, 삭제된 문서는 표시만 해 두었다가 일정 비율이 넘으면 압축한다.
+ * - 재색인은 ID 구간별로 나눠 병렬로 읽어 새 색인을 만들고, 그 사이 들어온 변경을 다시 적용한 뒤 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM products";
+    private static final String LOAD_SQL = "SELECT id, name, description FROM products WHERE id BETWEEN ? AND ?";
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private static final int MAX_DESCRIPTION_LENGTH = 2000;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int MIN_COMPACT_DELETED = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${commerce.product.search.rebuild-workers:4}")
+    private int rebuildWorkers;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private ExecutorService rebuildExecutor;
+    private Segment segment = new Segment();
+    private List<Document> replayLog;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        rebuildExecutor = Executors.newFixedThreadPool(rebuildWorkers, r -> {
+            Thread thread = new Thread(r, "product-search-rebuild-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public ProductSearchHits search(String keyword, int offset, int limit) {
+        Set<String> terms = BigramTokenizer.queryTerms(keyword);
+        if (terms.isEmpty() || limit <= 0) {
+            return ProductSearchHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Long productId, String name, String description) {
+        apply(Document.of(productId, name, description));
+    }
+
+    @Override
+    public void remove(Long productId) {
+        apply(Document.removed(productId));
+    }
+
+    private void apply(Document document) {
+        lock.writeLock().lock();
+        try {
+            segment.apply(document);
+            if (replayLog != null) {
+                replayLog.add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인 (이미 진행 중이면 건너뜀)
+     */
+    @Override
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            replayLog = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Segment fresh = load();
+
+            lock.writeLock().lock();
+            try {
+                // 적재 중 들어온 변경은 읽은 시점보다 최신이므로 새 색인에 다시 적용한다
+                replayLog.forEach(fresh::apply);
+                segment = fresh;
+                ready = true;
+            } finally {
+                replayLog = null;
+                lock.writeLock().unlock();
+            }
+            log.info("상품 검색 색인 재구성 완료 - {}건, {}ms", fresh.live, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private Segment load() {
+        Segment fresh = new Segment();
+        Map<String, Object> range = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+        Object min = range.get("min_id");
+        Object max = range.get("max_id");
+        if (min == null || max == null) {
+            return fresh;
+        }
+
+        long minId = ((Number) min).longValue();
+        long maxId = ((Number) max).longValue();
+        int chunks = Math.max(1, rebuildWorkers * CHUNKS_PER_WORKER);
+        long step = (maxId - minId) / chunks + 1;
+
+        List<CompletableFuture<List<Document>>> futures = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += step) {
+            long lower = from;
+            long upper = Math.min(maxId, from + step - 1);
+            futures.add(CompletableFuture.supplyAsync(() -> loadRange(lower, upper), rebuildExecutor));
+        }
+
+        // 구간 순서대로 합쳐 문서 번호가 상품 ID 순서를 따르게 한다
+        for (CompletableFuture<List<Document>> future : futures) {
+            future.join().forEach(fresh::apply);
+        }
+        return fresh;
+    }
+
+    private List<Document> loadRange(long lower, long upper) {
+        return jdbcTemplate.query(LOAD_SQL,
+                (rs, rowNum) -> Document.of(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                lower, upper);
+    }
+
+    /**
+     * 색인할 문서 (term 빈도는 락 밖에서 미리 계산), termFrequencies 가 null 이면 삭제
+     */
+    private record Document(long productId, Map<String, Integer> termFrequencies, int length) {
+
+        static Document of(long productId, String name, String description) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            int length = BigramTokenizer.accumulate(name, NAME_WEIGHT, termFrequencies);
+            if (description != null) {
+                String truncated = description.length() > MAX_DESCRIPTION_LENGTH
+                        ? description.substring(0, MAX_DESCRIPTION_LENGTH)
+                        : description;
+                length += BigramTokenizer.accumulate(truncated, 1, termFrequencies);
+            }
+            return new Document(productId, termFrequencies, length);
+        }
+
+        static Document removed(long productId) {
+            return new Document(productId, null, 0);
+        }
+    }
+
+    private record Hit(long productId, double score) {
+
+        static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+                .thenComparing(Hit::productId, Comparator.reverseOrder());
+    }
+
+    /**
+     * term 별 문서 번호(오름차순)와 빈도
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        // from 이후에서 doc 이상인 첫 위치
+        int advance(int from, int doc) {
+            int index = Arrays.binarySearch(docs, from, size, doc);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    /**
+     * 색인 본체 (락 아래에서만 접근)
+     * 문서 번호는 추가 순서대로 증가하므로 term 목록은 항상 정렬되어 있다.
+     */
+    private static final class Segment {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private long[] productIds = new long[1024];
+        private int[] lengths = new int[1024];
+        private BitSet deleted = new BitSet();
+        private int deletedCount;
+        private int size;
+        private int live;
+        private long totalLength;
+
+        void apply(Document document) {
+            Integer previous = ordinals.remove(document.productId());
+            if (previous != null) {
+                deleted.set(previous);
+                deletedCount++;
+                live--;
+                totalLength -= lengths[previous];
+            }
+            if (document.termFrequencies() != null && document.length() > 0) {
+                add(document);
+            }
+            if (deletedCount > Math.max(MIN_COMPACT_DELETED, live / 4)) {
+                compact();
+            }
+        }
+
+        private void add(Document document) {
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            int doc = size++;
+            productIds[doc] = document.productId();
+            lengths[doc] = document.length();
+            ordinals.put(document.productId(), doc);
+            live++;
+            totalLength += document.length();
+            document.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new Postings()).add(doc, frequency));
+        }
+
+        // 삭제 표시된 문서를 빼고 문서 번호를 다시 매긴다
+        private void compact() {
+            int[] remap = new int[size];
+            int next = 0;
+            for (int doc = 0; doc < size; doc++) {
+                remap[doc] = deleted.get(doc) ? -1 : next++;
+            }
+
+            long[] compactedIds = new long[Math.max(1024, next)];
+            int[] compactedLengths = new int[compactedIds.length];
+            for (int doc = 0; doc < size; doc++) {
+                if (remap[doc] >= 0) {
+                    compactedIds[remap[doc]] = productIds[doc];
+                    compactedLengths[remap[doc]] = lengths[doc];
+                }
+            }
+
+            postings.values().removeIf(list -> {
+                int kept = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = remap[list.docs[i]];
+                    if (doc >= 0) {
+                        list.docs[kept] = doc;
+                        list.frequencies[kept] = list.frequencies[i];
+                        kept++;
+                    }
+                }
+                list.size = kept;
+                return kept == 0;
+            });
+            ordinals.replaceAll((productId, doc) -> remap[doc]);
+
+            productIds = compactedIds;
+            lengths = compactedLengths;
+            deleted = new BitSet();
+            deletedCount = 0;
+            size = next;
+        }
+
+        ProductSearchHits search(Set<String> terms, int offset, int limit) {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return ProductSearchHits.empty();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // 문서 빈도에는 압축 전 삭제 문서가 섞여 있으나 순위에 주는 영향은 작다.
+            // 다만 live 보다 커지면 idf 가 음수가 되어 빈도가 높을수록 뒤로 밀리므로 live 로 제한한다.
+            double averageLength = live == 0 ? 1.0 : (double) totalLength / live;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = Math.min(lists.get(i).size, live);
+                idf[i] = Math.log(1.0 + (live - df + 0.5) / (df + 0.5));
+            }
+
+            int topK = offset + limit;
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(topK, 1024) + 1, Hit.WORST_FIRST);
+            int[] cursors = new int[lists.size()];
+            long total = 0;
+
+            Postings shortest = lists.get(0);
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int doc = shortest.docs[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                double score = idf[0] * bm25(shortest.frequencies[i], norm);
+                for (int t = 1; t < lists.size(); t++) {
+                    Postings list = lists.get(t);
+                    int position = list.advance(cursors[t], doc);
+                    cursors[t] = position;
+                    if (position == list.size) {
+                        break candidates;
+                    }
+                    if (list.docs[position] != doc) {
+                        continue candidates;
+                    }
+                    score += idf[t] * bm25(list.frequencies[position], norm);
+                }
+
+                total++;
+                heap.offer(new Hit(productIds[doc], score));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(heap);
+            ranked.sort(Hit.WORST_FIRST.reversed());
+            List<Long> page = ranked.stream()
+                    .skip(offset)
+                    .map(Hit::productId)
+                    .toList();
+            return new ProductSearchHits(total, page);
+        }
+
+        private static double bm25(int frequency, double norm) {
+            return frequency * (K1 + 1) / (frequency + norm);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.commerce.infra.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 접두어별 상위 K 개를 미리 계산해 둔 불변 trie
+ *
+ * - 키는 정렬된 배열로 보관하고, 대상(target)은 순위 순으로 번호를 매겨 번호가 작을수록 인기 있는 항목이다.
+ * - 아래에 키가 K 개를 넘는 접두어만 trie 노드로 만들고 노드마다 상위 K 개 대상 번호를 저장한다.
+ * - 노드가 없는 접두어는 해당하는 키가 K 개 이하이므로 정렬된 키 배열의 구간만 훑어 바로 구한다.
+ * 노드는 너비 우선 순서로 평탄한 배열에 담아 자식 구간을 [firstChild[n], firstChild[n + 1]) 로 찾는다.
+ */
+final class PrefixTrie {
+
+    static final PrefixTrie EMPTY = build(new String[0], new int[0], 1);
+
+    private final String[] keys;
+    private final int[] keyTargets;
+    private final int topK;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] topStart;
+    private final int[] top;
+
+    private PrefixTrie(String[] keys, int[] keyTargets, int topK,
+                       char[] labels, int[] firstChild, int[] topStart, int[] top) {
+        this.keys = keys;
+        this.keyTargets = keyTargets;
+        this.topK = topK;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /**
+     * @param keys       정규화된 키 (같은 대상이 여러 키를 가질 수 있다)
+     * @param keyTargets 키별 대상 번호 (작을수록 상위)
+     */
+    static PrefixTrie build(String[] keys, int[] keyTargets, int topK) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> keys[i]).thenComparingInt(i -> keyTargets[i]));
+
+        String[] sortedKeys = new String[keys.length];
+        int[] sortedTargets = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedTargets[i] = keyTargets[order[i]];
+        }
+
+        // 너비 우선으로 K 개를 넘는 구간만 노드로 만든다 (노드 번호 = 목록 위치)
+        List<int[]> nodes = new ArrayList<>();
+        StringBuilder nodeLabels = new StringBuilder();
+        nodes.add(new int[]{0, sortedKeys.length, 0});
+        nodeLabels.append('\0');
+
+        int[] childStarts = new int[16];
+        int[] tops = new int[16 * topK];
+        int[] topStarts = new int[16];
+        int topSize = 0;
+
+        for (int n = 0; n < nodes.size(); n++) {
+            int lo = nodes.get(n)[0];
+            int hi = nodes.get(n)[1];
+            int depth = nodes.get(n)[2];
+
+            if (n + 1 >= childStarts.length) {
+                childStarts = Arrays.copyOf(childStarts, childStarts.length * 2);
+                topStarts = Arrays.copyOf(topStarts, topStarts.length * 2);
+            }
+            childStarts[n] = nodes.size();
+            topStarts[n] = topSize;
+
+            int[] best = smallestDistinct(sortedTargets, lo, hi, topK);
+            if (topSize + best.length > tops.length) {
+                tops = Arrays.copyOf(tops, Math.max(tops.length * 2, topSize + best.length));
+            }
+            System.arraycopy(best, 0, tops, topSize, best.length);
+            topSize += best.length;
+
+            // 같은 접두어 구간 안에서 depth 번째 글자로 묶는다 (길이가 depth 인 키는 정렬상 맨 앞)
+            int start = lo;
+            while (start < hi && sortedKeys[start].length() <= depth) {
+                start++;
+            }
+            while (start < hi) {
+                char label = sortedKeys[start].charAt(depth);
+                int end = start + 1;
+                while (end < hi && sortedKeys[end].charAt(depth) == label) {
+                    end++;
+                }
+                if (end - start > topK) {
+                    nodes.add(new int[]{start, end, depth + 1});
+                    nodeLabels.append(label);
+                }
+                start = end;
+            }
+        }
+
+        int nodeCount = nodes.size();
+        int[] firstChild = Arrays.copyOf(childStarts, nodeCount + 1);
+        firstChild[nodeCount] = nodeCount;
+        int[] topStart = Arrays.copyOf(topStarts, nodeCount + 1);
+        topStart[nodeCount] = topSize;
+
+        return new PrefixTrie(sortedKeys, sortedTargets, topK,
+                nodeLabels.toString().toCharArray(), firstChild, topStart, Arrays.copyOf(tops, topSize));
+    }
+
+    /**
+     * 접두어로 시작하는 키의 대상 번호를 순위 순으로 최대 limit 개
+     */
+    int[] lookup(String prefix, int limit) {
+        int count = Math.min(limit, topK);
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+
+        if (node >= 0) {
+            int from = topStart[node];
+            return Arrays.copyOfRange(top, from, Math.min(topStart[node + 1], from + count));
+        }
+
+        // 노드가 없으면 구간의 키가 K 개 이하다
+        int lo = lowerBound(prefix);
+        int hi = lo;
+        while (hi < keys.length && keys[hi].startsWith(prefix)) {
+            hi++;
+        }
+        return smallestDistinct(keyTargets, lo, hi, count);
+    }
+
+    private int child(int node, char label) {
+        int lo = firstChild[node];
+        int hi = firstChild[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < label) {
+                lo = mid + 1;
+            } else if (labels[mid] > label) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 구간에서 중복을 뺀 가장 작은 대상 번호 k 개 (오름차순)
+    private static int[] smallestDistinct(int[] targets, int lo, int hi, int k) {
+        int[] best = new int[k];
+        int size = 0;
+        candidates:
+        for (int i = lo; i < hi; i++) {
+            int target = targets[i];
+            if (size == k && target >= best[size - 1]) {
+                continue;
+            }
+            int position = size;
+            while (position > 0 && best[position - 1] >= target) {
+                if (best[position - 1] == target) {
+                    continue candidates;
+                }
+                position--;
+            }
+            int moved = Math.min(size, k - 1) - position;
+            System.arraycopy(best, position, best, position + 1, moved);
+            best[position] = target;
+            size = Math.min(size + 1, k);
+        }
+        return Arrays.copyOf(best, size);
+    }
+}
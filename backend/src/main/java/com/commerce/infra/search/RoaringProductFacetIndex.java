@@ -0,0 +1,287 @@
+package com.commerce.infra.search;
+
+import com.commerce.domain.product.PriceBucket;
+import com.commerce.domain.product.ProductFacetIndex;
+import com.commerce.domain.product.ProductFacetQuery;
+import com.commerce.domain.product.ProductFacetResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 압축 비트맵(Roaring) 기반 상품 필터 색인
+ *
+ * - 상품마다 순번(ordinal)을 매기고 카테고리/가격대/재고 유무 값별로 해당 순번 비트맵을 유지한다.
+ * - 필터는 값 비트맵의 OR(같은 필터) 와 AND(필터 간) 로, 필터별 건수는 나머지 조건과의 AND 카디널리티로 계산한다.
+ * - 순번은 재구성 시 상품 ID 순으로 매기고 새 상품은 뒤에 붙이므로, 역순으로 읽으면 최신순이다.
+ * - 변경은 읽기/쓰기 락 아래에서 비트만 바꾸고, 재구성은 새 색인을 만든 뒤 그 사이 변경을 다시 적용해 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoaringProductFacetIndex implements ProductFacetIndex {
+
+    private static final String LOAD_SQL = "SELECT id, category_id, price, stock FROM products ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Facets facets = new Facets();
+    private List<Entry> replayLog;
+    private volatile boolean ready;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public ProductFacetResult query(ProductFacetQuery query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return facets.query(query, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Long productId, Long categoryId, Long price, boolean inStock) {
+        apply(new Entry(productId, categoryId, PriceBucket.of(price == null ? 0L : price), inStock, false));
+    }
+
+    @Override
+    public void remove(Long productId) {
+        apply(new Entry(productId, null, null, false, true));
+    }
+
+    private void apply(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            facets.apply(entry);
+            if (replayLog != null) {
+                replayLog.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인 (이미 진행 중이면 건너뜀)
+     */
+    @Override
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            replayLog = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Facets fresh = new Facets();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                long categoryId = rs.getLong("category_id");
+                fresh.apply(new Entry(
+                        rs.getLong("id"),
+                        rs.wasNull() ? null : categoryId,
+                        PriceBucket.of(rs.getLong("price")),
+                        rs.getLong("stock") > 0,
+                        false));
+            });
+            fresh.optimize();
+
+            lock.writeLock().lock();
+            try {
+                // 적재 중 들어온 변경은 읽은 시점보다 최신이므로 새 색인에 다시 적용한다
+                replayLog.forEach(fresh::apply);
+                facets = fresh;
+                ready = true;
+            } finally {
+                replayLog = null;
+                lock.writeLock().unlock();
+            }
+            log.info("상품 필터 색인 재구성 완료 - {}건, {}ms", fresh.live.getCardinality(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 색인 변경 (removed 면 삭제)
+     */
+    private record Entry(long productId, Long categoryId, PriceBucket priceBucket, boolean inStock, boolean removed) {
+    }
+
+    /**
+     * 필터 비트맵 묶음 (락 아래에서만 접근)
+     */
+    private static final class Facets {
+
+        private static final long NO_CATEGORY = Long.MIN_VALUE;
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private long[] productIds = new long[1024];
+        private long[] categoryOf = new long[1024];
+        private byte[] bucketOf = new byte[1024];
+        private int size;
+
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap inStock = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> categories = new HashMap<>();
+        private final RoaringBitmap[] buckets = new RoaringBitmap[PriceBucket.values().length];
+
+        Facets() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new RoaringBitmap();
+            }
+        }
+
+        void apply(Entry entry) {
+            Integer ordinal = ordinals.get(entry.productId());
+            if (entry.removed()) {
+                if (ordinal != null) {
+                    clear(ordinal);
+                    live.remove(ordinal);
+                    inStock.remove(ordinal);
+                    ordinals.remove(entry.productId());
+                }
+                return;
+            }
+
+            if (ordinal == null) {
+                ordinal = append(entry.productId());
+            } else {
+                clear(ordinal);
+            }
+
+            long categoryId = entry.categoryId() == null ? NO_CATEGORY : entry.categoryId();
+            categoryOf[ordinal] = categoryId;
+            if (categoryId != NO_CATEGORY) {
+                categories.computeIfAbsent(categoryId, id -> new RoaringBitmap()).add(ordinal);
+            }
+            bucketOf[ordinal] = (byte) entry.priceBucket().ordinal();
+            buckets[entry.priceBucket().ordinal()].add(ordinal);
+            if (entry.inStock()) {
+                inStock.add(ordinal);
+            } else {
+                inStock.remove(ordinal);
+            }
+            live.add(ordinal);
+        }
+
+        private int append(long productId) {
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                categoryOf = Arrays.copyOf(categoryOf, size * 2);
+                bucketOf = Arrays.copyOf(bucketOf, size * 2);
+            }
+            int ordinal = size++;
+            productIds[ordinal] = productId;
+            ordinals.put(productId, ordinal);
+            return ordinal;
+        }
+
+        // 이전 카테고리/가격대 비트를 지운다
+        private void clear(int ordinal) {
+            if (categoryOf[ordinal] != NO_CATEGORY) {
+                RoaringBitmap category = categories.get(categoryOf[ordinal]);
+                category.remove(ordinal);
+                if (category.isEmpty()) {
+                    categories.remove(categoryOf[ordinal]);
+                }
+            }
+            buckets[bucketOf[ordinal]].remove(ordinal);
+        }
+
+        void optimize() {
+            live.runOptimize();
+            inStock.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            Arrays.stream(buckets).forEach(RoaringBitmap::runOptimize);
+        }
+
+        ProductFacetResult query(ProductFacetQuery query, int offset, int limit) {
+            RoaringBitmap categoryFilter = query.categoryIds().isEmpty() ? null : RoaringBitmap.or(
+                    query.categoryIds().stream()
+                            .map(categoryId -> categories.getOrDefault(categoryId, new RoaringBitmap()))
+                            .iterator());
+            RoaringBitmap bucketFilter = query.priceBuckets().isEmpty() ? null : RoaringBitmap.or(
+                    query.priceBuckets().stream()
+                            .map(bucket -> buckets[bucket.ordinal()])
+                            .iterator());
+            RoaringBitmap stockFilter = query.inStock() == null ? null
+                    : query.inStock() ? inStock : RoaringBitmap.andNot(live, inStock);
+
+            RoaringBitmap matched = and(live, categoryFilter, bucketFilter, stockFilter);
+
+            // 필터별 건수는 해당 필터를 뺀 나머지 조건으로 센다
+            RoaringBitmap withoutCategory = and(live, bucketFilter, stockFilter);
+            Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+            categories.forEach((categoryId, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(bitmap, withoutCategory);
+                if (count > 0) {
+                    categoryCounts.put(categoryId, count);
+                }
+            });
+
+            RoaringBitmap withoutBucket = and(live, categoryFilter, stockFilter);
+            Map<PriceBucket, Long> bucketCounts = new EnumMap<>(PriceBucket.class);
+            for (PriceBucket bucket : PriceBucket.values()) {
+                bucketCounts.put(bucket, (long) RoaringBitmap.andCardinality(buckets[bucket.ordinal()], withoutBucket));
+            }
+
+            long inStockCount = RoaringBitmap.andCardinality(inStock, and(live, categoryFilter, bucketFilter));
+
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+            IntIterator iterator = matched.getReverseIntIterator();
+            for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (page.size() < limit && iterator.hasNext()) {
+                page.add(productIds[iterator.next()]);
+            }
+
+            return new ProductFacetResult(matched.getLongCardinality(), page, categoryCounts, bucketCounts, inStockCount);
+        }
+
+        private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap... filters) {
+            RoaringBitmap result = base;
+            for (RoaringBitmap filter : filters) {
+                if (filter != null) {
+                    result = RoaringBitmap.and(result, filter);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.commerce.infra.search;
+
+import com.commerce.domain.product.ProductSuggester;
+import com.commerce.domain.product.ProductSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 불변 trie 기반 자동완성
+ *
+ * - 상품명/카테고리명 전체와 단어 시작 위치부터의 문자열을 키로 넣어 "아이폰" 으로 "애플 아이폰 15" 도 찾는다.
+ * - 인기도는 최근 판매 수량(sales_product_rollups)이며, 카테고리는 소속 상품 인기도의 합이다.
+ * - 재구성은 호출한 스레드에서 새 구조를 만든 뒤 참조 하나만 바꾸므로 조회는 락 없이 이전/새 구조 중 하나를 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrieProductSuggester implements ProductSuggester {
+
+    private static final String LOAD_PRODUCTS_SQL = """
+            SELECT p.id, p.name, p.category_id, COALESCE(s.units, 0) AS popularity
+            FROM products p
+            LEFT JOIN (
+                SELECT product_id, SUM(units - cancelled_units) AS units
+                FROM sales_product_rollups
+                WHERE sales_date >= ?
+                GROUP BY product_id
+            ) s ON s.product_id = p.id
+            """;
+    private static final String LOAD_CATEGORIES_SQL = "SELECT id, name FROM categories";
+
+    private static final int TOP_K = 10;
+    private static final int MAX_KEY_LENGTH = 50;
+    private static final int MAX_WORD_KEYS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${commerce.product.suggest.popularity-days:30}")
+    private int popularityDays;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        int[] targets = current.trie().lookup(normalized, limit);
+        List<ProductSuggestion> suggestions = new ArrayList<>(targets.length);
+        for (int target : targets) {
+            suggestions.add(current.suggestions()[target]);
+        }
+        return suggestions;
+    }
+
+    @Override
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<Candidate> candidates = new ArrayList<>();
+        Map<Long, Long> categoryPopularity = new HashMap<>();
+
+        jdbcTemplate.query(LOAD_PRODUCTS_SQL, rs -> {
+            long popularity = Math.max(0L, rs.getLong("popularity"));
+            long categoryId = rs.getLong("category_id");
+            if (!rs.wasNull()) {
+                categoryPopularity.merge(categoryId, popularity, Long::sum);
+            }
+            candidates.add(new Candidate(
+                    new ProductSuggestion(ProductSuggestion.Type.PRODUCT, rs.getLong("id"), rs.getString("name")),
+                    popularity));
+        }, Date.valueOf(LocalDate.now().minusDays(popularityDays)));
+
+        jdbcTemplate.query(LOAD_CATEGORIES_SQL, rs -> {
+            long categoryId = rs.getLong("id");
+            candidates.add(new Candidate(
+                    new ProductSuggestion(ProductSuggestion.Type.CATEGORY, categoryId, rs.getString("name")),
+                    categoryPopularity.getOrDefault(categoryId, 0L)));
+        });
+
+        snapshot = Snapshot.of(candidates);
+        log.info("상품 자동완성 재구성 완료 - {}건, {}ms", candidates.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // NFKC 정규화, 소문자화, 연속 공백 정리 후 최대 길이로 자른다
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .stripLeading();
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+
+    private record Candidate(ProductSuggestion suggestion, long popularity) {
+
+        static final Comparator<Candidate> RANK = Comparator.comparingLong(Candidate::popularity).reversed()
+                .thenComparing(candidate -> candidate.suggestion().text(), Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * 자동완성 항목(순위 순)과 trie 묶음 (한 번 만들면 바뀌지 않는다)
+     */
+    private record Snapshot(ProductSuggestion[] suggestions, PrefixTrie trie) {
+
+        static final Snapshot EMPTY = new Snapshot(new ProductSuggestion[0], PrefixTrie.EMPTY);
+
+        static Snapshot of(List<Candidate> candidates) {
+            List<Candidate> ranked = candidates.stream()
+                    .filter(candidate -> candidate.suggestion().text() != null)
+                    .sorted(Candidate.RANK)
+                    .toList();
+
+            ProductSuggestion[] suggestions = new ProductSuggestion[ranked.size()];
+            List<String> keys = new ArrayList<>();
+            List<Integer> keyTargets = new ArrayList<>();
+            for (int target = 0; target < ranked.size(); target++) {
+                suggestions[target] = ranked.get(target).suggestion();
+                String text = normalize(suggestions[target].text()).strip();
+                if (text.isEmpty()) {
+                    continue;
+                }
+
+                // 전체 문자열과 두 번째 단어부터 시작하는 문자열
+                keys.add(text);
+                keyTargets.add(target);
+                int wordStart = text.indexOf(' ');
+                for (int word = 1; word < MAX_WORD_KEYS && wordStart >= 0; word++) {
+                    keys.add(text.substring(wordStart + 1));
+                    keyTargets.add(target);
+                    wordStart = text.indexOf(' ', wordStart + 1);
+                }
+            }
+
+            return new Snapshot(suggestions, PrefixTrie.build(
+                    keys.toArray(String[]::new),
+                    keyTargets.stream().mapToInt(Integer::intValue).toArray(),
+                    TOP_K));
+        }
+    }
+}
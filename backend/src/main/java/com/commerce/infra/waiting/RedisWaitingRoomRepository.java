@@ -0,0 +1,214 @@
+package com.commerce.infra.waiting;
+
+import com.commerce.domain.waiting.AdmissionToken;
+import com.commerce.domain.waiting.WaitingRoomRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 정렬 집합 기반 대기열
+ * waiting:sales            세일 ID -> 초당 입장 인원 (해시)
+ * waiting:product-sales    상품 ID -> 세일 ID (해시, 주문에 세일 상품이 있는지 확인용)
+ * waiting:sale-products:{saleId} 세일 상품 ID (집합, 세일 종료 시 연결 해제용)
+ * waiting:queue:{saleId}   사용자 ID, 점수는 진입 시각 (정렬 집합)
+ * waiting:admitted:{saleId}:{userId} -> 발급된 토큰 (순번 조회용)
+ * waiting:token:{token}    -> saleId:userId (주문 시 1회 소진)
+ * waiting:held:{token}     -> saleId:userId (주문 처리 중, 성공하면 삭제하고 실패하면 token 키로 되돌린다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisWaitingRoomRepository implements WaitingRoomRepository {
+
+    private static final String SALES_KEY = "waiting:sales";
+    private static final String QUEUE_KEY_PREFIX = "waiting:queue:";
+    private static final String ADMITTED_KEY_PREFIX = "waiting:admitted:";
+    private static final String TOKEN_KEY_PREFIX = "waiting:token:";
+    private static final String HELD_KEY_PREFIX = "waiting:held:";
+    private static final String ADMIT_LOCK_KEY_PREFIX = "waiting:admit-lock:";
+    private static final String PRODUCT_SALES_KEY = "waiting:product-sales";
+    private static final String SALE_PRODUCTS_KEY_PREFIX = "waiting:sale-products:";
+
+    // 이전에 연결한 상품을 풀고 새 상품을 연결한다 (다른 세일로 넘어간 상품은 건드리지 않는다)
+    private static final String UNLINK_PRODUCTS =
+        "for _, productId in ipairs(redis.call('SMEMBERS', KEYS[3])) do "
+            + "  if redis.call('HGET', KEYS[2], productId) == ARGV[1] then redis.call('HDEL', KEYS[2], productId) end "
+            + "end "
+            + "redis.call('DEL', KEYS[3]) ";
+
+    private static final RedisScript<Long> OPEN_SCRIPT = new DefaultRedisScript<>(
+        UNLINK_PRODUCTS
+            + "for i = 3, #ARGV do "
+            + "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[1]) "
+            + "  redis.call('SADD', KEYS[3], ARGV[i]) "
+            + "end "
+            + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "return 1",
+        Long.class);
+
+    private static final RedisScript<Long> CLOSE_SCRIPT = new DefaultRedisScript<>(
+        UNLINK_PRODUCTS
+            + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "redis.call('DEL', KEYS[4]) "
+            + "return 1",
+        Long.class);
+
+    // 주기 단위 잠금을 잡은 인스턴스만 꺼내므로 인스턴스 수와 무관하게 초당 입장 인원이 유지된다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>(
+        "if not redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then return {} end "
+            + "return redis.call('ZPOPMIN', KEYS[1], ARGV[1])",
+        List.class);
+
+    // RENAME 은 TTL 을 유지하므로 되돌려도 토큰의 원래 만료 시각이 그대로다
+    private static final RedisScript<String> MOVE_SCRIPT = new DefaultRedisScript<>(
+        "local value = redis.call('GET', KEYS[1]) "
+            + "if not value then return false end "
+            + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+            + "return value",
+        String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void openSale(String saleId, int admitsPerSecond, Collection<Long> productIds) {
+        List<String> args = new ArrayList<>(productIds.size() + 2);
+        args.add(saleId);
+        args.add(String.valueOf(admitsPerSecond));
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        redisTemplate.execute(OPEN_SCRIPT,
+            List.of(SALES_KEY, PRODUCT_SALES_KEY, SALE_PRODUCTS_KEY_PREFIX + saleId), args.toArray());
+    }
+
+    @Override
+    public void closeSale(String saleId) {
+        redisTemplate.execute(CLOSE_SCRIPT,
+            List.of(SALES_KEY, PRODUCT_SALES_KEY, SALE_PRODUCTS_KEY_PREFIX + saleId, QUEUE_KEY_PREFIX + saleId), saleId);
+    }
+
+    @Override
+    public Map<String, Integer> findOpenSales() {
+        return redisTemplate.<String, String>opsForHash().entries(SALES_KEY).entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> Integer.parseInt(e.getValue())));
+    }
+
+    @Override
+    public Optional<Integer> findAdmitsPerSecond(String saleId) {
+        Object value = redisTemplate.opsForHash().get(SALES_KEY, saleId);
+        return Optional.ofNullable(value).map(v -> Integer.parseInt(v.toString()));
+    }
+
+    @Override
+    public Set<String> findSaleIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> saleIds = redisTemplate.<String, String>opsForHash()
+            .multiGet(PRODUCT_SALES_KEY, productIds.stream().map(String::valueOf).toList());
+        return saleIds.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void enqueue(String saleId, Long userId, long enteredAt) {
+        redisTemplate.opsForZSet().addIfAbsent(QUEUE_KEY_PREFIX + saleId, String.valueOf(userId), enteredAt);
+    }
+
+    @Override
+    public Optional<Long> findRank(String saleId, Long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().rank(QUEUE_KEY_PREFIX + saleId, String.valueOf(userId)));
+    }
+
+    @Override
+    public long countWaiting(String saleId) {
+        Long size = redisTemplate.opsForZSet().zCard(QUEUE_KEY_PREFIX + saleId);
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public List<Long> popFront(String saleId, int count, long periodMillis) {
+        List<?> entries = redisTemplate.execute(POP_SCRIPT,
+            List.of(QUEUE_KEY_PREFIX + saleId, ADMIT_LOCK_KEY_PREFIX + saleId),
+            String.valueOf(count), String.valueOf(periodMillis));
+
+        List<Long> userIds = new ArrayList<>();
+        if (entries == null) {
+            return userIds;
+        }
+        // ZPOPMIN 결과는 [member, score, member, score ...]
+        for (int i = 0; i < entries.size(); i += 2) {
+            userIds.add(Long.parseLong(String.valueOf(entries.get(i))));
+        }
+        return userIds;
+    }
+
+    @Override
+    public void saveTokens(List<AdmissionToken> tokens, long ttlSeconds) {
+        Expiration expiration = Expiration.from(Duration.ofSeconds(ttlSeconds));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (AdmissionToken token : tokens) {
+                connection.stringCommands().set(
+                    bytes(TOKEN_KEY_PREFIX + token.token()),
+                    bytes(token.saleId() + ":" + token.userId()),
+                    expiration, SetOption.upsert());
+                connection.stringCommands().set(
+                    bytes(admittedKey(token.saleId(), token.userId())),
+                    bytes(token.token()),
+                    expiration, SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<String> findToken(String saleId, Long userId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(admittedKey(saleId, userId)));
+    }
+
+    @Override
+    public Optional<AdmissionToken> holdToken(String token) {
+        String value = redisTemplate.execute(MOVE_SCRIPT, List.of(TOKEN_KEY_PREFIX + token, HELD_KEY_PREFIX + token));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        int separator = value.lastIndexOf(':');
+        String saleId = value.substring(0, separator);
+        Long userId = Long.parseLong(value.substring(separator + 1));
+        return Optional.of(new AdmissionToken(token, saleId, userId));
+    }
+
+    @Override
+    public void consumeToken(AdmissionToken token) {
+        redisTemplate.delete(List.of(HELD_KEY_PREFIX + token.token(), admittedKey(token.saleId(), token.userId())));
+    }
+
+    @Override
+    public void releaseToken(AdmissionToken token) {
+        redisTemplate.execute(MOVE_SCRIPT, List.of(HELD_KEY_PREFIX + token.token(), TOKEN_KEY_PREFIX + token.token()));
+    }
+
+    private String admittedKey(String saleId, Long userId) {
+        return ADMITTED_KEY_PREFIX + saleId + ":" + userId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package com.commerce.application.order;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.commerce.domain.order.OrderEntity;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.OrderStatus;
+import com.commerce.domain.product.ProductService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryFacadeTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ObjectProvider<OrderCouponRedeemer> couponRedeemerProvider;
+
+    @Mock
+    private OrderCouponRedeemer couponRedeemer;
+
+    @InjectMocks
+    private OrderExpiryFacade orderExpiryFacade;
+
+    @Test
+    @DisplayName("만료로 취소된 주문의 재고와 쿠폰을 함께 복원한다")
+    void releaseOrdersRestoresCoupons() {
+        given(orderService.releaseOrders(List.of(1L, 2L))).willReturn(Map.of(10L, 3L));
+        given(couponRedeemerProvider.getIfAvailable()).willReturn(couponRedeemer);
+        given(orderService.getCancelledCouponOrders(List.of(1L, 2L))).willReturn(List.of(cancelledOrder(1L, 7L, 100L)));
+
+        orderExpiryFacade.releaseOrders(List.of(1L, 2L));
+
+        then(productService).should().increaseStocks(Map.of(10L, 3L));
+        then(couponRedeemer).should().restore(7L, 100L, 1L);
+    }
+
+    @Test
+    @DisplayName("확정 후 취소된 주문도 사용한 쿠폰을 복원한다")
+    void releaseCancelledOrderRestoresCoupon() {
+        given(orderService.releaseOrders(List.of(1L))).willReturn(Map.of());
+        given(orderService.releaseConfirmedReservations(1L)).willReturn(Map.of(10L, 2L));
+        given(couponRedeemerProvider.getIfAvailable()).willReturn(couponRedeemer);
+        given(orderService.getCancelledCouponOrders(List.of(1L))).willReturn(List.of(cancelledOrder(1L, 7L, 100L)));
+
+        orderExpiryFacade.releaseCancelledOrder(1L);
+
+        then(productService).should().increaseStocks(Map.of(10L, 2L));
+        then(couponRedeemer).should().restore(7L, 100L, 1L);
+    }
+
+    @Test
+    @DisplayName("쿠폰 모듈이 없으면 쿠폰 복원을 건너뛴다")
+    void skipsCouponRestoreWithoutRedeemer() {
+        given(orderService.releaseOrders(List.of(1L))).willReturn(Map.of(10L, 1L));
+
+        orderExpiryFacade.releaseOrders(List.of(1L));
+
+        then(orderService).should(never()).getCancelledCouponOrders(any());
+        then(couponRedeemer).should(never()).restore(anyLong(), anyLong(), anyLong());
+    }
+
+    private OrderEntity cancelledOrder(Long orderId, Long userId, Long userCouponId) {
+        return OrderEntity.builder()
+            .id(orderId)
+            .userId(userId)
+            .couponId(userCouponId)
+            .status(OrderStatus.CANCELLED)
+            .build();
+    }
+}
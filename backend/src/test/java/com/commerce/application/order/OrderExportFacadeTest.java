@@ -0,0 +1,85 @@
+package com.commerce.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.commerce.domain.order.OrderExportRow;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportFacadeTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderExportFacade orderExportFacade;
+
+    @BeforeEach
+    void setUp() {
+        orderExportFacade = new OrderExportFacade(orderService, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("끝까지 내보내면 gzip 트레일러까지 쓴 온전한 파일이 된다")
+    void writesCompleteGzip() throws IOException {
+        willAnswer(invocation -> {
+            Consumer<OrderExportRow> consumer = invocation.getArgument(2);
+            consumer.accept(row(1L, 10L));
+            consumer.accept(row(1L, 11L));
+            return null;
+        }).given(orderService).exportOrders(any(), any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportFacade.exportOrders(OrderExportFormat.CSV, null, null, out);
+
+        String csv = gunzip(out.toByteArray());
+        assertThat(csv.lines()).hasSize(3);
+        assertThat(csv).startsWith("order_id,").contains("\n1,7,,PENDING,");
+    }
+
+    @Test
+    @DisplayName("도중에 실패하면 트레일러 없이 끊겨 gzip 검증에 실패한다")
+    void leavesTruncatedGzipOnFailure() {
+        willAnswer(invocation -> {
+            Consumer<OrderExportRow> consumer = invocation.getArgument(2);
+            consumer.accept(row(1L, 10L));
+            throw new IllegalStateException("connection lost");
+        }).given(orderService).exportOrders(any(), any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> orderExportFacade.exportOrders(OrderExportFormat.JSONL, null, null, out))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThatThrownBy(() -> gunzip(out.toByteArray())).isInstanceOf(EOFException.class);
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static OrderExportRow row(Long orderId, Long orderItemId) {
+        return new OrderExportRow(orderId, 7L, null, OrderStatus.PENDING, 3_000L,
+            LocalDateTime.of(2024, 1, 1, 0, 0), orderItemId, 100L, 1L, 1_500L, 1_500L);
+    }
+}
@@ -0,0 +1,185 @@
+package com.commerce.application.order;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.order.OrderSagaEntity;
+import com.commerce.domain.order.OrderSagaService;
+import com.commerce.domain.order.OrderSagaStep;
+import com.commerce.domain.order.OrderService;
+import com.commerce.domain.order.exception.OrderErrorCode;
+import com.commerce.domain.product.ProductLockManager;
+import com.commerce.domain.product.ProductService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSagaOrchestratorTest {
+
+    private static final Long SAGA_ID = 1L;
+    private static final Long ORDER_ID = 100L;
+    private static final Long USER_ID = 7L;
+    private static final Long USER_COUPON_ID = 50L;
+
+    @Mock
+    private OrderSagaService orderSagaService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductLockManager productLockManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ReservationExpiryScheduler reservationExpiryScheduler;
+
+    @Mock
+    private ObjectProvider<OrderCouponRedeemer> couponRedeemerProvider;
+
+    @Mock
+    private OrderCouponRedeemer couponRedeemer;
+
+    @InjectMocks
+    private OrderSagaOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Nested
+    @DisplayName("compensate")
+    class Compensate {
+
+        @Test
+        @DisplayName("기록된 단계를 실행 역순(쿠폰 -> 재고 -> 주문)으로 한 트랜잭션에서 보상한다")
+        void compensatesInReverseOrderInOneTransaction() {
+            given(orderSagaService.beginCompensation(SAGA_ID)).willReturn(true);
+            given(orderSagaService.getSaga(SAGA_ID)).willReturn(saga());
+            given(orderSagaService.getExecutedSteps(SAGA_ID)).willReturn(
+                List.of(OrderSagaStep.RESERVE_STOCK, OrderSagaStep.CREATE_ORDER, OrderSagaStep.APPLY_COUPON));
+            given(orderSagaService.markStepCompensated(eq(SAGA_ID), any())).willReturn(true);
+            given(couponRedeemerProvider.getObject()).willReturn(couponRedeemer);
+            given(orderService.releaseReservations(ORDER_ID)).willReturn(Map.of(5L, 2L));
+            given(orderService.releaseConfirmedReservations(ORDER_ID)).willReturn(Map.of(6L, 1L));
+
+            orchestrator.compensate(SAGA_ID);
+
+            InOrder inOrder = inOrder(couponRedeemer, orderService, productService, orderSagaService);
+            inOrder.verify(couponRedeemer).restore(USER_ID, USER_COUPON_ID, ORDER_ID);
+            inOrder.verify(orderService).releaseReservations(ORDER_ID);
+            inOrder.verify(productService).increaseStocks(Map.of(5L, 2L, 6L, 1L));
+            inOrder.verify(orderService).deleteOrder(ORDER_ID);
+            inOrder.verify(orderSagaService).finishCompensation(SAGA_ID);
+            verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        }
+
+        @Test
+        @DisplayName("이미 보상된 단계는 다시 보상하지 않는다")
+        void skipsAlreadyCompensatedSteps() {
+            given(orderSagaService.beginCompensation(SAGA_ID)).willReturn(true);
+            given(orderSagaService.getSaga(SAGA_ID)).willReturn(saga());
+            given(orderSagaService.getExecutedSteps(SAGA_ID)).willReturn(
+                List.of(OrderSagaStep.CREATE_ORDER, OrderSagaStep.RESERVE_STOCK));
+            given(orderSagaService.markStepCompensated(SAGA_ID, OrderSagaStep.RESERVE_STOCK)).willReturn(false);
+            given(orderSagaService.markStepCompensated(SAGA_ID, OrderSagaStep.CREATE_ORDER)).willReturn(true);
+
+            orchestrator.compensate(SAGA_ID);
+
+            verify(orderService, never()).releaseReservations(any());
+            verify(productService, never()).increaseStocks(anyMap());
+            verify(orderService).deleteOrder(ORDER_ID);
+        }
+
+        @Test
+        @DisplayName("보상이 시작되지 않는 사가(완료/보상 완료)는 아무것도 하지 않는다")
+        void skipsFinishedSaga() {
+            given(orderSagaService.beginCompensation(SAGA_ID)).willReturn(false);
+
+            orchestrator.compensate(SAGA_ID);
+
+            verify(orderSagaService, never()).getExecutedSteps(any());
+            verify(transactionTemplate, never()).executeWithoutResult(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("execute")
+    class Execute {
+
+        @Test
+        @DisplayName("재고 선점 전에 주문이 확정되면 재고를 차감하지 않고 주문 생성만 보상한다")
+        void compensatesWhenOrderChangedBeforeReservation() {
+            OrderCommand command = new OrderCommand(USER_ID, null, List.of(new OrderCommand.OrderProduct(5L, 2L)));
+            given(orderSagaService.start(eq(USER_ID), isNull(), any(LocalDateTime.class)))
+                .willReturn(OrderSagaEntity.builder().id(SAGA_ID).userId(USER_ID).build());
+            given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+            given(productLockManager.executeWithLocks(anyCollection(), any())).willAnswer(invocation ->
+                invocation.<Supplier<Object>>getArgument(1).get());
+            given(orderService.createOrder(eq(command), anyMap())).willReturn(ORDER_ID);
+            willThrow(new BusinessException(OrderErrorCode.ORDER_STATUS_INVALID))
+                .given(orderService).reserveStock(eq(ORDER_ID), anyMap(), any(LocalDateTime.class));
+
+            given(orderSagaService.beginCompensation(SAGA_ID)).willReturn(true);
+            given(orderSagaService.getSaga(SAGA_ID)).willReturn(saga());
+            given(orderSagaService.getExecutedSteps(SAGA_ID)).willReturn(List.of(OrderSagaStep.CREATE_ORDER));
+            given(orderSagaService.markStepCompensated(SAGA_ID, OrderSagaStep.CREATE_ORDER)).willReturn(true);
+
+            assertThatThrownBy(() -> orchestrator.execute(command, Map.of(5L, 1_000L)))
+                .isInstanceOf(BusinessException.class);
+
+            verify(productService, never()).decreaseStocks(anyMap());
+            verify(orderSagaService, never()).recordStep(SAGA_ID, OrderSagaStep.RESERVE_STOCK);
+            verify(orderService).deleteOrder(ORDER_ID);
+            verify(reservationExpiryScheduler, never()).schedule(any(), any());
+        }
+    }
+
+    private OrderSagaEntity saga() {
+        return OrderSagaEntity.builder()
+            .id(SAGA_ID)
+            .userId(USER_ID)
+            .orderId(ORDER_ID)
+            .userCouponId(USER_COUPON_ID)
+            .reservationExpiresAt(LocalDateTime.now())
+            .build();
+    }
+}
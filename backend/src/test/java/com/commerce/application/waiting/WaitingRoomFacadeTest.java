@@ -0,0 +1,91 @@
+package com.commerce.application.waiting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.waiting.AdmissionToken;
+import com.commerce.domain.waiting.WaitingRoomRepository;
+import com.commerce.domain.waiting.WaitingRoomService;
+import com.commerce.domain.waiting.exception.WaitingRoomErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomFacadeTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String TOKEN = "token";
+
+    @Mock
+    private WaitingRoomRepository waitingRoomRepository;
+
+    private WaitingRoomFacade waitingRoomFacade;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomFacade = new WaitingRoomFacade(new WaitingRoomService(waitingRoomRepository));
+        ReflectionTestUtils.setField(waitingRoomFacade, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("세일 상품이 없는 주문은 다른 세일이 진행 중이어도 토큰 없이 통과한다")
+    void ordersWithoutSaleProductsSkipAdmission() {
+        given(waitingRoomRepository.findSaleIds(List.of(1L))).willReturn(Set.of());
+
+        String result = waitingRoomFacade.runWithAdmission(null, USER_ID, List.of(1L), () -> "ordered");
+
+        assertThat(result).isEqualTo("ordered");
+        then(waitingRoomRepository).should(never()).holdToken(any());
+    }
+
+    @Test
+    @DisplayName("세일 상품 주문은 토큰이 없으면 거절한다")
+    void saleProductsRequireToken() {
+        given(waitingRoomRepository.findSaleIds(List.of(1L, 2L))).willReturn(Set.of("sale-a"));
+
+        assertThatThrownBy(() -> waitingRoomFacade.runWithAdmission(null, USER_ID, List.of(1L, 2L), () -> "ordered"))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("baseResponseCode", WaitingRoomErrorCode.ADMISSION_TOKEN_REQUIRED);
+    }
+
+    @Test
+    @DisplayName("다른 세일의 토큰으로는 주문할 수 없고 토큰은 되돌린다")
+    void rejectsTokenOfAnotherSale() {
+        AdmissionToken admission = new AdmissionToken(TOKEN, "sale-b", USER_ID);
+        given(waitingRoomRepository.findSaleIds(List.of(1L))).willReturn(Set.of("sale-a"));
+        given(waitingRoomRepository.holdToken(TOKEN)).willReturn(Optional.of(admission));
+
+        assertThatThrownBy(() -> waitingRoomFacade.runWithAdmission(TOKEN, USER_ID, List.of(1L), () -> "ordered"))
+            .isInstanceOf(BusinessException.class);
+        then(waitingRoomRepository).should().releaseToken(admission);
+    }
+
+    @Test
+    @DisplayName("주문이 성공하면 토큰을 소진하고, 실패하면 되돌린다")
+    void completesTokenByOrderResult() {
+        AdmissionToken admission = new AdmissionToken(TOKEN, "sale-a", USER_ID);
+        given(waitingRoomRepository.findSaleIds(List.of(1L))).willReturn(Set.of("sale-a"));
+        given(waitingRoomRepository.holdToken(TOKEN)).willReturn(Optional.of(admission));
+
+        waitingRoomFacade.runWithAdmission(TOKEN, USER_ID, List.of(1L), () -> "ordered");
+        then(waitingRoomRepository).should().consumeToken(admission);
+
+        assertThatThrownBy(() -> waitingRoomFacade.runWithAdmission(TOKEN, USER_ID, List.of(1L), () -> {
+            throw new IllegalStateException("재고 부족");
+        })).isInstanceOf(IllegalStateException.class);
+        then(waitingRoomRepository).should().releaseToken(admission);
+    }
+}
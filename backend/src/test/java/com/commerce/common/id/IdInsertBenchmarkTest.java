@@ -0,0 +1,168 @@
+package com.commerce.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 주문 상품 INSERT 처리량 비교 (IDENTITY 단건 INSERT vs 애플리케이션 발급 ID 배치 INSERT)
+ *
+ * - 변경 전: AUTO_INCREMENT 키라 Hibernate 가 행마다 INSERT 후 생성 키를 읽는다 (배치 불가).
+ * - 변경 후: {@link SnowflakeIdGenerator} 로 ID를 미리 정해 batch_size(100) 단위로 묶고,
+ *   rewriteBatchedStatements 로 다중 행 INSERT 한 번에 보낸다.
+ *
+ * MySQL 이 필요하므로 BENCHMARK_JDBC_URL 이 있을 때만 실행한다.
+ * BENCHMARK_JDBC_URL=jdbc:mysql://localhost:3306/commerce BENCHMARK_JDBC_USER=commerce_user \
+ * BENCHMARK_JDBC_PASSWORD=commerce_password ./gradlew test --tests '*IdInsertBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_JDBC_URL", matches = ".+")
+class IdInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdInsertBenchmarkTest.class);
+
+    private static final int ORDERS = 2_000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int BATCH_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final String IDENTITY_TABLE = "bench_order_items_identity";
+    private static final String ASSIGNED_TABLE = "bench_order_items_assigned";
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+        if (!url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        connection = DriverManager.getConnection(url,
+            System.getenv("BENCHMARK_JDBC_USER"), System.getenv("BENCHMARK_JDBC_PASSWORD"));
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+            statement.execute("DROP TABLE IF EXISTS " + ASSIGNED_TABLE);
+            statement.execute("CREATE TABLE " + IDENTITY_TABLE + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "order_id BIGINT NOT NULL, product_id BIGINT NOT NULL, quantity BIGINT NOT NULL, price BIGINT NOT NULL)");
+            statement.execute("CREATE TABLE " + ASSIGNED_TABLE + " (id BIGINT PRIMARY KEY, "
+                + "order_id BIGINT NOT NULL, product_id BIGINT NOT NULL, quantity BIGINT NOT NULL, price BIGINT NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + IDENTITY_TABLE);
+            statement.execute("DROP TABLE IF EXISTS " + ASSIGNED_TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("애플리케이션 발급 ID 배치 INSERT 와 IDENTITY 단건 INSERT 처리량 비교")
+    void compareInsertThroughput() throws SQLException {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(0);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            insertWithIdentity();
+            insertWithAssignedIds(generator);
+        }
+
+        long identityNanos = 0;
+        long assignedNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            identityNanos += insertWithIdentity();
+            assignedNanos += insertWithAssignedIds(generator);
+        }
+
+        long rows = (long) ORDERS * ITEMS_PER_ORDER * MEASURED_ROUNDS;
+        double identityRowsPerSecond = rows / (identityNanos / 1_000_000_000.0);
+        double assignedRowsPerSecond = rows / (assignedNanos / 1_000_000_000.0);
+        log.info("IDENTITY 단건 INSERT : {} rows/s", String.format("%,.0f", identityRowsPerSecond));
+        log.info("발급 ID 배치 INSERT  : {} rows/s ({}x)", String.format("%,.0f", assignedRowsPerSecond),
+            String.format("%.1f", assignedRowsPerSecond / identityRowsPerSecond));
+
+        long expected = (long) ORDERS * ITEMS_PER_ORDER * (WARMUP_ROUNDS + MEASURED_ROUNDS);
+        assertThat(count(IDENTITY_TABLE)).isEqualTo(expected);
+        assertThat(count(ASSIGNED_TABLE)).isEqualTo(expected);
+    }
+
+    // 변경 전 Hibernate IDENTITY 동작: 행마다 INSERT 하고 생성 키를 읽는다
+    private long insertWithIdentity() throws SQLException {
+        long startedAt = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO " + IDENTITY_TABLE + " (order_id, product_id, quantity, price) VALUES (?, ?, ?, ?)",
+            Statement.RETURN_GENERATED_KEYS)) {
+            for (int order = 0; order < ORDERS; order++) {
+                for (int item = 0; item < ITEMS_PER_ORDER; item++) {
+                    bind(statement, 1, order, item);
+                    statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+                connection.commit();
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    // 변경 후: ID를 미리 발급하고 batch_size 단위로 묶어 보낸다
+    private long insertWithAssignedIds(SnowflakeIdGenerator generator) throws SQLException {
+        long startedAt = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO " + ASSIGNED_TABLE + " (id, order_id, product_id, quantity, price) VALUES (?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (int order = 0; order < ORDERS; order++) {
+                for (int item = 0; item < ITEMS_PER_ORDER; item++) {
+                    statement.setLong(1, generator.nextId());
+                    bind(statement, 2, order, item);
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+                connection.commit();
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private void bind(PreparedStatement statement, int from, int order, int item) throws SQLException {
+        statement.setLong(from, order);
+        statement.setLong(from + 1, item + 1L);
+        statement.setLong(from + 2, 1L);
+        statement.setLong(from + 3, 10_000L);
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.commerce.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_SECONDS = 1_735_689_600L;
+
+    @Test
+    @DisplayName("한 스레드에서 발급한 ID는 항상 증가한다")
+    void idsAreMonotonic() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(1);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 50_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 겹치지 않는다")
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(2);
+        int threads = 8;
+        int perThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("초당 시퀀스를 모두 써도 다음 초를 앞당겨 쓰지 않는다")
+    void doesNotBorrowFutureSeconds() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(3);
+        int shift = SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS;
+
+        long previous = 0;
+        for (int i = 0; i < 40_000; i++) {
+            long id = generator.nextId();
+            long nowSeconds = System.currentTimeMillis() / 1000 - EPOCH_SECONDS;
+            assertThat(id >>> shift).isLessThanOrEqualTo(nowSeconds);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("기동한 초에는 발급하지 않아 직전 프로세스의 같은 초 ID와 겹치지 않는다")
+    void startsFromNextSecond() {
+        long startedSeconds = System.currentTimeMillis() / 1000 - EPOCH_SECONDS;
+        long id = SnowflakeIdGenerator.forNode(4).nextId();
+
+        assertThat(id >>> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS))
+            .isGreaterThan(startedSeconds);
+    }
+
+    @Test
+    @DisplayName("테이블별 발급기는 서로 독립적으로 시퀀스를 쓴다")
+    void generatorsArePerTable() {
+        assertThat(SnowflakeIdGenerator.forTable(5, "orders"))
+            .isSameAs(SnowflakeIdGenerator.forTable(5, "orders"))
+            .isNotSameAs(SnowflakeIdGenerator.forTable(5, "order_items"));
+    }
+
+    @Test
+    @DisplayName("노드 ID가 ID에 들어가고 53비트를 넘지 않는다")
+    void encodesNodeIdWithin53Bits() {
+        long id = SnowflakeIdGenerator.forNode(SnowflakeIdGenerator.MAX_NODE_ID).nextId();
+
+        long nodeId = (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID;
+        assertThat(nodeId).isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거절한다")
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> SnowflakeIdGenerator.forNode(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
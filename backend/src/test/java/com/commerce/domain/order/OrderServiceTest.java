@@ -0,0 +1,132 @@
+package com.commerce.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.commerce.common.exception.BusinessException;
+import com.commerce.domain.order.event.OrderStatusChangedEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Mock
+    private OrderExportRepository orderExportRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @Nested
+    @DisplayName("releaseOrders")
+    class ReleaseOrders {
+
+        @Test
+        @DisplayName("선점 기록이 없는 결제 대기 주문은 재고를 복원하지 않고 취소만 한다")
+        void cancelsUnreservedOrderWithoutRestoring() {
+            given(stockReservationRepository.findReservedByOrderIdsForUpdate(List.of(1L))).willReturn(List.of());
+            given(orderRepository.findPendingOrderIdsForUpdate(List.of(1L))).willReturn(List.of(1L));
+
+            Map<Long, Long> restored = orderService.releaseOrders(List.of(1L));
+
+            assertThat(restored).isEmpty();
+            verify(orderRepository, never()).findItemsByOrderIds(anyCollection());
+            verify(orderRepository).cancelPendingOrders(List.of(1L));
+            verify(eventPublisher).publishEvent(new OrderStatusChangedEvent(List.of(1L), OrderStatus.CANCELLED));
+        }
+
+        @Test
+        @DisplayName("선점 기록이 있는 주문은 선점 수량만큼 복원하고 선점을 해제한다")
+        void restoresReservedQuantities() {
+            given(stockReservationRepository.findReservedByOrderIdsForUpdate(List.of(1L, 2L))).willReturn(List.of(
+                reservation(10L, 1L, 100L, 2L),
+                reservation(11L, 1L, 200L, 1L)));
+            given(orderRepository.findPendingOrderIdsForUpdate(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+
+            Map<Long, Long> restored = orderService.releaseOrders(List.of(1L, 2L));
+
+            // 2번 주문은 선점 기록이 없으므로 복원 대상이 아니다
+            assertThat(restored).containsExactlyEntriesOf(Map.of(100L, 2L, 200L, 1L));
+            verify(stockReservationRepository).updateStatus(List.of(10L, 11L), ReservationStatus.RELEASED);
+            verify(orderRepository, never()).findItemsByOrderIds(anyCollection());
+            verify(orderRepository).cancelPendingOrders(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("이미 처리된 주문은 복원/취소/이벤트 없이 지나간다")
+        void skipsAlreadyReleasedOrders() {
+            given(stockReservationRepository.findReservedByOrderIdsForUpdate(List.of(1L))).willReturn(List.of());
+            given(orderRepository.findPendingOrderIdsForUpdate(List.of(1L))).willReturn(List.of());
+
+            Map<Long, Long> restored = orderService.releaseOrders(List.of(1L));
+
+            assertThat(restored).isEmpty();
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("reserveStock")
+    class ReserveStock {
+
+        @Test
+        @DisplayName("결제 대기 주문이면 상품 ID 순으로 선점을 기록한다")
+        void reservesPendingOrder() {
+            given(orderRepository.findPendingOrderIdsForUpdate(List.of(1L))).willReturn(List.of(1L));
+
+            orderService.reserveStock(1L, Map.of(200L, 1L, 100L, 2L), LocalDateTime.now());
+
+            verify(stockReservationRepository).saveAll(argThat(reservations ->
+                reservations.stream().map(StockReservationEntity::getProductId).toList().equals(List.of(100L, 200L))));
+        }
+
+        @Test
+        @DisplayName("그 사이 확정/취소된 주문에는 선점을 붙이지 않는다")
+        void rejectsNonPendingOrder() {
+            given(orderRepository.findPendingOrderIdsForUpdate(List.of(1L))).willReturn(List.of());
+
+            assertThatThrownBy(() -> orderService.reserveStock(1L, Map.of(100L, 2L), LocalDateTime.now()))
+                .isInstanceOf(BusinessException.class);
+            verify(stockReservationRepository, never()).saveAll(anyList());
+        }
+    }
+
+    private StockReservationEntity reservation(Long id, Long orderId, Long productId, Long quantity) {
+        return StockReservationEntity.builder()
+            .id(id)
+            .orderId(orderId)
+            .productId(productId)
+            .quantity(quantity)
+            .status(ReservationStatus.RESERVED)
+            .expiresAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.commerce.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OrderStatusTest {
+
+    @ParameterizedTest(name = "{0} -> {1} : {2}")
+    @DisplayName("주문 상태 전이 규칙 (현재 상태 x 다음 상태 전체)")
+    @CsvSource({
+        "PENDING,   PENDING,   false",
+        "PENDING,   CONFIRMED, true",
+        "PENDING,   SHIPPED,   false",
+        "PENDING,   DELIVERED, false",
+        "PENDING,   CANCELLED, true",
+
+        "CONFIRMED, PENDING,   false",
+        "CONFIRMED, CONFIRMED, false",
+        "CONFIRMED, SHIPPED,   true",
+        "CONFIRMED, DELIVERED, false",
+        "CONFIRMED, CANCELLED, true",
+
+        "SHIPPED,   PENDING,   false",
+        "SHIPPED,   CONFIRMED, false",
+        "SHIPPED,   SHIPPED,   false",
+        "SHIPPED,   DELIVERED, true",
+        "SHIPPED,   CANCELLED, false",
+
+        "DELIVERED, PENDING,   false",
+        "DELIVERED, CONFIRMED, false",
+        "DELIVERED, SHIPPED,   false",
+        "DELIVERED, DELIVERED, false",
+        "DELIVERED, CANCELLED, false",
+
+        "CANCELLED, PENDING,   false",
+        "CANCELLED, CONFIRMED, false",
+        "CANCELLED, SHIPPED,   false",
+        "CANCELLED, DELIVERED, false",
+        "CANCELLED, CANCELLED, false"
+    })
+    void canTransitionTo(OrderStatus current, OrderStatus next, boolean allowed) {
+        assertThat(current.canTransitionTo(next)).isEqualTo(allowed);
+    }
+}
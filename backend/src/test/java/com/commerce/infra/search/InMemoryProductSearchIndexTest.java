@@ -0,0 +1,132 @@
+package com.commerce.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.commerce.domain.product.ProductSearchHits;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class InMemoryProductSearchIndexTest {
+
+    private InMemoryProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryProductSearchIndex(mock(JdbcTemplate.class));
+    }
+
+    @Nested
+    @DisplayName("BM25 정렬")
+    class Scoring {
+
+        @Test
+        @DisplayName("상품명 일치는 가중치를 더 받아 설명 일치보다 앞선다")
+        void nameMatchOutranksDescriptionMatch() {
+            index.index(1L, "마우스", "키보드 호환");
+            index.index(2L, "키보드", null);
+
+            assertThat(index.search("키보드", 0, 10).productIds()).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("빈도가 같으면 짧은 문서가 앞선다 (문서 길이 정규화)")
+        void shorterDocumentOutranksLongerOne() {
+            index.index(1L, "키보드 스탠드 거치대 받침", null);
+            index.index(2L, "키보드", null);
+
+            assertThat(index.search("키보드", 0, 10).productIds()).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("점수가 같으면 상품 ID 오름차순")
+        void tieBrokenByProductId() {
+            index.index(5L, "무선 키보드", null);
+            index.index(3L, "무선 키보드", null);
+
+            assertThat(index.search("키보드", 0, 10).productIds()).containsExactly(3L, 5L);
+        }
+
+        @Test
+        @DisplayName("검색어의 모든 term 을 포함한 문서만 찾는다")
+        void requiresEveryQueryTerm() {
+            index.index(1L, "무선 키보드", null);
+            index.index(2L, "유선 키보드", null);
+            index.index(3L, "무선 마우스", null);
+
+            ProductSearchHits hits = index.search("무선 키보드", 0, 10);
+
+            assertThat(hits.total()).isEqualTo(1);
+            assertThat(hits.productIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("offset/limit 로 자르고 전체 일치 수는 그대로 센다")
+        void pagesRankedHits() {
+            LongStream.rangeClosed(1, 5).forEach(id -> index.index(id, "무선 키보드", null));
+
+            ProductSearchHits hits = index.search("키보드", 2, 2);
+
+            assertThat(hits.total()).isEqualTo(5);
+            assertThat(hits.productIds()).containsExactly(3L, 4L);
+        }
+    }
+
+    @Nested
+    @DisplayName("삭제 표시와 압축")
+    class Compaction {
+
+        @Test
+        @DisplayName("다시 색인한 문서는 이전 내용으로 찾지 못한다")
+        void reindexReplacesPreviousTerms() {
+            index.index(1L, "빨간 사과", null);
+            index.index(1L, "파란 사과", null);
+
+            assertThat(index.search("빨간", 0, 10).total()).isZero();
+            assertThat(index.search("사과", 0, 10).productIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("삭제가 쌓여 압축된 뒤에도 남은 문서와 새로 색인한 문서를 정확히 찾는다")
+        void keepsResultsAcrossCompaction() {
+            // 1,025 건째 삭제에서 압축되고, 이후 25 건은 다시 삭제 표시로 남는다
+            LongStream.rangeClosed(1000, 2099).forEach(id -> index.index(id, "상품 " + id, null));
+            LongStream.rangeClosed(1000, 2049).forEach(index::remove);
+
+            ProductSearchHits remaining = index.search("상품", 0, 100);
+            assertThat(remaining.total()).isEqualTo(50);
+            assertThat(remaining.productIds()).isEqualTo(LongStream.rangeClosed(2050, 2099).boxed().toList());
+            assertThat(index.search("2075", 0, 10).productIds()).containsExactly(2075L);
+            assertThat(index.search("1010", 0, 10).total()).isZero();
+
+            index.index(1007L, "상품 재입고", null);
+            assertThat(index.search("재입고", 0, 10).productIds()).containsExactly(1007L);
+            assertThat(index.search("상품", 0, 100).total()).isEqualTo(51);
+        }
+
+        @Test
+        @DisplayName("삭제 표시가 남은 문서가 많아도 점수 순서가 뒤집히지 않는다")
+        void keepsRankingWithManyTombstones() {
+            LongStream.rangeClosed(1, 10).forEach(id -> index.index(id, "키보드", null));
+            LongStream.rangeClosed(1, 8).forEach(index::remove);
+            index.index(20L, "키보드", null);
+            index.index(21L, "마우스", "키보드 호환");
+
+            assertThat(index.search("키보드", 0, 10).productIds()).containsExactly(9L, 10L, 20L, 21L);
+        }
+
+        @Test
+        @DisplayName("모든 문서를 지우면 아무것도 찾지 못한다")
+        void findsNothingAfterRemovingEverything() {
+            List.of(1L, 2L, 3L).forEach(id -> index.index(id, "무선 키보드", null));
+            List.of(1L, 2L, 3L).forEach(index::remove);
+
+            assertThat(index.search("키보드", 0, 10)).isEqualTo(ProductSearchHits.empty());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.commerce.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+    @Test
+    @DisplayName("접두어별로 대상 번호가 작은 순서(순위 순)로 중복 없이 돌려준다")
+    void returnsTopTargetsInRankOrder() {
+        PrefixTrie trie = PrefixTrie.build(
+            new String[]{"무선키보드", "무선마우스", "무선이어폰", "유선키보드", "무선키보드"},
+            new int[]{3, 1, 4, 0, 2},
+            2);
+
+        // "무선" 아래 키는 4 개라 노드에서, "무선키" 아래는 2 개라 키 구간에서 구한다
+        assertThat(trie.lookup("무선", 10)).containsExactly(1, 2);
+        assertThat(trie.lookup("무선키", 10)).containsExactly(2, 3);
+        assertThat(trie.lookup("", 1)).containsExactly(0);
+        assertThat(trie.lookup("블루투스", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 대상의 여러 키가 일치해도 한 번만 센다")
+    void countsTargetOnce() {
+        PrefixTrie trie = PrefixTrie.build(
+            new String[]{"ab", "abc", "abd", "abe"},
+            new int[]{5, 5, 5, 7},
+            3);
+
+        assertThat(trie.lookup("ab", 3)).containsExactly(5, 7);
+    }
+
+    @Test
+    @DisplayName("임의의 키/순위에서 모든 접두어 결과가 전체 탐색 결과와 같다")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        String alphabet = "abc가나";
+
+        for (int round = 0; round < 200; round++) {
+            int size = random.nextInt(300);
+            int topK = 1 + random.nextInt(8);
+            String[] keys = new String[size];
+            int[] targets = new int[size];
+            for (int i = 0; i < size; i++) {
+                StringBuilder key = new StringBuilder();
+                int length = random.nextInt(6);
+                for (int j = 0; j < length; j++) {
+                    key.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                keys[i] = key.toString();
+                targets[i] = random.nextInt(Math.max(1, size / 2));
+            }
+            PrefixTrie trie = PrefixTrie.build(keys, targets, topK);
+
+            Set<String> prefixes = new HashSet<>(Set.of("", "zz"));
+            for (String key : keys) {
+                for (int end = 0; end <= key.length(); end++) {
+                    prefixes.add(key.substring(0, end));
+                }
+            }
+            for (String prefix : prefixes) {
+                for (int limit = 1; limit <= topK + 1; limit++) {
+                    assertThat(trie.lookup(prefix, limit))
+                        .as("prefix=%s, limit=%d, topK=%d", prefix, limit, topK)
+                        .containsExactly(bruteForce(keys, targets, prefix, Math.min(limit, topK)));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("빈 trie 는 아무것도 돌려주지 않는다")
+    void emptyTrie() {
+        assertThat(PrefixTrie.EMPTY.lookup("a", 5)).isEmpty();
+    }
+
+    private static int[] bruteForce(String[] keys, int[] targets, String prefix, int count) {
+        TreeSet<Integer> matched = new TreeSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].startsWith(prefix)) {
+                matched.add(targets[i]);
+            }
+        }
+        return matched.stream().limit(count).mapToInt(Integer::intValue).toArray();
+    }
+}
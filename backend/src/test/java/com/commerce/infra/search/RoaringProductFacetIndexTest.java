@@ -0,0 +1,149 @@
+package com.commerce.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.commerce.domain.product.PriceBucket;
+import com.commerce.domain.product.ProductFacetQuery;
+import com.commerce.domain.product.ProductFacetResult;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class RoaringProductFacetIndexTest {
+
+    private static final ProductFacetQuery ALL = new ProductFacetQuery(null, null, null);
+
+    private RoaringProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoaringProductFacetIndex(mock(JdbcTemplate.class));
+    }
+
+    @Nested
+    @DisplayName("필터별 건수")
+    class Counts {
+
+        @BeforeEach
+        void setUp() {
+            index.index(1L, 10L, 5_000L, true);
+            index.index(2L, 10L, 20_000L, false);
+            index.index(3L, 20L, 5_000L, true);
+            index.index(4L, 20L, 60_000L, true);
+        }
+
+        @Test
+        @DisplayName("각 필터의 건수는 그 필터를 뺀 나머지 조건으로 센다")
+        void countsExcludeTheirOwnFacet() {
+            ProductFacetResult result = index.query(
+                new ProductFacetQuery(Set.of(10L), Set.of(PriceBucket.UNDER_10K), null), 0, 10);
+
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.productIds()).containsExactly(1L);
+            // 카테고리 건수: 가격대 조건만 적용
+            assertThat(result.categoryCounts()).isEqualTo(Map.of(10L, 1L, 20L, 1L));
+            // 가격대 건수: 카테고리 조건만 적용
+            assertThat(result.priceBucketCounts())
+                .containsEntry(PriceBucket.UNDER_10K, 1L)
+                .containsEntry(PriceBucket.FROM_10K_TO_30K, 1L)
+                .containsEntry(PriceBucket.FROM_50K_TO_100K, 0L);
+            assertThat(result.inStockCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재고 유무 건수는 재고 조건을 빼고 센다")
+        void inStockCountExcludesStockFilter() {
+            ProductFacetResult result = index.query(new ProductFacetQuery(Set.of(10L), null, false), 0, 10);
+
+            assertThat(result.productIds()).containsExactly(2L);
+            assertThat(result.inStockCount()).isEqualTo(1);
+            // 카테고리 건수: 재고 없음 조건만 적용 (0 건인 카테고리는 빠진다)
+            assertThat(result.categoryCounts()).isEqualTo(Map.of(10L, 1L));
+        }
+
+        @Test
+        @DisplayName("같은 필터의 값은 OR, 필터끼리는 AND")
+        void orWithinFacetAndAcrossFacets() {
+            ProductFacetResult result = index.query(new ProductFacetQuery(
+                Set.of(10L, 20L), Set.of(PriceBucket.UNDER_10K, PriceBucket.FROM_50K_TO_100K), true), 0, 10);
+
+            assertThat(result.productIds()).containsExactly(4L, 3L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("페이지")
+    class Paging {
+
+        @Test
+        @DisplayName("색인 순서의 역순(최신순)으로 offset 만큼 건너뛰고 limit 만큼 자른다")
+        void pagesInReverseOrder() {
+            LongStream.rangeClosed(1, 5).forEach(id -> index.index(id, 10L, 1_000L, true));
+
+            assertThat(index.query(ALL, 0, 2).productIds()).containsExactly(5L, 4L);
+            assertThat(index.query(ALL, 1, 2).productIds()).containsExactly(4L, 3L);
+            assertThat(index.query(ALL, 4, 10).productIds()).containsExactly(1L);
+            assertThat(index.query(ALL, 10, 10).productIds()).isEmpty();
+            assertThat(index.query(ALL, 10, 10).total()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("변경")
+    class Changes {
+
+        @Test
+        @DisplayName("삭제한 상품은 결과와 건수에서 빠지고, 다시 추가하면 최신 상품으로 들어간다")
+        void removeThenReAdd() {
+            index.index(1L, 10L, 1_000L, true);
+            index.index(2L, 20L, 1_000L, true);
+            index.index(3L, 10L, 1_000L, true);
+
+            index.remove(2L);
+            ProductFacetResult removed = index.query(ALL, 0, 10);
+            assertThat(removed.productIds()).containsExactly(3L, 1L);
+            assertThat(removed.categoryCounts()).isEqualTo(Map.of(10L, 2L));
+            assertThat(removed.inStockCount()).isEqualTo(2);
+
+            index.index(2L, 30L, 40_000L, false);
+            ProductFacetResult readded = index.query(ALL, 0, 10);
+            assertThat(readded.productIds()).containsExactly(2L, 3L, 1L);
+            assertThat(readded.categoryCounts()).isEqualTo(Map.of(10L, 2L, 30L, 1L));
+            assertThat(readded.priceBucketCounts()).containsEntry(PriceBucket.FROM_30K_TO_50K, 1L);
+            assertThat(readded.inStockCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("이미 있는 상품을 다시 색인하면 순서는 그대로 두고 필터 값만 바꾼다")
+        void reindexKeepsPosition() {
+            index.index(1L, 10L, 1_000L, true);
+            index.index(2L, 10L, 1_000L, true);
+
+            index.index(1L, 20L, 200_000L, false);
+
+            ProductFacetResult result = index.query(ALL, 0, 10);
+            assertThat(result.productIds()).containsExactly(2L, 1L);
+            assertThat(result.categoryCounts()).isEqualTo(Map.of(10L, 1L, 20L, 1L));
+            assertThat(result.priceBucketCounts())
+                .containsEntry(PriceBucket.UNDER_10K, 1L)
+                .containsEntry(PriceBucket.OVER_100K, 1L);
+            assertThat(result.inStockCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("없는 상품 삭제는 무시한다")
+        void removingUnknownProductIsNoop() {
+            index.index(1L, 10L, 1_000L, true);
+
+            index.remove(99L);
+
+            assertThat(index.query(ALL, 0, 10).total()).isEqualTo(1);
+        }
+    }
+}